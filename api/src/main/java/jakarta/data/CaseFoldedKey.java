@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data;
+
+import java.util.Objects;
+
+/**
+ * <p>A string value together with its case-folded form, which is computed
+ * once, so that the value can be compared to other case-folded keys without
+ * regard to case without converting the case of either value again.</p>
+ *
+ * <p>Case-folded keys are ordered consistently with
+ * {@link String#CASE_INSENSITIVE_ORDER} for characters of the Basic
+ * Multilingual Plane, which is the ordering that is applied in memory for
+ * {@link Sort} criteria that {@linkplain Sort#ignoreCase() ignore case}.
+ * For example, a list of entities can be sorted without regard to case by
+ * computing a key for each entity once, rather than for each comparison:</p>
+ *
+ * <pre>
+ * employees.sort(Comparator.comparing(e -&gt; CaseFoldedKey.of(e.lastName())));
+ * </pre>
+ *
+ * <p>which is done automatically by {@link Order#sort(java.util.List, java.util.function.Function)}.
+ * An accessor that is supplied to {@link Order#comparator(java.util.function.Function)}
+ * may also return a precomputed case-folded key for an attribute that is
+ * sorted without regard to case.</p>
+ *
+ * <p>Two keys are equal if their case-folded forms are equal.</p>
+ */
+public final class CaseFoldedKey implements Comparable<CaseFoldedKey> {
+    private final String value;
+    private final String folded;
+
+    private CaseFoldedKey(String value, String folded) {
+        this.value = value;
+        this.folded = folded;
+    }
+
+    /**
+     * Computes the case-folded key of a string value.
+     *
+     * @param value the value.
+     * @return the case-folded key. Never {@code null}.
+     * @throws NullPointerException if the value is {@code null}.
+     */
+    public static CaseFoldedKey of(String value) {
+        Objects.requireNonNull(value, "value is required");
+        return new CaseFoldedKey(value, fold(value));
+    }
+
+    /**
+     * <p>Compares two values of a sort attribute in the way that the
+     * {@linkplain Order#comparator(java.util.function.Function) comparators}
+     * of {@link Order} and the cursor ranges of
+     * {@link jakarta.data.page.CursorRange} do. A {@code null} value precedes
+     * all other values. If the comparison ignores case, strings and
+     * case-folded keys are compared without regard to case. Other values are
+     * compared by their natural ordering.</p>
+     *
+     * @param value1     the first value, or {@code null}.
+     * @param value2     the second value, or {@code null}.
+     * @param ignoreCase whether strings are compared without regard to case.
+     * @return a negative integer, zero, or a positive integer as the first
+     *         value is less than, equal to, or greater than the second value.
+     * @throws IllegalArgumentException if the values are not comparable.
+     */
+    public static int compare(Object value1, Object value2, boolean ignoreCase) {
+        if (value1 == value2) {
+            return 0;
+        } else if (value1 == null) {
+            return -1;
+        } else if (value2 == null) {
+            return 1;
+        } else if (ignoreCase && value1 instanceof String s1 && value2 instanceof String s2) {
+            return String.CASE_INSENSITIVE_ORDER.compare(s1, s2);
+        } else if (ignoreCase && value1 instanceof CaseFoldedKey k1) {
+            return k1.compareTo(value2 instanceof String s2 ? of(s2) : (CaseFoldedKey) value2);
+        } else if (ignoreCase && value2 instanceof CaseFoldedKey k2 && value1 instanceof String s1) {
+            return of(s1).compareTo(k2);
+        } else if (value1 instanceof Comparable<?> c1) {
+            @SuppressWarnings("unchecked")
+            Comparable<Object> comparable = (Comparable<Object>) c1;
+            return comparable.compareTo(value2);
+        }
+        throw new IllegalArgumentException("Values of type " + value1.getClass().getName() +
+                " are not comparable.");
+    }
+
+    /**
+     * Folds the case of each character, as {@link String#CASE_INSENSITIVE_ORDER}
+     * does on each comparison, by converting it to upper case and then to
+     * lower case.
+     */
+    private static String fold(String value) {
+        int length = value.length();
+        int i = 0;
+        while (i < length && fold(value.charAt(i)) == value.charAt(i)) {
+            i++;
+        }
+        if (i == length) {
+            return value;
+        }
+        char[] chars = value.toCharArray();
+        for (; i < length; i++) {
+            chars[i] = fold(chars[i]);
+        }
+        return new String(chars);
+    }
+
+    private static char fold(char c) {
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+
+    /**
+     * The original value.
+     *
+     * @return the value from which the key was computed.
+     */
+    public String value() {
+        return value;
+    }
+
+    /**
+     * The case-folded form of the value.
+     *
+     * @return the case-folded value.
+     */
+    public String folded() {
+        return folded;
+    }
+
+    /**
+     * Compares the case-folded forms of this key and another key.
+     *
+     * @param other the other key.
+     * @return a negative integer, zero, or a positive integer as this key
+     *         is less than, equal to, or greater than the other key.
+     */
+    @Override
+    public int compareTo(CaseFoldedKey other) {
+        return folded.compareTo(other.folded);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof CaseFoldedKey that && folded.equals(that.folded);
+    }
+
+    @Override
+    public int hashCode() {
+        return folded.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+}
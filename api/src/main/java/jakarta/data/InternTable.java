@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * <p>A bounded table of canonical instances of an immutable value type.
+ * Once the table is full, values that are not already in the table are
+ * no longer added to it and are their own canonical instance.</p>
+ *
+ * <p>Tables are held in static fields of the API, which can outlive the
+ * applications that intern values. Values must therefore not refer to
+ * application classes or to state that is derived from them, such as
+ * compiled comparators.</p>
+ *
+ * @param <T> the type of values.
+ */
+final class InternTable<T> {
+    private final ConcurrentMap<T, T> table = new ConcurrentHashMap<>();
+    private final int maxSize;
+
+    InternTable(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the canonical instance that is equal to the value, if any,
+     * without adding the value to the table.
+     *
+     * @param value the value.
+     * @return the canonical instance, or {@code null} if there is none.
+     */
+    T lookup(T value) {
+        return table.get(value);
+    }
+
+    /**
+     * Returns the canonical instance that is equal to the value.
+     *
+     * @param value the value.
+     * @return the canonical instance, which is the value itself if the table
+     *         had no equal value and the value was added or the table is full.
+     */
+    T intern(T value) {
+        T canonical = table.get(value);
+        if (canonical == null) {
+            if (table.size() >= maxSize) {
+                return value;
+            }
+            canonical = table.putIfAbsent(value, value);
+            if (canonical == null) {
+                canonical = value;
+            }
+        }
+        return canonical;
+    }
+}
@@ -19,6 +19,11 @@ package jakarta.data;
 
 import jakarta.data.page.PageRequest;
 
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collector;
+
 /**
  * <p>Specifies a limit on the number of results retrieved by a repository
  * method. The results of a single invocation of a repository method may
@@ -136,4 +141,43 @@ public record Limit(int maxResults, long startAt) {
 
         return new Limit((int) (endAt - startAt + 1), startAt);
     }
+
+    /**
+     * <p>Returns a collector that applies this limit to elements that are
+     * supplied in any order, for example, results that were merged from
+     * several sources, producing the elements at the positions from
+     * {@link #startAt()} up to {@code startAt() + maxResults() - 1} in the
+     * order of the supplied comparator. For example,</p>
+     *
+     * <pre>
+     * List&lt;Employee&gt; top10 = shards.stream()
+     *         .flatMap(shard -&gt; shard.findAll(Limit.of(10), order).stream())
+     *         .collect(Limit.of(10).collector(order.comparator(accessors)));
+     * </pre>
+     *
+     * <p>Rather than sorting all elements, the collector only retains the
+     * first {@code startAt() - 1 + maxResults()} elements seen so far, in a
+     * binary heap. Collecting {@code n} elements therefore takes
+     * {@code O(n log k)} time and {@code O(k)} memory, where {@code k} is the
+     * number of retained elements. The order of elements that compare as
+     * equal is unspecified.</p>
+     *
+     * @param <T>        the type of elements.
+     * @param comparator the order of the elements, typically obtained from
+     *                   {@link Order#comparator(java.util.function.Function)}.
+     * @return a collector that produces an unmodifiable list of at most
+     *         {@link #maxResults()} elements, in order. This method never
+     *         returns {@code null}.
+     * @throws NullPointerException if the comparator is {@code null}.
+     */
+    public <T> Collector<T, ?, List<T>> collector(Comparator<? super T> comparator) {
+        Objects.requireNonNull(comparator, "comparator is required");
+        long skip = startAt - 1;
+        long capacity = skip + maxResults < 0 ? Long.MAX_VALUE : skip + maxResults;
+        return Collector.of(
+                () -> new TopResults<T>(comparator, capacity),
+                TopResults::add,
+                TopResults::addAll,
+                top -> top.toList(skip));
+    }
 }
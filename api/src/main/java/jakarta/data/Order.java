@@ -17,8 +17,12 @@
  */
 package jakarta.data;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
+import java.util.function.Function;
 
 import jakarta.data.metamodel.StaticMetamodel;
 import jakarta.data.repository.OrderBy;
@@ -72,11 +76,21 @@ import jakarta.data.repository.OrderBy;
  */
 public class Order<T> implements Iterable<Sort<? super T>> {
 
+    /**
+     * Canonical instances returned by {@link #intern()}.
+     */
+    private static final InternTable<Order<?>> INTERNED = new InternTable<>(1024);
+
     /**
      * Unmodifiable list of Sort instances, from highest precedence to lowest.
      */
     private final List<Sort<? super T>> sorts;
 
+    /**
+     * Hash code of the list of Sort instances.
+     */
+    private final int hash;
+
     /**
      * Creates a new instance.
      *
@@ -84,6 +98,7 @@ public class Order<T> implements Iterable<Sort<? super T>> {
      */
     private Order(List<Sort<? super T>> sorts) {
         this.sorts = sorts;
+        this.hash = sorts.hashCode();
     }
 
     /**
@@ -122,6 +137,139 @@ public class Order<T> implements Iterable<Sort<? super T>> {
         return sorts;
     }
 
+    /**
+     * <p>Returns a comparator that orders entities in memory according to
+     * the sort criteria of this {@code Order}, for example, to merge results
+     * that were obtained from several databases, or to sort results that a
+     * database cannot sort.</p>
+     *
+     * <p>The value of each sort attribute is obtained from an entity by an
+     * accessor, which is resolved by applying the supplied function to the
+     * {@linkplain Sort#property() name of the attribute}. Accessors are
+     * resolved once, when the comparator is compiled, and are not looked up
+     * again for each comparison. For example,</p>
+     *
+     * <pre>
+     * Map&lt;String, Function&lt;Employee, ?&gt;&gt; accessors =
+     *         Map.of(_Employee.LASTNAME, Employee::lastName,
+     *                _Employee.SALARY, Employee::salary);
+     *
+     * Comparator&lt;Employee&gt; comparator = order.comparator(accessors::get);
+     * </pre>
+     *
+     * <p>Attribute values are compared by their natural ordering, honoring
+     * {@link Sort#isDescending()} and {@link Sort#ignoreCase()}. A
+     * {@code null} value precedes all other values in the direction of the
+     * sort criterion. If an accessor also implements
+     * {@link java.util.function.ToIntFunction ToIntFunction},
+     * {@link java.util.function.ToLongFunction ToLongFunction} or
+     * {@link java.util.function.ToDoubleFunction ToDoubleFunction}, primitive
+     * values are compared without boxing. The comparison is not guaranteed to
+     * match the ordering that a database applies, for example, for strings
+     * with a database collation.</p>
+     *
+     * <p>Each invocation compiles a new comparator. Callers that sort
+     * repeatedly with the same sort criteria and accessors should retain
+     * and reuse the comparator.</p>
+     *
+     * @param accessors function that returns the accessor of an entity attribute,
+     *                  given its name, or {@code null} if there is no such attribute.
+     * @return a comparator that is consistent with the sort criteria.
+     *         This method never returns {@code null}.
+     * @throws IllegalArgumentException if there is no accessor for a sort attribute.
+     * @throws NullPointerException if the function is {@code null}.
+     */
+    public Comparator<T> comparator(Function<String, ? extends Function<? super T, ?>> accessors) {
+        return OrderComparator.of(sorts, accessors);
+    }
+
+    /**
+     * <p>Sorts a list of entities in memory according to the sort criteria
+     * of this {@code Order}, such that it is ordered as by the
+     * {@linkplain #comparator(Function) comparator} for the same accessors.</p>
+     *
+     * <p>Unlike {@link List#sort(Comparator)} with the comparator, this
+     * method obtains the values of the sort attributes of each entity once,
+     * rather than for each comparison, and computes the
+     * {@linkplain CaseFoldedKey case-folded key} of each string value
+     * once for sort criteria that {@linkplain Sort#ignoreCase() ignore case}.
+     * The sort is stable.</p>
+     *
+     * @param list      the list to sort, which must be modifiable.
+     * @param accessors function that returns the accessor of an entity attribute,
+     *                  given its name, or {@code null} if there is no such attribute.
+     * @throws IllegalArgumentException if there is no accessor for a sort attribute.
+     * @throws NullPointerException if either parameter is {@code null}.
+     * @throws UnsupportedOperationException if the list is unmodifiable.
+     */
+    public void sort(List<T> list, Function<String, ? extends Function<? super T, ?>> accessors) {
+        OrderComparator.of(sorts, accessors).sort(list);
+    }
+
+    /**
+     * <p>Returns a canonical instance that is equal to this instance, such
+     * that equal instances that are interned are the same instance and can
+     * be compared by identity. The {@link Sort} criteria of a canonical
+     * instance are {@linkplain Sort#intern() interned} as well.</p>
+     *
+     * <p>A Jakarta Data provider can intern the {@code Order} that is supplied
+     * to a repository method and key its caches of compiled queries on the
+     * canonical instance, so that repeated invocations with equal sort
+     * criteria find the compiled query by identity.</p>
+     *
+     * <p>Canonical instances are retained for the life of the application,
+     * up to an implementation-defined maximum number of instances, after
+     * which instances that have not been interned already are returned
+     * as is. A canonical instance holds nothing but its sort criteria, so
+     * that retaining it does not retain classes or class loaders of the
+     * application.</p>
+     *
+     * @return the canonical instance. This method never returns {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    public Order<T> intern() {
+        Order<T> canonical = (Order<T>) INTERNED.lookup(this);
+        if (canonical == null) {
+            List<Sort<? super T>> internedSorts = new ArrayList<>(sorts.size());
+            for (Sort<? super T> sort : sorts) {
+                internedSorts.add(sort.intern());
+            }
+            canonical = (Order<T>) INTERNED.intern(new Order<T>(Collections.unmodifiableList(internedSorts)));
+        }
+        return canonical;
+    }
+
+    /**
+     * <p>Computes a compact 64-bit fingerprint of the sort criteria, which is
+     * equal for equal instances. The fingerprint is a hash of the
+     * {@linkplain Sort#property() property name}, direction and
+     * {@linkplain Sort#ignoreCase() case sensitivity} of each {@link Sort}, in
+     * order, and does not depend on the running application, such that it
+     * can be used as part of the name or key of a prepared statement or
+     * query plan.</p>
+     *
+     * <p>Unequal instances have different fingerprints with high
+     * probability, but not with certainty. A cache that is keyed on the
+     * fingerprint must verify that the sort criteria of a cached entry are
+     * {@linkplain #equals(Object) equal}.</p>
+     *
+     * @return the fingerprint.
+     */
+    public long fingerprint() {
+        // 64-bit FNV-1a
+        long fingerprint = 0xcbf29ce484222325L;
+        for (Sort<? super T> sort : sorts) {
+            String property = sort.property();
+            for (int i = 0; i < property.length(); i++) {
+                fingerprint = (fingerprint ^ property.charAt(i)) * 0x100000001b3L;
+            }
+            // a value outside of the range of char separates the criteria
+            int flags = 0x10000 | (sort.isAscending() ? 1 : 0) | (sort.ignoreCase() ? 2 : 0);
+            fingerprint = (fingerprint ^ flags) * 0x100000001b3L;
+        }
+        return fingerprint;
+    }
+
     /**
      * Determines whether this instance specifies matching {@link Sort} criteria
      * in the same order of precedence as another instance.
@@ -132,7 +280,7 @@ public class Order<T> implements Iterable<Sort<? super T>> {
     @Override
     public boolean equals(Object other) {
         return this == other
-            || other instanceof Order s && sorts.equals(s.sorts);
+            || other instanceof Order s && hash == s.hash && sorts.equals(s.sorts);
     }
 
     /**
@@ -142,7 +290,7 @@ public class Order<T> implements Iterable<Sort<? super T>> {
      */
     @Override
     public int hashCode() {
-        return sorts.hashCode();
+        return hash;
     }
 
     /**
@@ -169,4 +317,4 @@ public class Order<T> implements Iterable<Sort<? super T>> {
     public String toString() {
         return sorts.toString();
     }
-}
\ No newline at end of file
+}
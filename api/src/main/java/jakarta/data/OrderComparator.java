@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * <p>Compares entities according to the sort criteria of an {@link Order},
+ * using an accessor for the value of each sort attribute. The accessors are
+ * resolved once, when the comparator is created.</p>
+ *
+ * <p>Attribute values are compared by their natural ordering, and strings
+ * are compared without regard to case if the sort criterion requests case
+ * insensitive ordering. A {@code null} value precedes all other values in
+ * the direction of the sort criterion. If an accessor also implements
+ * {@link ToIntFunction}, {@link ToLongFunction} or {@link ToDoubleFunction},
+ * its values are compared without boxing.</p>
+ *
+ * @param <T> entity type.
+ */
+final class OrderComparator<T> implements Comparator<T> {
+    private final Function<? super T, ?>[] accessors;
+    private final boolean[] ascending;
+    private final boolean[] ignoreCase;
+    private final Comparator<T>[] comparators;
+
+    @SuppressWarnings("unchecked")
+    private OrderComparator(List<Sort<? super T>> sorts, List<Function<? super T, ?>> accessors) {
+        int size = sorts.size();
+        this.accessors = accessors.toArray((Function<? super T, ?>[]) new Function<?, ?>[0]);
+        this.ascending = new boolean[size];
+        this.ignoreCase = new boolean[size];
+        this.comparators = (Comparator<T>[]) new Comparator<?>[size];
+        for (int i = 0; i < size; i++) {
+            Sort<? super T> sort = sorts.get(i);
+            ascending[i] = sort.isAscending();
+            ignoreCase[i] = sort.ignoreCase();
+            Comparator<T> comparator = comparing(this.accessors[i], ignoreCase[i]);
+            comparators[i] = ascending[i] ? comparator : comparator.reversed();
+        }
+    }
+
+    /**
+     * Compiles a comparator for the sort criteria.
+     *
+     * @param sorts     the sort criteria.
+     * @param accessors resolves the accessor of each sort attribute.
+     * @return the comparator.
+     * @throws IllegalArgumentException if an accessor cannot be resolved.
+     */
+    static <T> OrderComparator<T> of(List<Sort<? super T>> sorts,
+                                     Function<String, ? extends Function<? super T, ?>> accessors) {
+        List<Function<? super T, ?>> resolved = new ArrayList<>(sorts.size());
+        for (Sort<? super T> sort : sorts) {
+            Function<? super T, ?> accessor = accessors.apply(sort.property());
+            if (accessor == null) {
+                throw new IllegalArgumentException("No accessor for the sort attribute " + sort.property());
+            }
+            resolved.add(accessor);
+        }
+        return new OrderComparator<>(sorts, resolved);
+    }
+
+    @Override
+    public int compare(T o1, T o2) {
+        for (Comparator<T> comparator : comparators) {
+            int comparison = comparator.compare(o1, o2);
+            if (comparison != 0) {
+                return comparison;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Sorts a list by obtaining the sort keys of each element once, rather
+     * than for each comparison. String values of sort criteria that ignore
+     * case are {@linkplain CaseFoldedKey case-folded} once per element.
+     *
+     * @param list the list to sort.
+     */
+    @SuppressWarnings({"unchecked", "PMD.AvoidInstantiatingObjectsInLoops"})
+    void sort(List<T> list) {
+        int size = list.size();
+        Keyed<T>[] keyed = (Keyed<T>[]) new Keyed<?>[size];
+        for (int e = 0; e < size; e++) {
+            T element = list.get(e);
+            Object[] keys = new Object[accessors.length];
+            for (int i = 0; i < accessors.length; i++) {
+                Object key = valueOf(accessors[i], element);
+                keys[i] = ignoreCase[i] && key instanceof String s ? CaseFoldedKey.of(s) : key;
+            }
+            keyed[e] = new Keyed<>(element, keys);
+        }
+        Arrays.sort(keyed, (k1, k2) -> {
+            for (int i = 0; i < ascending.length; i++) {
+                int comparison = CaseFoldedKey.compare(k1.keys[i], k2.keys[i], false);
+                if (comparison != 0) {
+                    return ascending[i] ? comparison : -comparison;
+                }
+            }
+            return 0;
+        });
+        for (int e = 0; e < size; e++) {
+            list.set(e, keyed[e].element);
+        }
+    }
+
+    /**
+     * An element and its sort keys.
+     */
+    private record Keyed<T>(T element, Object[] keys) {
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Object valueOf(Function<? super T, ?> accessor, T element) {
+        if (accessor instanceof ToIntFunction<?> ints) {
+            return ((ToIntFunction<? super T>) ints).applyAsInt(element);
+        } else if (accessor instanceof ToLongFunction<?> longs) {
+            return ((ToLongFunction<? super T>) longs).applyAsLong(element);
+        } else if (accessor instanceof ToDoubleFunction<?> doubles) {
+            return ((ToDoubleFunction<? super T>) doubles).applyAsDouble(element);
+        }
+        return accessor.apply(element);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Comparator<T> comparing(Function<? super T, ?> accessor, boolean ignoreCase) {
+        if (accessor instanceof ToIntFunction<?> ints) {
+            ToIntFunction<? super T> f = (ToIntFunction<? super T>) ints;
+            return (o1, o2) -> Integer.compare(f.applyAsInt(o1), f.applyAsInt(o2));
+        } else if (accessor instanceof ToLongFunction<?> longs) {
+            ToLongFunction<? super T> f = (ToLongFunction<? super T>) longs;
+            return (o1, o2) -> Long.compare(f.applyAsLong(o1), f.applyAsLong(o2));
+        } else if (accessor instanceof ToDoubleFunction<?> doubles) {
+            ToDoubleFunction<? super T> f = (ToDoubleFunction<? super T>) doubles;
+            return (o1, o2) -> Double.compare(f.applyAsDouble(o1), f.applyAsDouble(o2));
+        }
+        return (o1, o2) -> CaseFoldedKey.compare(accessor.apply(o1), accessor.apply(o2), ignoreCase);
+    }
+}
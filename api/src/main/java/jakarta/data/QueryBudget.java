@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data;
+
+import jakarta.data.page.Page;
+import jakarta.data.page.PageRequest;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * <p>Limits the work that the database performs for a single invocation of
+ * a repository find method, by the maximum number of rows that may be
+ * scanned, by a deadline, or by both.</p>
+ *
+ * <p>A query method that returns a {@link jakarta.data.page.CursoredPage}
+ * may have a special parameter of type {@code QueryBudget} in the same
+ * positions as a parameter of type {@link Limit}, {@link Order},
+ * {@link Sort} or {@link PageRequest}, that is, after the parameters related
+ * to query conditions. It may be combined with any other special parameters.
+ * For example,</p>
+ *
+ * <pre>
+ * &#64;Find
+ * CursoredPage&lt;Product&gt; search(&#64;By(_Product.NAME) String name,
+ *                              PageRequest pageRequest,
+ *                              Order&lt;Product&gt; order,
+ *                              QueryBudget budget);
+ * ...
+ * page = products.search(name, PageRequest.ofSize(50), order,
+ *                        QueryBudget.within(Duration.ofMillis(200)));
+ * if (page.isPartial()) {
+ *     // show the results so far and offer to continue with page.nextPageRequest()
+ * }
+ * </pre>
+ *
+ * <p>When the budget is exhausted before the query completes, the Jakarta Data
+ * provider stops the query and returns the results that were obtained so
+ * far. The {@code CursoredPage} of such results is
+ * {@linkplain Page#isPartial() marked as partial}, and its
+ * {@linkplain Page#nextPageRequest() next page request} continues after its
+ * last result.</p>
+ *
+ * <p>Other return types, including an offset-based {@code Page}, a
+ * {@code List}, a {@code Stream}, and an array, cannot indicate that their
+ * results are incomplete. A repository method that has a parameter of type
+ * {@code QueryBudget} and does not return a {@code CursoredPage} must throw
+ * {@link UnsupportedOperationException}. Alternatively, a Jakarta Data
+ * provider is permitted to reject such a repository method declaration at
+ * compile time.</p>
+ *
+ * <p>How the budget is enforced depends on the database, for example, by
+ * a statement timeout, or by a limit on the number of rows or documents
+ * that are examined. A Jakarta Data provider that cannot enforce a budget
+ * must ignore the maximum number of rows scanned and must stop reading
+ * results when the deadline has passed. The budget may be exceeded by the
+ * granularity at which the provider and database check it.</p>
+ *
+ * @param maxScanned the maximum number of rows that may be scanned, or
+ *                   {@link Long#MAX_VALUE} if the number is not limited.
+ * @param deadline   the instant after which the query must stop, or
+ *                   {@link Instant#MAX} if there is no deadline.
+ */
+public record QueryBudget(long maxScanned, Instant deadline) {
+
+    /**
+     * Limits the work by the maximum number of rows that may be scanned,
+     * by a deadline, or by both.
+     *
+     * @param maxScanned the maximum number of rows that may be scanned, or
+     *                   {@link Long#MAX_VALUE} if the number is not limited.
+     * @param deadline   the instant after which the query must stop, or
+     *                   {@link Instant#MAX} if there is no deadline.
+     * @throws IllegalArgumentException if the maximum number of rows is less than 1.
+     * @throws NullPointerException if the deadline is {@code null}.
+     */
+    public QueryBudget {
+        if (maxScanned < 1) {
+            throw new IllegalArgumentException("maxScanned: " + maxScanned);
+        }
+        Objects.requireNonNull(deadline, "deadline is required");
+    }
+
+    /**
+     * Creates a budget that limits the number of rows that may be scanned.
+     *
+     * @param maxScanned the maximum number of rows that may be scanned.
+     * @return a budget without a deadline. Never {@code null}.
+     * @throws IllegalArgumentException if the maximum number of rows is less than 1.
+     */
+    public static QueryBudget maxScanned(long maxScanned) {
+        return new QueryBudget(maxScanned, Instant.MAX);
+    }
+
+    /**
+     * Creates a budget that requires the query to stop after the deadline.
+     *
+     * @param deadline the instant after which the query must stop.
+     * @return a budget that does not limit the number of rows scanned. Never {@code null}.
+     * @throws NullPointerException if the deadline is {@code null}.
+     */
+    public static QueryBudget until(Instant deadline) {
+        return new QueryBudget(Long.MAX_VALUE, deadline);
+    }
+
+    /**
+     * Creates a budget that requires the query to stop after the specified
+     * amount of time, measured from now.
+     *
+     * @param timeout the amount of time.
+     * @return a budget that does not limit the number of rows scanned. Never {@code null}.
+     * @throws NullPointerException if the timeout is {@code null}.
+     */
+    public static QueryBudget within(Duration timeout) {
+        Objects.requireNonNull(timeout, "timeout is required");
+        return until(Instant.now().plus(timeout));
+    }
+
+    /**
+     * Returns a budget with the same deadline that limits the number of
+     * rows that may be scanned.
+     *
+     * @param maxScanned the maximum number of rows that may be scanned.
+     * @return a new budget. Never {@code null}.
+     * @throws IllegalArgumentException if the maximum number of rows is less than 1.
+     */
+    public QueryBudget withMaxScanned(long maxScanned) {
+        return new QueryBudget(maxScanned, deadline);
+    }
+
+    /**
+     * Returns a budget with the same maximum number of rows scanned that
+     * requires the query to stop after the deadline.
+     *
+     * @param deadline the instant after which the query must stop.
+     * @return a new budget. Never {@code null}.
+     * @throws NullPointerException if the deadline is {@code null}.
+     */
+    public QueryBudget withDeadline(Instant deadline) {
+        return new QueryBudget(maxScanned, deadline);
+    }
+
+    /**
+     * Returns the amount of time that remains until the deadline, which a
+     * Jakarta Data provider can use as the timeout of a statement.
+     *
+     * @param clock the clock that provides the current instant.
+     * @return the remaining time, which is {@link Duration#ZERO} if the
+     *         deadline has passed, or {@code null} if there is no deadline.
+     */
+    public Duration remaining(Clock clock) {
+        if (Instant.MAX.equals(deadline)) {
+            return null;
+        }
+        Duration remaining = Duration.between(clock.instant(), deadline);
+        return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
+
+    /**
+     * Determines whether the budget is exhausted.
+     *
+     * @param scanned the number of rows scanned so far.
+     * @param now     the current instant.
+     * @return {@code true} if the maximum number of rows were scanned
+     *         or the deadline has passed, otherwise {@code false}.
+     */
+    public boolean isExhausted(long scanned, Instant now) {
+        return scanned >= maxScanned || now.isAfter(deadline);
+    }
+}
@@ -90,6 +90,11 @@ import java.util.Objects;
  */
 public record Sort<T>(String property, boolean isAscending, boolean ignoreCase) {
 
+    /**
+     * Canonical instances returned by {@link #intern()}.
+     */
+    private static final InternTable<Sort<?>> INTERNED = new InternTable<>(4096);
+
     /**
      * <p>Defines sort criteria for an entity property. For more descriptive code, use:</p>
      * <ul>
@@ -149,6 +154,24 @@ public record Sort<T>(String property, boolean isAscending, boolean ignoreCase)
         return !isAscending;
     }
 
+    /**
+     * <p>Returns a canonical instance that is equal to this instance, such
+     * that equal instances that are interned are the same instance and can
+     * be compared by identity, for example, when used as keys of a cache of
+     * compiled queries.</p>
+     *
+     * <p>Canonical instances are retained for the life of the application,
+     * up to an implementation-defined maximum number of instances, after
+     * which instances that have not been interned already are returned
+     * as is.</p>
+     *
+     * @return the canonical instance. Never {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    public Sort<T> intern() {
+        return (Sort<T>) INTERNED.intern(this);
+    }
+
     /**
      * Create a {@link Sort} instance
      *
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Queue;
+
+/**
+ * <p>Accumulates the first {@code capacity} elements, in the order of a
+ * comparator, of elements that are supplied in any order. Candidates are
+ * kept in a binary heap with the greatest candidate at its head, so that
+ * each element is accepted or rejected in {@code O(log capacity)} time,
+ * using {@code O(capacity)} memory.</p>
+ *
+ * @param <T> the type of elements.
+ */
+final class TopResults<T> {
+    private final Comparator<? super T> comparator;
+    private final long capacity;
+    private final Queue<T> heap;
+
+    TopResults(Comparator<? super T> comparator, long capacity) {
+        this.comparator = comparator;
+        this.capacity = capacity;
+        this.heap = new PriorityQueue<>((int) Math.min(capacity, 64), comparator.reversed());
+    }
+
+    /**
+     * Accepts an element if it is among the first elements seen so far.
+     *
+     * @param element the element.
+     */
+    void add(T element) {
+        if (heap.size() < capacity) {
+            heap.add(element);
+        } else if (comparator.compare(element, heap.peek()) < 0) {
+            heap.poll();
+            heap.add(element);
+        }
+    }
+
+    /**
+     * Accepts the candidates of another accumulator.
+     *
+     * @param other the other accumulator.
+     * @return this accumulator.
+     */
+    TopResults<T> addAll(TopResults<T> other) {
+        for (T element : other.heap) {
+            add(element);
+        }
+        return this;
+    }
+
+    /**
+     * Returns the candidates in order, omitting the specified number of
+     * leading candidates.
+     *
+     * @param skip the number of candidates to omit.
+     * @return an unmodifiable list of the remaining candidates.
+     */
+    List<T> toList(long skip) {
+        List<T> sorted = new ArrayList<>(heap);
+        sorted.sort(comparator);
+        return skip >= sorted.size() ? List.of() : List.copyOf(sorted.subList((int) skip, sorted.size()));
+    }
+}
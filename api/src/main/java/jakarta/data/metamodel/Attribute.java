@@ -18,6 +18,11 @@
 package jakarta.data.metamodel;
 
 import jakarta.data.Sort;
+import jakarta.data.restrict.BasicRestriction;
+import jakarta.data.restrict.Operator;
+import jakarta.data.restrict.Restriction;
+
+import java.util.List;
 
 /**
  * Represents an entity attribute in the {@link StaticMetamodel}.
@@ -32,4 +37,22 @@ public interface Attribute<T> {
      * @return the entity attribute name.
      */
     String name();
+
+    /**
+     * Obtain a restriction that the entity attribute is {@code null}.
+     *
+     * @return the restriction.
+     */
+    default Restriction<T> isNull() {
+        return new BasicRestriction<>(name(), Operator.NULL, List.of());
+    }
+
+    /**
+     * Obtain a restriction that the entity attribute is not {@code null}.
+     *
+     * @return the restriction.
+     */
+    default Restriction<T> notNull() {
+        return new BasicRestriction<>(name(), Operator.NOT_NULL, List.of());
+    }
 }
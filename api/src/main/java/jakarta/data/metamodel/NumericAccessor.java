@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.metamodel;
+
+import jakarta.data.metamodel.impl.TypedNumericAttributeRecord;
+
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Obtains the accessors of typed attributes, which for numeric attributes
+ * of primitive type that are created by
+ * {@link TypedNumericAttributeRecord#ofLong(String, ToLongFunction, java.util.function.ObjLongConsumer) ofLong},
+ * {@link TypedNumericAttributeRecord#ofInt(String, ToIntFunction, java.util.function.ObjIntConsumer) ofInt} or
+ * {@link TypedNumericAttributeRecord#ofDouble(String, ToDoubleFunction, java.util.function.ObjDoubleConsumer) ofDouble}
+ * also implement {@link ToLongFunction}, {@link ToIntFunction} or
+ * {@link ToDoubleFunction}, so that comparators such as those of
+ * {@link jakarta.data.Order#comparator(Function)} obtain and compare their
+ * values as primitives rather than as {@link Comparable} objects.
+ */
+final class NumericAccessor {
+
+    private NumericAccessor() {
+    }
+
+    /**
+     * Obtains the accessor of a typed attribute.
+     *
+     * @param attribute the attribute.
+     * @return the accessor.
+     */
+    static <T> Function<? super T, ?> of(TypedAttribute<T, ?> attribute) {
+        if (attribute instanceof TypedNumericAttributeRecord<T, ?> numeric) {
+            Function<? super T, ?> getter = numeric.getter();
+            if (getter instanceof ToLongFunction || getter instanceof ToIntFunction
+                    || getter instanceof ToDoubleFunction) {
+                return getter;
+            }
+        }
+        return attribute::get;
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.metamodel;
+
+/**
+ * <p>Represents a numeric entity attribute in the {@link StaticMetamodel}.</p>
+ *
+ * <p>The {@linkplain #numericType() numeric type} allows a Jakarta Data provider
+ * to choose a specialized representation for values of the attribute, such as
+ * a primitive comparison when sorting results in memory, a numeric range index,
+ * or a compact encoding of a {@linkplain jakarta.data.page.PageRequest.Cursor cursor}
+ * key, without inspecting the entity class.</p>
+ *
+ * @param <T> entity class of the static metamodel.
+ */
+public interface NumericAttribute<T> extends SortableAttribute<T> {
+
+    /**
+     * Obtain the declared type of the entity attribute. For an attribute of
+     * primitive type, this is the primitive class, for example, {@code long.class},
+     * otherwise it is a subclass of {@link Number}, for example,
+     * {@code Integer.class} or {@code java.math.BigDecimal.class}.
+     *
+     * @return the declared numeric type of the entity attribute.
+     */
+    Class<?> numericType();
+}
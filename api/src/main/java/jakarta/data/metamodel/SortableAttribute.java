@@ -24,9 +24,9 @@ import jakarta.data.Sort;
  * Entity attribute types that are sortable include:
  *
  * <ul>
- * <li>numeric attributes</li>
+ * <li>{@link NumericAttribute numeric attributes}</li>
  * <li>enum attributes</li>
- * <li>time attributes</li>
+ * <li>{@link TemporalAttribute time attributes}</li>
  * <li>boolean attributes</li>
  * <li>{@link TextAttribute textual attributes}</li>
  * </ul>
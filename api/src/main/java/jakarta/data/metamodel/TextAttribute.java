@@ -18,6 +18,11 @@
 package jakarta.data.metamodel;
 
 import jakarta.data.Sort;
+import jakarta.data.restrict.BasicRestriction;
+import jakarta.data.restrict.Operator;
+import jakarta.data.restrict.Restriction;
+
+import java.util.List;
 
 /**
  * Represents an textual entity attribute in the {@link StaticMetamodel}.
@@ -40,4 +45,27 @@ public interface TextAttribute<T> extends SortableAttribute<T> {
      */
     Sort<T> descIgnoreCase();
 
+    /**
+     * Obtain a restriction that the entity attribute matches a pattern, in which
+     * {@code _} matches any single character and {@code %} matches any sequence
+     * of characters.
+     *
+     * @param pattern the pattern, which must not be {@code null}.
+     * @return the restriction.
+     */
+    default Restriction<T> like(String pattern) {
+        return new BasicRestriction<>(name(), Operator.LIKE, List.of(pattern));
+    }
+
+    /**
+     * Obtain a restriction that the entity attribute does not match a pattern.
+     *
+     * @param pattern the pattern, which must not be {@code null}.
+     * @return the restriction.
+     * @see #like(String)
+     */
+    default Restriction<T> notLike(String pattern) {
+        return new BasicRestriction<>(name(), Operator.NOT_LIKE, List.of(pattern));
+    }
+
 }
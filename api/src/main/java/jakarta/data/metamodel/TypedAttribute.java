@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.metamodel;
+
+import jakarta.data.restrict.BasicRestriction;
+import jakarta.data.restrict.Operator;
+import jakarta.data.restrict.Restriction;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * <p>Represents an entity attribute in the {@link StaticMetamodel} that,
+ * in addition to its name, provides the type of its value and direct access
+ * to that value on an entity instance.</p>
+ *
+ * <p>A static metamodel that declares typed attributes allows a Jakarta Data
+ * provider to read (and, where the attribute is {@linkplain #isSettable()
+ * settable}, write) entity attribute values without reflection, for example,
+ * to extract the {@linkplain jakarta.data.page.PageRequest.Cursor cursor}
+ * of a result, or to sort or filter results in memory. The accessors are
+ * ordinary method references that are held in {@code static final} fields,
+ * so that access to the value does not allocate and can be inlined by the
+ * JIT compiler. For example,</p>
+ *
+ * <pre>
+ * &#64;StaticMetamodel(Product.class)
+ * public interface _Product {
+ *     String ID = "id";
+ *     String NAME = "name";
+ *
+ *     TypedSortableAttribute&lt;Product, Long&gt; id =
+ *             new TypedSortableAttributeRecord&lt;&gt;(ID, Long.class, Product::getId, Product::setId);
+ *     TypedTextAttribute&lt;Product&gt; name =
+ *             new TypedTextAttributeRecord&lt;&gt;(NAME, Product::getName, Product::setName);
+ * }
+ * </pre>
+ *
+ * @param <T> entity class of the static metamodel.
+ * @param <V> type of the entity attribute value.
+ */
+public interface TypedAttribute<T, V> extends Attribute<T> {
+
+    /**
+     * Creates a function that resolves the accessor of each of the supplied
+     * attributes by {@linkplain Attribute#name() name}, suitable for
+     * {@link jakarta.data.Order#comparator(Function)} and
+     * {@link jakarta.data.Order#sort(java.util.List, Function)}.
+     * The function returns {@code null} for any other name. The values of
+     * {@linkplain TypedNumericAttribute numeric attributes} of primitive type
+     * that are created by the {@code ofLong}, {@code ofInt} and {@code ofDouble}
+     * methods of {@link jakarta.data.metamodel.impl.TypedNumericAttributeRecord}
+     * are obtained and compared as primitive values.
+     *
+     * @param <T>        entity class of the static metamodel.
+     * @param attributes typed attributes of the entity.
+     * @return a function from entity attribute name to value accessor.
+     * @throws IllegalArgumentException if two attributes have the same name.
+     * @throws NullPointerException     if an attribute is {@code null}.
+     */
+    @SafeVarargs
+    static <T> Function<String, Function<? super T, ?>> accessors(TypedAttribute<T, ?>... attributes) {
+        Map<String, Function<? super T, ?>> accessors = new HashMap<>();
+        for (TypedAttribute<T, ?> attribute : attributes) {
+            Objects.requireNonNull(attribute, "attribute is required");
+            if (accessors.putIfAbsent(attribute.name(), NumericAccessor.of(attribute)) != null) {
+                throw new IllegalArgumentException("Duplicate attribute: " + attribute.name());
+            }
+        }
+        return Map.copyOf(accessors)::get;
+    }
+
+    /**
+     * Obtain the type of the entity attribute value. For an attribute of
+     * primitive type, this is the corresponding wrapper class.
+     *
+     * @return the type of the entity attribute value.
+     */
+    Class<V> type();
+
+    /**
+     * Obtain the value of the entity attribute from an entity.
+     *
+     * @param entity the entity.
+     * @return the value of the entity attribute, which may be {@code null}.
+     * @throws NullPointerException if the entity is {@code null}.
+     */
+    V get(T entity);
+
+    /**
+     * Assigns the value of the entity attribute on an entity.
+     *
+     * @param entity the entity.
+     * @param value  the new value of the entity attribute.
+     * @throws NullPointerException          if the entity is {@code null}.
+     * @throws UnsupportedOperationException if the attribute is not {@linkplain #isSettable() settable},
+     *                                       for example, an attribute of an immutable Java record.
+     */
+    void set(T entity, V value);
+
+    /**
+     * Indicates whether the value of the entity attribute can be
+     * {@linkplain #set(Object, Object) assigned} through this attribute.
+     *
+     * @return {@code true} if the attribute has a setter, otherwise {@code false}.
+     */
+    boolean isSettable();
+
+    /**
+     * Obtain a restriction that the entity attribute is equal to a value.
+     * If the value is {@code null}, the restriction is equivalent to {@link #isNull()}.
+     *
+     * @param value the value.
+     * @return the restriction.
+     */
+    default Restriction<T> equalTo(V value) {
+        return new BasicRestriction<>(name(), Operator.EQUAL, Collections.singletonList(value));
+    }
+
+    /**
+     * Obtain a restriction that the entity attribute is not equal to a value.
+     * If the value is {@code null}, the restriction is equivalent to {@link #notNull()}.
+     *
+     * @param value the value.
+     * @return the restriction.
+     */
+    default Restriction<T> notEqualTo(V value) {
+        return new BasicRestriction<>(name(), Operator.NOT_EQUAL, Collections.singletonList(value));
+    }
+
+    /**
+     * Obtain a restriction that the entity attribute is equal to one of the values.
+     *
+     * @param values the values, which must not be empty or contain {@code null}.
+     * @return the restriction.
+     */
+    default Restriction<T> in(Collection<? extends V> values) {
+        return new BasicRestriction<>(name(), Operator.IN, List.copyOf(values));
+    }
+
+    /**
+     * Obtain a restriction that the entity attribute is equal to none of the values.
+     *
+     * @param values the values, which must not be empty or contain {@code null}.
+     * @return the restriction.
+     */
+    default Restriction<T> notIn(Collection<? extends V> values) {
+        return new BasicRestriction<>(name(), Operator.NOT_IN, List.copyOf(values));
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.metamodel;
+
+/**
+ * Represents a numeric entity attribute in the {@link StaticMetamodel}
+ * that provides direct access to its value.
+ *
+ * @param <T> entity class of the static metamodel.
+ * @param <V> type of the entity attribute value, which is the wrapper class
+ *            for an attribute of primitive type.
+ * @see TypedAttribute
+ */
+public interface TypedNumericAttribute<T, V extends Number> extends TypedSortableAttribute<T, V>, NumericAttribute<T> {
+}
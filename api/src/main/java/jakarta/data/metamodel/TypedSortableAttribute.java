@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.metamodel;
+
+import jakarta.data.restrict.BasicRestriction;
+import jakarta.data.restrict.Operator;
+import jakarta.data.restrict.Restriction;
+
+import java.util.List;
+
+/**
+ * Represents a sortable entity attribute in the {@link StaticMetamodel}
+ * that provides direct access to its value.
+ *
+ * @param <T> entity class of the static metamodel.
+ * @param <V> type of the entity attribute value.
+ * @see TypedAttribute
+ */
+public interface TypedSortableAttribute<T, V> extends TypedAttribute<T, V>, SortableAttribute<T> {
+
+    /**
+     * Obtain a restriction that the entity attribute is less than a value.
+     *
+     * @param value the value, which must not be {@code null}.
+     * @return the restriction.
+     */
+    default Restriction<T> lessThan(V value) {
+        return new BasicRestriction<>(name(), Operator.LESS_THAN, List.of(value));
+    }
+
+    /**
+     * Obtain a restriction that the entity attribute is less than or equal to a value.
+     *
+     * @param value the value, which must not be {@code null}.
+     * @return the restriction.
+     */
+    default Restriction<T> lessThanEqual(V value) {
+        return new BasicRestriction<>(name(), Operator.LESS_THAN_EQUAL, List.of(value));
+    }
+
+    /**
+     * Obtain a restriction that the entity attribute is greater than a value.
+     *
+     * @param value the value, which must not be {@code null}.
+     * @return the restriction.
+     */
+    default Restriction<T> greaterThan(V value) {
+        return new BasicRestriction<>(name(), Operator.GREATER_THAN, List.of(value));
+    }
+
+    /**
+     * Obtain a restriction that the entity attribute is greater than or equal to a value.
+     *
+     * @param value the value, which must not be {@code null}.
+     * @return the restriction.
+     */
+    default Restriction<T> greaterThanEqual(V value) {
+        return new BasicRestriction<>(name(), Operator.GREATER_THAN_EQUAL, List.of(value));
+    }
+
+    /**
+     * Obtain a restriction that the entity attribute is between two values, inclusive.
+     *
+     * @param min the minimum value, which must not be {@code null}.
+     * @param max the maximum value, which must not be {@code null}.
+     * @return the restriction.
+     */
+    default Restriction<T> between(V min, V max) {
+        return new BasicRestriction<>(name(), Operator.BETWEEN, List.of(min, max));
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.metamodel.impl;
+
+import jakarta.data.Sort;
+import jakarta.data.metamodel.TypedNumericAttribute;
+
+import java.lang.invoke.MethodType;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Record type implementing {@link jakarta.data.metamodel.TypedNumericAttribute}.
+ * This may be used to simplify implementation of the static metamodel.
+ * Attributes of type {@code long}, {@code int} or {@code double} that are
+ * created by {@link #ofLong(String, ToLongFunction, ObjLongConsumer) ofLong},
+ * {@link #ofInt(String, ToIntFunction, ObjIntConsumer) ofInt} or
+ * {@link #ofDouble(String, ToDoubleFunction, ObjDoubleConsumer) ofDouble}
+ * obtain their values without boxing when entities are sorted by the
+ * {@linkplain jakarta.data.metamodel.TypedAttribute#accessors accessors}
+ * of the attributes.
+ *
+ * @param <T> entity class of the static metamodel.
+ * @param <V> type of the entity attribute value.
+ * @param name the name of the attribute
+ * @param type the type of the attribute value, which is the wrapper class for an attribute of primitive type
+ * @param numericType the declared type of the attribute, which is a primitive class
+ *                    for an attribute of primitive type, and otherwise the same as {@code type}
+ * @param getter function that obtains the attribute value from an entity
+ * @param setter function that assigns the attribute value on an entity, or {@code null} if not settable
+ */
+public record TypedNumericAttributeRecord<T, V extends Number>(String name,
+                                                               Class<V> type,
+                                                               Class<?> numericType,
+                                                               Function<? super T, ? extends V> getter,
+                                                               BiConsumer<? super T, ? super V> setter)
+        implements TypedNumericAttribute<T, V> {
+
+    public TypedNumericAttributeRecord {
+        Objects.requireNonNull(name, "name is required");
+        Objects.requireNonNull(type, "type is required");
+        Objects.requireNonNull(numericType, "numericType is required");
+        Objects.requireNonNull(getter, "getter is required");
+        if (numericType != type && (!numericType.isPrimitive()
+                || MethodType.methodType(numericType).wrap().returnType() != type)) {
+            throw new IllegalArgumentException("Numeric type " + numericType.getName()
+                    + " does not match the value type " + type.getName());
+        }
+    }
+
+    /**
+     * Creates an attribute that is not settable.
+     *
+     * @param name the name of the attribute
+     * @param type the type of the attribute value
+     * @param numericType the declared type of the attribute
+     * @param getter function that obtains the attribute value from an entity
+     */
+    public TypedNumericAttributeRecord(String name, Class<V> type, Class<?> numericType,
+                                       Function<? super T, ? extends V> getter) {
+        this(name, type, numericType, getter, null);
+    }
+
+    /**
+     * Creates an attribute of type {@code long} that is not settable.
+     *
+     * @param <T> entity class of the static metamodel.
+     * @param name the name of the attribute
+     * @param getter function that obtains the attribute value from an entity
+     * @return the attribute.
+     */
+    public static <T> TypedNumericAttributeRecord<T, Long> ofLong(String name, ToLongFunction<? super T> getter) {
+        return ofLong(name, getter, null);
+    }
+
+    /**
+     * Creates an attribute of type {@code long}.
+     *
+     * @param <T> entity class of the static metamodel.
+     * @param name the name of the attribute
+     * @param getter function that obtains the attribute value from an entity
+     * @param setter function that assigns the attribute value on an entity, or {@code null} if not settable
+     * @return the attribute.
+     */
+    public static <T> TypedNumericAttributeRecord<T, Long> ofLong(String name, ToLongFunction<? super T> getter,
+                                                                  ObjLongConsumer<? super T> setter) {
+        Objects.requireNonNull(getter, "getter is required");
+        return new TypedNumericAttributeRecord<>(name, Long.class, long.class, new LongGetter<T>(getter),
+                setter == null ? null : setter::accept);
+    }
+
+    /**
+     * Creates an attribute of type {@code int} that is not settable.
+     *
+     * @param <T> entity class of the static metamodel.
+     * @param name the name of the attribute
+     * @param getter function that obtains the attribute value from an entity
+     * @return the attribute.
+     */
+    public static <T> TypedNumericAttributeRecord<T, Integer> ofInt(String name, ToIntFunction<? super T> getter) {
+        return ofInt(name, getter, null);
+    }
+
+    /**
+     * Creates an attribute of type {@code int}.
+     *
+     * @param <T> entity class of the static metamodel.
+     * @param name the name of the attribute
+     * @param getter function that obtains the attribute value from an entity
+     * @param setter function that assigns the attribute value on an entity, or {@code null} if not settable
+     * @return the attribute.
+     */
+    public static <T> TypedNumericAttributeRecord<T, Integer> ofInt(String name, ToIntFunction<? super T> getter,
+                                                                    ObjIntConsumer<? super T> setter) {
+        Objects.requireNonNull(getter, "getter is required");
+        return new TypedNumericAttributeRecord<>(name, Integer.class, int.class, new IntGetter<T>(getter),
+                setter == null ? null : setter::accept);
+    }
+
+    /**
+     * Creates an attribute of type {@code double} that is not settable.
+     *
+     * @param <T> entity class of the static metamodel.
+     * @param name the name of the attribute
+     * @param getter function that obtains the attribute value from an entity
+     * @return the attribute.
+     */
+    public static <T> TypedNumericAttributeRecord<T, Double> ofDouble(String name, ToDoubleFunction<? super T> getter) {
+        return ofDouble(name, getter, null);
+    }
+
+    /**
+     * Creates an attribute of type {@code double}.
+     *
+     * @param <T> entity class of the static metamodel.
+     * @param name the name of the attribute
+     * @param getter function that obtains the attribute value from an entity
+     * @param setter function that assigns the attribute value on an entity, or {@code null} if not settable
+     * @return the attribute.
+     */
+    public static <T> TypedNumericAttributeRecord<T, Double> ofDouble(String name, ToDoubleFunction<? super T> getter,
+                                                                      ObjDoubleConsumer<? super T> setter) {
+        Objects.requireNonNull(getter, "getter is required");
+        return new TypedNumericAttributeRecord<>(name, Double.class, double.class, new DoubleGetter<T>(getter),
+                setter == null ? null : setter::accept);
+    }
+
+    @Override
+    public Sort<T> asc() {
+        return Sort.asc(name);
+    }
+
+    @Override
+    public Sort<T> desc() {
+        return Sort.desc(name);
+    }
+
+    @Override
+    public V get(T entity) {
+        return getter.apply(Objects.requireNonNull(entity, "entity is required"));
+    }
+
+    @Override
+    public void set(T entity, V value) {
+        if (setter == null) {
+            throw new UnsupportedOperationException("Attribute " + name + " is not settable");
+        }
+        setter.accept(Objects.requireNonNull(entity, "entity is required"), value);
+    }
+
+    @Override
+    public boolean isSettable() {
+        return setter != null;
+    }
+
+    /**
+     * A getter of a {@code long} value that can also be applied without boxing.
+     */
+    private record LongGetter<T>(ToLongFunction<? super T> getter) implements Function<T, Long>, ToLongFunction<T> {
+        @Override
+        public Long apply(T entity) {
+            return getter.applyAsLong(entity);
+        }
+
+        @Override
+        public long applyAsLong(T entity) {
+            return getter.applyAsLong(entity);
+        }
+    }
+
+    /**
+     * A getter of an {@code int} value that can also be applied without boxing.
+     */
+    private record IntGetter<T>(ToIntFunction<? super T> getter) implements Function<T, Integer>, ToIntFunction<T> {
+        @Override
+        public Integer apply(T entity) {
+            return getter.applyAsInt(entity);
+        }
+
+        @Override
+        public int applyAsInt(T entity) {
+            return getter.applyAsInt(entity);
+        }
+    }
+
+    /**
+     * A getter of a {@code double} value that can also be applied without boxing.
+     */
+    private record DoubleGetter<T>(ToDoubleFunction<? super T> getter)
+            implements Function<T, Double>, ToDoubleFunction<T> {
+        @Override
+        public Double apply(T entity) {
+            return getter.applyAsDouble(entity);
+        }
+
+        @Override
+        public double applyAsDouble(T entity) {
+            return getter.applyAsDouble(entity);
+        }
+    }
+}
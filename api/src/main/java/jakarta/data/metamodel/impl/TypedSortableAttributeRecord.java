@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.metamodel.impl;
+
+import jakarta.data.Sort;
+import jakarta.data.metamodel.TypedSortableAttribute;
+
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Record type implementing {@link jakarta.data.metamodel.TypedSortableAttribute}.
+ * This may be used to simplify implementation of the static metamodel.
+ *
+ * @param <T> entity class of the static metamodel.
+ * @param <V> type of the entity attribute value.
+ * @param name the name of the attribute
+ * @param type the type of the attribute value
+ * @param getter function that obtains the attribute value from an entity
+ * @param setter function that assigns the attribute value on an entity, or {@code null} if not settable
+ */
+public record TypedSortableAttributeRecord<T, V>(String name,
+                                                 Class<V> type,
+                                                 Function<? super T, ? extends V> getter,
+                                                 BiConsumer<? super T, ? super V> setter)
+        implements TypedSortableAttribute<T, V> {
+
+    public TypedSortableAttributeRecord {
+        Objects.requireNonNull(name, "name is required");
+        Objects.requireNonNull(type, "type is required");
+        Objects.requireNonNull(getter, "getter is required");
+    }
+
+    /**
+     * Creates an attribute that is not settable.
+     *
+     * @param name the name of the attribute
+     * @param type the type of the attribute value
+     * @param getter function that obtains the attribute value from an entity
+     */
+    public TypedSortableAttributeRecord(String name, Class<V> type, Function<? super T, ? extends V> getter) {
+        this(name, type, getter, null);
+    }
+
+    @Override
+    public Sort<T> asc() {
+        return Sort.asc(name);
+    }
+
+    @Override
+    public Sort<T> desc() {
+        return Sort.desc(name);
+    }
+
+    @Override
+    public V get(T entity) {
+        return getter.apply(Objects.requireNonNull(entity, "entity is required"));
+    }
+
+    @Override
+    public void set(T entity, V value) {
+        if (setter == null) {
+            throw new UnsupportedOperationException("Attribute " + name + " is not settable");
+        }
+        setter.accept(Objects.requireNonNull(entity, "entity is required"), value);
+    }
+
+    @Override
+    public boolean isSettable() {
+        return setter != null;
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.metamodel.impl;
+
+import jakarta.data.Sort;
+import jakarta.data.metamodel.TypedTextAttribute;
+
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Record type implementing {@link jakarta.data.metamodel.TypedTextAttribute}.
+ * This may be used to simplify implementation of the static metamodel.
+ *
+ * @param <T> entity class of the static metamodel.
+ * @param name the name of the attribute
+ * @param getter function that obtains the attribute value from an entity
+ * @param setter function that assigns the attribute value on an entity, or {@code null} if not settable
+ */
+public record TypedTextAttributeRecord<T>(String name,
+                                          Function<? super T, String> getter,
+                                          BiConsumer<? super T, String> setter)
+        implements TypedTextAttribute<T> {
+
+    public TypedTextAttributeRecord {
+        Objects.requireNonNull(name, "name is required");
+        Objects.requireNonNull(getter, "getter is required");
+    }
+
+    /**
+     * Creates an attribute that is not settable.
+     *
+     * @param name the name of the attribute
+     * @param getter function that obtains the attribute value from an entity
+     */
+    public TypedTextAttributeRecord(String name, Function<? super T, String> getter) {
+        this(name, getter, null);
+    }
+
+    @Override
+    public Class<String> type() {
+        return String.class;
+    }
+
+    @Override
+    public Sort<T> asc() {
+        return Sort.asc(name);
+    }
+
+    @Override
+    public Sort<T> desc() {
+        return Sort.desc(name);
+    }
+
+    @Override
+    public Sort<T> ascIgnoreCase() {
+        return Sort.ascIgnoreCase(name);
+    }
+
+    @Override
+    public Sort<T> descIgnoreCase() {
+        return Sort.descIgnoreCase(name);
+    }
+
+    @Override
+    public String get(T entity) {
+        return getter.apply(Objects.requireNonNull(entity, "entity is required"));
+    }
+
+    @Override
+    public void set(T entity, String value) {
+        if (setter == null) {
+            throw new UnsupportedOperationException("Attribute " + name + " is not settable");
+        }
+        setter.accept(Objects.requireNonNull(entity, "entity is required"), value);
+    }
+
+    @Override
+    public boolean isSettable() {
+        return setter != null;
+    }
+}
@@ -59,6 +59,10 @@
  * page1 = products.findByNameLike(namePattern, pageRequest);
  * </pre>
  *
+ * <p>A static metamodel may instead declare {@link jakarta.data.metamodel.TypedAttribute typed attributes},
+ * which additionally provide the type of the attribute value and accessors for it, allowing providers
+ * to read and write entity attribute values without reflection.</p>
+ *
  * <p>The module Javadoc provides an {@link jakarta.data/ overview} of Jakarta Data.</p>
  */
 package jakarta.data.metamodel;
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page;
+
+import java.util.Objects;
+
+/**
+ * <p>Common superclass of the built-in implementations of Cursor.</p>
+ *
+ * <p>Built-in cursors are equal to each other when they have the same key
+ * values, regardless of which built-in implementation holds the values,
+ * and compute their hash code from the key values in the same way as
+ * {@link java.util.Arrays#hashCode(Object[])}. A cursor that is specialized
+ * for a single primitive key value is therefore interchangeable with the
+ * general purpose implementation holding the boxed key value.</p>
+ */
+abstract class AbstractCursor implements PageRequest.Cursor {
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof AbstractCursor other) || other.size() != size()) {
+            return false;
+        }
+        for (int i = 0; i < size(); i++) {
+            if (!Objects.equals(get(i), other.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < size(); i++) {
+            hash = 31 * hash + Objects.hashCode(get(i));
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return "Cursor@" + Integer.toHexString(hashCode()) +
+                " with " + size() + " values";
+    }
+}
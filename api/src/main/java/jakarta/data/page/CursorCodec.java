@@ -0,0 +1,385 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * <p>Encodes the key values of a {@link PageRequest.Cursor} into a compact,
+ * opaque, URL-safe token, and decodes such tokens back into cursors.</p>
+ *
+ * <p>The token is the unpadded URL-safe Base64 form of the following
+ * binary layout:</p>
+ *
+ * <pre>
+ * version:byte  count:varint  (tag:byte  value)*
+ * </pre>
+ *
+ * <p>Integral values are written as zig-zag variable length integers,
+ * strings as a variable length byte count followed by UTF-8 bytes, and
+ * temporal values as their epoch-based integral components. Decoding reads
+ * the values directly into the key array of the cursor.</p>
+ */
+final class CursorCodec {
+    /**
+     * Version of the binary layout, written as the first byte of every token.
+     */
+    static final byte VERSION = 1;
+
+    private static final byte NULL = 0;
+    private static final byte FALSE = 1;
+    private static final byte TRUE = 2;
+    private static final byte BYTE = 3;
+    private static final byte SHORT = 4;
+    private static final byte INT = 5;
+    private static final byte LONG = 6;
+    private static final byte FLOAT = 7;
+    private static final byte DOUBLE = 8;
+    private static final byte CHAR = 9;
+    private static final byte STRING = 10;
+    private static final byte UUID_VALUE = 11;
+    private static final byte BIG_INTEGER = 12;
+    private static final byte BIG_DECIMAL = 13;
+    private static final byte INSTANT = 14;
+    private static final byte LOCAL_DATE = 15;
+    private static final byte LOCAL_TIME = 16;
+    private static final byte LOCAL_DATE_TIME = 17;
+    private static final byte OFFSET_DATE_TIME = 18;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private CursorCodec() {
+    }
+
+    /**
+     * Encodes the key values of a cursor.
+     *
+     * @param cursor the cursor.
+     * @return the token.
+     * @throws IllegalArgumentException if a key value has a type that cannot be encoded.
+     */
+    static String encode(PageRequest.Cursor cursor) {
+        Writer out = new Writer(16 + cursor.size() * 9);
+        out.write(VERSION);
+        out.writeVarLong(cursor.size());
+        for (int i = 0; i < cursor.size(); i++) {
+            out.writeValue(cursor.get(i));
+        }
+        return ENCODER.encodeToString(out.toByteArray());
+    }
+
+    /**
+     * Decodes a token that was obtained from {@link #encode(PageRequest.Cursor)}.
+     *
+     * @param token the token.
+     * @return a cursor with the key values of the token.
+     * @throws IllegalArgumentException if the token is malformed or has an unsupported version.
+     */
+    static PageRequest.Cursor decode(String token) {
+        if (token == null || token.isEmpty()) {
+            throw new IllegalArgumentException("No cursor token was provided.");
+        }
+        Reader in = new Reader(DECODER.decode(token));
+        byte version = in.read();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported cursor token version: " + version);
+        }
+        long count = in.readVarLong();
+        if (count < 1 || count > in.remaining()) {
+            throw new IllegalArgumentException("Malformed cursor token: " + count + " values");
+        }
+        Object[] key = new Object[(int) count];
+        try {
+            for (int i = 0; i < key.length; i++) {
+                key[i] = in.readValue();
+            }
+        } catch (DateTimeException | ArithmeticException | NumberFormatException x) {
+            throw new IllegalArgumentException("Malformed cursor token: " + x.getMessage(), x);
+        }
+        if (in.remaining() > 0) {
+            throw new IllegalArgumentException("Malformed cursor token: " + in.remaining() + " trailing bytes");
+        }
+        return new PageRequestCursor(key);
+    }
+
+    /**
+     * Appends values to a growable byte array.
+     */
+    private static final class Writer {
+        private byte[] bytes;
+        private int length;
+
+        Writer(int capacity) {
+            bytes = new byte[capacity];
+        }
+
+        void write(byte b) {
+            ensureCapacity(1);
+            bytes[length++] = b;
+        }
+
+        void write(byte[] b) {
+            ensureCapacity(b.length);
+            System.arraycopy(b, 0, bytes, length, b.length);
+            length += b.length;
+        }
+
+        void writeFixed(long value, int byteCount) {
+            ensureCapacity(byteCount);
+            for (int shift = (byteCount - 1) * 8; shift >= 0; shift -= 8) {
+                bytes[length++] = (byte) (value >>> shift);
+            }
+        }
+
+        void writeVarLong(long value) {
+            ensureCapacity(10);
+            long v = value;
+            while ((v & ~0x7FL) != 0) {
+                bytes[length++] = (byte) ((v & 0x7F) | 0x80);
+                v >>>= 7;
+            }
+            bytes[length++] = (byte) v;
+        }
+
+        void writeZigZag(long value) {
+            writeVarLong((value << 1) ^ (value >> 63));
+        }
+
+        void writeBytes(byte[] b) {
+            writeVarLong(b.length);
+            write(b);
+        }
+
+        void writeValue(Object value) {
+            if (value == null) {
+                write(NULL);
+            } else if (value instanceof Boolean b) {
+                write(b ? TRUE : FALSE);
+            } else if (value instanceof Long l) {
+                write(LONG);
+                writeZigZag(l);
+            } else if (value instanceof Integer i) {
+                write(INT);
+                writeZigZag(i);
+            } else if (value instanceof Short s) {
+                write(SHORT);
+                writeZigZag(s);
+            } else if (value instanceof Byte b) {
+                write(BYTE);
+                write(b);
+            } else if (value instanceof Character c) {
+                write(CHAR);
+                writeVarLong(c);
+            } else if (value instanceof String s) {
+                write(STRING);
+                writeBytes(s.getBytes(StandardCharsets.UTF_8));
+            } else if (value instanceof Double d) {
+                write(DOUBLE);
+                writeFixed(Double.doubleToLongBits(d), 8);
+            } else if (value instanceof Float f) {
+                write(FLOAT);
+                writeFixed(Float.floatToIntBits(f), 4);
+            } else if (value instanceof UUID u) {
+                write(UUID_VALUE);
+                writeFixed(u.getMostSignificantBits(), 8);
+                writeFixed(u.getLeastSignificantBits(), 8);
+            } else if (value instanceof BigInteger b) {
+                write(BIG_INTEGER);
+                writeBytes(b.toByteArray());
+            } else if (value instanceof BigDecimal b) {
+                write(BIG_DECIMAL);
+                writeZigZag(b.scale());
+                writeBytes(b.unscaledValue().toByteArray());
+            } else if (value instanceof Instant t) {
+                write(INSTANT);
+                writeZigZag(t.getEpochSecond());
+                writeVarLong(t.getNano());
+            } else if (value instanceof LocalDate t) {
+                write(LOCAL_DATE);
+                writeZigZag(t.toEpochDay());
+            } else if (value instanceof LocalTime t) {
+                write(LOCAL_TIME);
+                writeVarLong(t.toNanoOfDay());
+            } else if (value instanceof LocalDateTime t) {
+                write(LOCAL_DATE_TIME);
+                writeZigZag(t.toLocalDate().toEpochDay());
+                writeVarLong(t.toLocalTime().toNanoOfDay());
+            } else if (value instanceof OffsetDateTime t) {
+                write(OFFSET_DATE_TIME);
+                writeZigZag(t.toLocalDate().toEpochDay());
+                writeVarLong(t.toLocalTime().toNanoOfDay());
+                writeZigZag(t.getOffset().getTotalSeconds());
+            } else {
+                throw new IllegalArgumentException("Cursor key values of type " + value.getClass().getName() +
+                        " cannot be encoded.");
+            }
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(bytes, length);
+        }
+
+        private void ensureCapacity(int additional) {
+            if (length + additional > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + additional));
+            }
+        }
+    }
+
+    /**
+     * Reads values from a byte array.
+     */
+    private static final class Reader {
+        private final byte[] bytes;
+        private int position;
+
+        @SuppressWarnings("PMD.ArrayIsStoredDirectly")
+        Reader(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        int remaining() {
+            return bytes.length - position;
+        }
+
+        byte read() {
+            if (position >= bytes.length) {
+                throw new IllegalArgumentException("Malformed cursor token: unexpected end of token");
+            }
+            return bytes[position++];
+        }
+
+        long readFixed(int byteCount) {
+            long value = 0;
+            for (int i = 0; i < byteCount; i++) {
+                value = (value << 8) | (read() & 0xFF);
+            }
+            return value;
+        }
+
+        long readVarLong() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = read();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Malformed cursor token: variable length integer is too long");
+        }
+
+        long readZigZag() {
+            long value = readVarLong();
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        int readInt() {
+            return (int) inRange(readZigZag(), Integer.MIN_VALUE, Integer.MAX_VALUE);
+        }
+
+        private static long inRange(long value, long min, long max) {
+            if (value < min || value > max) {
+                throw new IllegalArgumentException("Malformed cursor token: " + value + " is out of range");
+            }
+            return value;
+        }
+
+        byte[] readBytes() {
+            long count = readVarLong();
+            if (count < 0 || count > remaining()) {
+                throw new IllegalArgumentException("Malformed cursor token: " + count + " bytes");
+            }
+            byte[] b = Arrays.copyOfRange(bytes, position, position + (int) count);
+            position += (int) count;
+            return b;
+        }
+
+        String readString() {
+            long count = readVarLong();
+            if (count < 0 || count > remaining()) {
+                throw new IllegalArgumentException("Malformed cursor token: " + count + " bytes");
+            }
+            String s = new String(bytes, position, (int) count, StandardCharsets.UTF_8);
+            position += (int) count;
+            return s;
+        }
+
+        Object readValue() {
+            byte tag = read();
+            switch (tag) {
+                case NULL:
+                    return null;
+                case FALSE:
+                    return Boolean.FALSE;
+                case TRUE:
+                    return Boolean.TRUE;
+                case BYTE:
+                    return read();
+                case SHORT:
+                    return (short) inRange(readZigZag(), Short.MIN_VALUE, Short.MAX_VALUE);
+                case INT:
+                    return readInt();
+                case LONG:
+                    return readZigZag();
+                case FLOAT:
+                    return Float.intBitsToFloat((int) readFixed(4));
+                case DOUBLE:
+                    return Double.longBitsToDouble(readFixed(8));
+                case CHAR:
+                    return (char) inRange(readVarLong(), Character.MIN_VALUE, Character.MAX_VALUE);
+                case STRING:
+                    return readString();
+                case UUID_VALUE:
+                    return new UUID(readFixed(8), readFixed(8));
+                case BIG_INTEGER:
+                    return new BigInteger(readBytes());
+                case BIG_DECIMAL:
+                    int scale = readInt();
+                    return new BigDecimal(new BigInteger(readBytes()), scale);
+                case INSTANT:
+                    return Instant.ofEpochSecond(readZigZag(), readVarLong());
+                case LOCAL_DATE:
+                    return LocalDate.ofEpochDay(readZigZag());
+                case LOCAL_TIME:
+                    return LocalTime.ofNanoOfDay(readVarLong());
+                case LOCAL_DATE_TIME:
+                    return LocalDateTime.of(LocalDate.ofEpochDay(readZigZag()), LocalTime.ofNanoOfDay(readVarLong()));
+                case OFFSET_DATE_TIME:
+                    LocalDateTime dateTime = LocalDateTime.of(LocalDate.ofEpochDay(readZigZag()),
+                            LocalTime.ofNanoOfDay(readVarLong()));
+                    return OffsetDateTime.of(dateTime, ZoneOffset.ofTotalSeconds(readInt()));
+                default:
+                    throw new IllegalArgumentException("Malformed cursor token: unknown type " + tag);
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page;
+
+import jakarta.data.CaseFoldedKey;
+import jakarta.data.Order;
+import jakarta.data.Sort;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * <p>Compares the key values of cursors according to the sort criteria of
+ * an {@link Order}, so that a cursor compares less than another cursor if
+ * an entity with its key values precedes an entity with the key values of
+ * the other cursor in the results of a query that is sorted by the order.</p>
+ *
+ * <p>Key values are compared by their natural ordering, and strings are
+ * compared without regard to case if the sort criterion requests case
+ * insensitive ordering. A {@code null} key value precedes all other values
+ * in the direction of the sort criterion.</p>
+ */
+class CursorComparator implements Comparator<PageRequest.Cursor> {
+    private final List<? extends Sort<?>> sorts;
+
+    CursorComparator(Order<?> order) {
+        this.sorts = order.sorts();
+    }
+
+    @Override
+    public int compare(PageRequest.Cursor c1, PageRequest.Cursor c2) {
+        checkSize(c1);
+        checkSize(c2);
+        for (int i = 0; i < sorts.size(); i++) {
+            Sort<?> sort = sorts.get(i);
+            int comparison = CaseFoldedKey.compare(c1.get(i), c2.get(i), sort.ignoreCase());
+            if (comparison != 0) {
+                return sort.isAscending() ? comparison : -comparison;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Ensures that the cursor has a key value for each sort criterion.
+     *
+     * @param cursor the cursor.
+     * @throws IllegalArgumentException if the number of key values does not
+     *         match the number of sort criteria.
+     */
+    void checkSize(PageRequest.Cursor cursor) {
+        if (cursor.size() != sorts.size()) {
+            throw new IllegalArgumentException("The cursor has " + cursor.size() + " key values, but there are " +
+                    sorts.size() + " sort criteria: " + sorts);
+        }
+    }
+
+    /**
+     * Returns an equivalent cursor for comparisons, in which the string key
+     * values of sort criteria that ignore case are replaced by their
+     * {@linkplain CaseFoldedKey case-folded keys}.
+     *
+     * @param cursor the cursor, or {@code null}.
+     * @return the folded cursor, which is the same cursor if there is
+     *         nothing to fold, or {@code null} if the cursor is {@code null}.
+     */
+    PageRequest.Cursor fold(PageRequest.Cursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        Object[] keys = null;
+        for (int i = 0; i < sorts.size(); i++) {
+            if (sorts.get(i).ignoreCase() && cursor.get(i) instanceof String s) {
+                if (keys == null) {
+                    keys = cursor.elements().toArray();
+                }
+                keys[i] = CaseFoldedKey.of(s);
+            }
+        }
+        return keys == null ? cursor : new PageRequestCursor(keys);
+    }
+}
@@ -0,0 +1,326 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page;
+
+import jakarta.data.Order;
+import jakarta.data.page.impl.CursoredPageRecord;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * <p>A range of key values of entities that are sorted according to an
+ * {@link Order}, bounded by an exclusive lower {@link PageRequest.Cursor}
+ * and an inclusive upper cursor. Either bound may be absent, in which case
+ * the range is unbounded in that direction.</p>
+ *
+ * <p>Key ranges allow a large result set to be read by several threads at
+ * once. The {@link #split(Order, PageRequest.Cursor, PageRequest.Cursor, Collection, int)
+ * split} method divides a range into disjoint ranges that together cover the
+ * whole range, using cursors that are sampled from the data as boundaries.
+ * Each range can then be {@linkplain #traverse(int, Function) traversed}
+ * independently, by a repository method that accepts a {@link PageRequest}
+ * and returns a {@link CursoredPage}, for example,</p>
+ *
+ * <pre>
+ * Order&lt;Employee&gt; order = Order.by(_Employee.id.asc());
+ * List&lt;PageRequest.Cursor&gt; samples = ...; // for example, every 10000th id
+ *
+ * List&lt;CursorRange&lt;Employee&gt;&gt; ranges =
+ *         CursorRange.split(order, null, null, samples, 8);
+ *
+ * ranges.parallelStream().forEach(range -&gt; {
+ *     range.traverse(500, req -&gt; employees.findAll(req, order))
+ *          .forEach(this::export);
+ * });
+ * </pre>
+ *
+ * <p>Because the ranges are returned in order and are disjoint, the results
+ * of the ranges, concatenated in the order of the list, are the results of
+ * the whole range in the order that is requested by the {@link Order}.</p>
+ *
+ * <p>Key values of cursors are compared by their natural ordering, honoring
+ * the direction of each {@link jakarta.data.Sort} and whether it
+ * {@linkplain jakarta.data.Sort#ignoreCase() ignores case}. The comparison
+ * must be consistent with the ordering that the database applies to the
+ * query. A {@code null} key value is considered to precede all other
+ * values.</p>
+ *
+ * @param <T> entity type.
+ */
+public final class CursorRange<T> {
+    private final Order<T> order;
+    private final PageRequest.Cursor after;
+    private final PageRequest.Cursor upTo;
+    private final CursorComparator comparator;
+
+    /**
+     * The bounds, with string key values of sort criteria that ignore case
+     * folded once for all comparisons.
+     */
+    private final PageRequest.Cursor foldedAfter;
+    private final PageRequest.Cursor foldedUpTo;
+
+    private CursorRange(Order<T> order, PageRequest.Cursor after, PageRequest.Cursor upTo,
+                        CursorComparator comparator) {
+        this.order = order;
+        this.after = after;
+        this.upTo = upTo;
+        this.comparator = comparator;
+        this.foldedAfter = comparator.fold(after);
+        this.foldedUpTo = comparator.fold(upTo);
+    }
+
+    /**
+     * Creates a range of the key values that follow the {@code after}
+     * cursor, up to and including the key values of the {@code upTo} cursor.
+     *
+     * @param <T>   entity type.
+     * @param order the sort criteria, which must determine a unique ordering of entities.
+     * @param after exclusive lower bound, or {@code null} if the range starts at the first entity.
+     * @param upTo  inclusive upper bound, or {@code null} if the range ends at the last entity.
+     * @return a new range. This method never returns {@code null}.
+     * @throws IllegalArgumentException if a cursor does not have a key value for each sort
+     *         criterion, or if the lower bound follows the upper bound.
+     * @throws NullPointerException if the order is {@code null}.
+     */
+    public static <T> CursorRange<T> of(Order<T> order, PageRequest.Cursor after, PageRequest.Cursor upTo) {
+        Objects.requireNonNull(order, "order is required");
+        CursorComparator comparator = new CursorComparator(order);
+        if (after != null) {
+            comparator.checkSize(after);
+        }
+        if (upTo != null) {
+            comparator.checkSize(upTo);
+        }
+        if (after != null && upTo != null && comparator.compare(after, upTo) > 0) {
+            throw new IllegalArgumentException("The lower bound " + after + " follows the upper bound " + upTo);
+        }
+        return new CursorRange<>(order, after, upTo, comparator);
+    }
+
+    /**
+     * <p>Splits the range of key values between the {@code after} and
+     * {@code upTo} cursors into at most the requested number of disjoint
+     * ranges, in order, which together cover the whole range.</p>
+     *
+     * <p>The boundaries between the ranges are chosen from the supplied
+     * sample cursors, such that each range contains approximately the same
+     * number of samples. Samples that lie outside of the range are ignored.
+     * The sample should be drawn uniformly from the data, for example by
+     * obtaining the cursor of every n-th entity, so that each range holds
+     * approximately the same number of entities. If there are fewer distinct
+     * samples than needed, fewer ranges are returned.</p>
+     *
+     * @param <T>        entity type.
+     * @param order      the sort criteria, which must determine a unique ordering of entities.
+     * @param after      exclusive lower bound, or {@code null} if the range starts at the first entity.
+     * @param upTo       inclusive upper bound, or {@code null} if the range ends at the last entity.
+     * @param samples    cursors that are sampled from the data, in any order.
+     * @param partitions the maximum number of ranges to return.
+     * @return a list of at least one and at most {@code partitions} ranges.
+     *         This method never returns {@code null}.
+     * @throws IllegalArgumentException if {@code partitions} is less than 1, if a cursor does
+     *         not have a key value for each sort criterion, or if the lower bound follows the
+     *         upper bound.
+     * @throws NullPointerException if the order or the collection of samples is {@code null}.
+     */
+    public static <T> List<CursorRange<T>> split(Order<T> order,
+                                                 PageRequest.Cursor after,
+                                                 PageRequest.Cursor upTo,
+                                                 Collection<? extends PageRequest.Cursor> samples,
+                                                 int partitions) {
+        if (partitions < 1) {
+            throw new IllegalArgumentException("partitions: " + partitions);
+        }
+        CursorRange<T> whole = of(order, after, upTo);
+
+        // fold each sample once rather than on each comparison
+        List<Sample> sorted = new ArrayList<>(samples.size());
+        for (PageRequest.Cursor sample : samples) {
+            whole.comparator.checkSize(sample);
+            PageRequest.Cursor folded = whole.comparator.fold(sample);
+            if (whole.containsFolded(folded)
+                    && (upTo == null || whole.comparator.compare(folded, whole.foldedUpTo) < 0)) {
+                sorted.add(new Sample(folded, sample));
+            }
+        }
+        sorted.sort((s1, s2) -> whole.comparator.compare(s1.folded(), s2.folded()));
+
+        List<PageRequest.Cursor> distinct = new ArrayList<>(sorted.size());
+        PageRequest.Cursor previous = null;
+        for (Sample sample : sorted) {
+            if (previous == null || whole.comparator.compare(previous, sample.folded()) < 0) {
+                distinct.add(sample.original());
+                previous = sample.folded();
+            }
+        }
+
+        int count = Math.min(partitions, distinct.size() + 1);
+        List<CursorRange<T>> ranges = new ArrayList<>(count);
+        PageRequest.Cursor lower = after;
+        for (int k = 1; k < count; k++) {
+            PageRequest.Cursor boundary = distinct.get((int) ((long) k * distinct.size() / count));
+            ranges.add(new CursorRange<>(order, lower, boundary, whole.comparator));
+            lower = boundary;
+        }
+        ranges.add(new CursorRange<>(order, lower, upTo, whole.comparator));
+        return ranges;
+    }
+
+    /**
+     * Returns the sort criteria according to which key values are ordered.
+     *
+     * @return the sort criteria.
+     */
+    public Order<T> order() {
+        return order;
+    }
+
+    /**
+     * Returns the exclusive lower bound of the range, if any.
+     *
+     * @return the lower bound, or {@link Optional#empty()} if the range
+     *         starts at the first entity.
+     */
+    public Optional<PageRequest.Cursor> after() {
+        return Optional.ofNullable(after);
+    }
+
+    /**
+     * Returns the inclusive upper bound of the range, if any.
+     *
+     * @return the upper bound, or {@link Optional#empty()} if the range
+     *         ends at the last entity.
+     */
+    public Optional<PageRequest.Cursor> upTo() {
+        return Optional.ofNullable(upTo);
+    }
+
+    /**
+     * Determines whether the key values of the cursor lie within this range.
+     *
+     * @param cursor a cursor with a key value for each sort criterion.
+     * @return {@code true} if the cursor follows the lower bound and does
+     *         not follow the upper bound, otherwise {@code false}.
+     * @throws IllegalArgumentException if the cursor does not have a key
+     *         value for each sort criterion.
+     */
+    public boolean contains(PageRequest.Cursor cursor) {
+        comparator.checkSize(cursor);
+        return containsFolded(comparator.fold(cursor));
+    }
+
+    private boolean containsFolded(PageRequest.Cursor cursor) {
+        return (foldedAfter == null || comparator.compare(foldedAfter, cursor) < 0) && !isBeyond(cursor);
+    }
+
+    /**
+     * Returns a request for the first page of entities in this range, which
+     * is a request for the first page of results if the range has no lower
+     * bound, or otherwise a request for the page after the lower bound.
+     * The page request does not request totals.
+     *
+     * @param maxPageSize the maximum number of entities per page.
+     * @return a request for the first page of this range.
+     * @throws IllegalArgumentException if the page size is less than 1.
+     */
+    public PageRequest firstPageRequest(int maxPageSize) {
+        return after == null
+                ? PageRequest.ofSize(maxPageSize).withoutTotal()
+                : PageRequest.afterCursor(after, 1, maxPageSize, false);
+    }
+
+    /**
+     * <p>Returns a traversal over the pages of entities in this range. Pages
+     * are obtained by applying the supplied function to page requests that
+     * start from the {@linkplain #firstPageRequest(int) first page request}
+     * of the range. The function must return a {@link CursoredPage} of
+     * entities that are sorted according to the {@linkplain #order() order}
+     * of this range, typically by invoking a repository method with the same
+     * order.</p>
+     *
+     * <p>The traversal ends with the page that reaches the upper bound of the
+     * range. Entities of that page beyond the upper bound are omitted, and no
+     * further pages are requested.</p>
+     *
+     * @param maxPageSize the maximum number of entities per page.
+     * @param query       function that retrieves the page for a page request.
+     * @return a traversal over the entities in this range. This method never returns {@code null}.
+     * @throws IllegalArgumentException if the page size is less than 1.
+     * @throws NullPointerException if the function is {@code null}.
+     */
+    public PageTraversal<T> traverse(int maxPageSize, Function<PageRequest, ? extends CursoredPage<T>> query) {
+        Objects.requireNonNull(query, "query is required");
+        return PageTraversal.of(firstPageRequest(maxPageSize), request -> truncate(query.apply(request)));
+    }
+
+    /**
+     * Determines whether the key values of the cursor follow the upper bound.
+     */
+    private boolean isBeyond(PageRequest.Cursor cursor) {
+        return foldedUpTo != null && comparator.compare(cursor, foldedUpTo) > 0;
+    }
+
+    /**
+     * Omits the entities of a page that follow the upper bound, making it
+     * the last page if its last entity reaches the upper bound.
+     */
+    private CursoredPage<T> truncate(CursoredPage<T> page) {
+        int size = page.numberOfElements();
+        if (size == 0 || foldedUpTo == null || comparator.compare(page.cursor(size - 1), foldedUpTo) < 0) {
+            return page;
+        }
+        List<T> content = new ArrayList<>(size);
+        List<PageRequest.Cursor> cursors = new ArrayList<>(size);
+        for (int i = 0; i < size && !isBeyond(page.cursor(i)); i++) {
+            content.add(page.content().get(i));
+            cursors.add(page.cursor(i));
+        }
+        return new CursoredPageRecord<>(content, cursors, -1, page.pageRequest(),
+                null, page.hasPrevious() ? page.previousPageRequest() : null);
+    }
+
+    /**
+     * A sampled cursor and its folded form.
+     */
+    private record Sample(PageRequest.Cursor folded, PageRequest.Cursor original) {
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof CursorRange<?> that
+                && order.equals(that.order)
+                && Objects.equals(after, that.after)
+                && Objects.equals(upTo, that.upTo);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(order, after, upTo);
+    }
+
+    @Override
+    public String toString() {
+        return "CursorRange{after=" + after + ", upTo=" + upTo + ", order=" + order + '}';
+    }
+}
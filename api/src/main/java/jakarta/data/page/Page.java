@@ -159,4 +159,75 @@ public interface Page<T> extends Iterable<T> {
      * @throws IllegalStateException if the total was not retrieved from the database.
      */
     long totalPages();
+
+    /**
+     * Returns {@code true} if an estimate of the total number of elements
+     * across all pages is available, that is, if the {@link #pageRequest()}
+     * specified that {@linkplain PageRequest#requestEstimatedTotal an estimate
+     * of the total} or {@linkplain PageRequest#requestTotal the exact total}
+     * should be retrieved from the database, and that it is therefore safe to
+     * call {@link #totalElementsEstimate()}.
+     * @return {@code true} if an estimate of the total is available.
+     */
+    default boolean hasTotalsEstimate() {
+        return hasTotals();
+    }
+
+    /**
+     * <p>Returns an estimate of the total number of elements across all pages
+     * of query results, if the {@link #pageRequest()} specified that
+     * {@linkplain PageRequest#requestEstimatedTotal an estimate of the total
+     * should be retrieved from the database}. If the exact total was retrieved,
+     * this method returns the same value as {@link #totalElements()}.</p>
+     *
+     * <p>An estimate is suitable for display, for example, as
+     * <em>about 1.2M results</em>, but must not be relied upon to determine
+     * whether there is a next page. Use {@link #hasNext()} for that purpose.
+     * The estimate is never less than the number of elements up to and
+     * including this page.</p>
+     *
+     * @return an estimate of the total number of elements across all pages.
+     * @throws IllegalStateException if neither an estimate nor the exact total
+     *         was retrieved from the database.
+     */
+    default long totalElementsEstimate() {
+        return totalElements();
+    }
+
+    /**
+     * <p>Cancels the computation of the total number of elements, if the
+     * total is computed concurrently with the page content and the
+     * computation has not already completed. A caller which does not need
+     * the total may cancel its computation to release the resources of the
+     * database. After cancellation, {@link #hasTotals()} returns
+     * {@code false}, and {@link #totalElements()} and {@link #totalPages()}
+     * throw {@link IllegalStateException}.</p>
+     *
+     * <p>The default implementation does nothing and returns
+     * {@code false}.</p>
+     *
+     * @return {@code true} if the computation was cancelled by this invocation.
+     */
+    default boolean cancelTotal() {
+        return false;
+    }
+
+    /**
+     * <p>Returns {@code true} if the query stopped before all results of this
+     * page were obtained, because the {@link jakarta.data.QueryBudget} that
+     * was supplied to the repository method was exhausted. A partial page
+     * contains the results that were obtained before the query stopped, and
+     * may have fewer results than a full page even if there are
+     * {@linkplain #hasNext() more results}. Only a
+     * {@link CursoredPage} can be partial, because its
+     * {@linkplain #nextPageRequest() next page request} continues after
+     * the last result that was obtained.</p>
+     *
+     * <p>The default implementation returns {@code false}.</p>
+     *
+     * @return {@code true} if this page is partial, otherwise {@code false}.
+     */
+    default boolean isPartial() {
+        return false;
+    }
 }
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * <p>Iterates pages of results by following the next page request of each
+ * page, optionally requesting up to {@code depth} pages in the background
+ * ahead of the page that was most recently returned by {@link #next()}.</p>
+ *
+ * <p>Each page request is chained onto the completion of the page before it,
+ * so a page is never requested unless the previous page indicates that there
+ * is a next page. A {@code null} page marks the end of the results.</p>
+ */
+class PageIterator<T> implements Iterator<Page<T>>, AutoCloseable {
+    /**
+     * Runs tasks on the calling thread when prefetching is disabled.
+     */
+    private static final Executor DIRECT = Runnable::run;
+
+    private final PageRequest first;
+    private final Function<PageRequest, ? extends Page<T>> query;
+    private final int depth;
+    private final Executor executor;
+
+    /**
+     * Pages that have been requested but not yet returned, in order.
+     */
+    private final Deque<CompletableFuture<Page<T>>> ahead = new ArrayDeque<>();
+
+    /**
+     * The most recently requested page, from which the next page request
+     * is obtained. Initially {@code null}, before the first page is requested.
+     */
+    private CompletableFuture<Page<T>> tail;
+
+    private Page<T> next;
+    private boolean done;
+
+    PageIterator(PageRequest first, Function<PageRequest, ? extends Page<T>> query, int depth, Executor executor) {
+        this.first = first;
+        this.query = query;
+        this.depth = depth;
+        this.executor = depth == 0 ? DIRECT : executor;
+    }
+
+    @Override
+    public synchronized boolean hasNext() {
+        if (next == null && !done) {
+            request(1);
+            next = join(ahead.poll());
+            if (next == null) {
+                close();
+            } else {
+                request(depth);
+            }
+        }
+        return next != null;
+    }
+
+    @Override
+    public synchronized Page<T> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Page<T> page = next;
+        next = null;
+        return page;
+    }
+
+    /**
+     * Cancels all page requests that have not been returned
+     * and ends the iteration.
+     */
+    @Override
+    public synchronized void close() {
+        done = true;
+        while (!ahead.isEmpty()) {
+            ahead.poll().cancel(false);
+        }
+    }
+
+    /**
+     * Requests pages until the specified number of pages
+     * have been requested ahead of the current page.
+     *
+     * @param count number of pages to have requested.
+     */
+    private void request(int count) {
+        while (ahead.size() < count) {
+            if (tail == null) {
+                tail = CompletableFuture.supplyAsync(() -> query.apply(first), executor);
+            } else {
+                tail = tail.thenApplyAsync(page -> page != null && page.hasNext()
+                        ? query.apply(page.nextPageRequest().withoutTotal())
+                        : null, executor);
+            }
+            ahead.add(tail);
+        }
+    }
+
+    /**
+     * Waits for a page, raising the exception from the page request,
+     * if any, unwrapped.
+     *
+     * @param page the requested page.
+     * @return the page, or {@code null} after the last page.
+     */
+    @SuppressWarnings("PMD.PreserveStackTrace")
+    private static <T> Page<T> join(CompletableFuture<Page<T>> page) {
+        try {
+            return page.join();
+        } catch (CompletionException x) {
+            if (x.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            } else if (x.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw x;
+        }
+    }
+}
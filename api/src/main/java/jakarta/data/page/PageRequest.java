@@ -24,6 +24,7 @@ import jakarta.data.repository.OrderBy;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 /**
  * <p>A request for a single well-specified page of query results.</p>
@@ -230,6 +231,30 @@ public interface PageRequest {
      */
     boolean requestTotal();
 
+    /**
+     * <p>Indicates that a query method which returns a {@link Page}
+     * should retrieve an {@linkplain Page#totalElementsEstimate() estimate}
+     * of the total number of elements available across all pages instead
+     * of the exact total. Retrieving an estimate avoids counting all
+     * matching elements, for example, by consulting the statistics that
+     * the database maintains for query planning, and is much cheaper than
+     * an exact count for large results. The Jakarta Data provider determines
+     * how the estimate is obtained and how closely it bounds the exact total.
+     * This behavior is disabled by default. To obtain a page request with
+     * estimated total retrieval enabled, call {@link #withEstimatedTotal()}.</p>
+     *
+     * <p>When this method returns {@code true}, {@link #requestTotal()}
+     * returns {@code false}.</p>
+     *
+     * <p>The default implementation returns {@code false}.</p>
+     *
+     * @return {@code true} if an estimate of the total number of elements
+     *         should be retrieved from the database.
+     */
+    default boolean requestEstimatedTotal() {
+        return false;
+    }
+
     /**
      * <p>Creates a new page request with the same pagination information,
      * but with the specified maximum page size. When a page is retrieved
@@ -259,13 +284,35 @@ public interface PageRequest {
 
     /**
      * Returns an otherwise-equivalent page request with
-     * {@link #requestTotal()} set to {@code false}, so that
+     * {@link #requestTotal()} set to {@code true}, so that
      * totals will be retrieved from the database.
      * @return a page request with {@link #requestTotal()}
      *         set to {@code true}.
      */
     PageRequest withTotal();
 
+    /**
+     * Returns an otherwise-equivalent page request with
+     * {@link #requestEstimatedTotal()} set to {@code true} and
+     * {@link #requestTotal()} set to {@code false}, so that an
+     * estimate of the total, rather than the exact total, will be
+     * retrieved from the database. Note that when only an estimate
+     * is retrieved by a repository method with return type {@link Page},
+     * the operations {@link Page#totalElements()} and {@link Page#totalPages()}
+     * throw an {@link IllegalStateException} when called, whereas
+     * {@link Page#totalElementsEstimate()} returns the estimate.
+     *
+     * <p>The default implementation, for page requests that cannot
+     * request an estimate, returns {@link #withTotal()}, because
+     * the exact total is also an estimate of the total.</p>
+     *
+     * @return a page request with {@link #requestEstimatedTotal()}
+     *         set to {@code true}.
+     */
+    default PageRequest withEstimatedTotal() {
+        return withTotal();
+    }
+
     /**
      * The type of pagination: offset-based or cursor-based, which includes
      * a direction.
@@ -305,7 +352,9 @@ public interface PageRequest {
          * Returns whether or not the values that make up the key of this cursor
          * are equal to those of the supplied cursor.
          * Both instances must also have the same cursor implementation class
-         * in order to be considered equal.
+         * in order to be considered equal. All cursors that are obtained from
+         * the {@code forKey} methods of this interface or from {@link #decode(String)}
+         * are considered to have the same cursor implementation class.
          *
          * @param cursor a cursor against which to compare.
          * @return true or false.
@@ -363,5 +412,126 @@ public interface PageRequest {
         static Cursor forKey(Object... key) {
             return new PageRequestCursor(key);
         }
+
+        /**
+         * <p>Obtain an instance of {@code Cursor} for a key that consists of a
+         * single {@code long} value, such as a numeric identifier. The cursor
+         * keeps the value unboxed and is {@linkplain #equals(Object) equal} to,
+         * and has the same {@linkplain #hashCode() hash code} as, the cursor
+         * obtained from {@link #forKey(Object...)} for the same {@link Long}
+         * value.</p>
+         *
+         * @param key the key
+         * @return a new instance of {@code Cursor}
+         */
+        static Cursor forKey(long key) {
+            return new LongKeyCursor(key);
+        }
+
+        /**
+         * <p>Obtain an instance of {@code Cursor} for a key that consists of a
+         * single {@code int} value. The cursor keeps the value unboxed and is
+         * {@linkplain #equals(Object) equal} to, and has the same
+         * {@linkplain #hashCode() hash code} as, the cursor obtained from
+         * {@link #forKey(Object...)} for the same {@link Integer} value.</p>
+         *
+         * @param key the key
+         * @return a new instance of {@code Cursor}
+         */
+        static Cursor forKey(int key) {
+            return new IntKeyCursor(key);
+        }
+
+        /**
+         * Obtain an instance of {@code Cursor} for a key that consists of a
+         * single {@code short} value. The key value is a {@link Short}, the
+         * same as for the cursor obtained from {@link #forKey(Object...)}.
+         *
+         * @param key the key
+         * @return a new instance of {@code Cursor}
+         */
+        static Cursor forKey(short key) {
+            return new PageRequestCursor(key);
+        }
+
+        /**
+         * Obtain an instance of {@code Cursor} for a key that consists of a
+         * single {@code byte} value. The key value is a {@link Byte}, the
+         * same as for the cursor obtained from {@link #forKey(Object...)}.
+         *
+         * @param key the key
+         * @return a new instance of {@code Cursor}
+         */
+        static Cursor forKey(byte key) {
+            return new PageRequestCursor(key);
+        }
+
+        /**
+         * Obtain an instance of {@code Cursor} for a key that consists of a
+         * single {@code char} value. The key value is a {@link Character}, the
+         * same as for the cursor obtained from {@link #forKey(Object...)}.
+         *
+         * @param key the key
+         * @return a new instance of {@code Cursor}
+         */
+        static Cursor forKey(char key) {
+            return new PageRequestCursor(key);
+        }
+
+        /**
+         * <p>Obtain an instance of {@code Cursor} for a key that consists of a
+         * single {@link UUID} value. The cursor is {@linkplain #equals(Object)
+         * equal} to, and has the same {@linkplain #hashCode() hash code} as,
+         * the cursor obtained from {@link #forKey(Object...)} for the same value.</p>
+         *
+         * <p>This method is not an overload of {@code forKey}, so that an
+         * invocation of {@code forKey} with a {@code null} argument remains
+         * unambiguous.</p>
+         *
+         * @param key the key
+         * @return a new instance of {@code Cursor}
+         * @throws NullPointerException if the key is {@code null}.
+         */
+        static Cursor forUUIDKey(UUID key) {
+            return new UUIDKeyCursor(key);
+        }
+
+        /**
+         * <p>Encodes the key values of this cursor into a compact, opaque token
+         * that is safe to include in a URL, for example, to send the cursor of
+         * a page to a client which later requests the next page. The cursor is
+         * obtained again from the token by {@link #decode(String)}.</p>
+         *
+         * <p>The token format is versioned and supports key values of type
+         * {@link String}, {@link Boolean}, {@link Character}, {@link Byte},
+         * {@link Short}, {@link Integer}, {@link Long}, {@link Float},
+         * {@link Double}, {@link java.math.BigInteger}, {@link java.math.BigDecimal},
+         * {@link java.util.UUID}, {@link java.time.Instant}, {@link java.time.LocalDate},
+         * {@link java.time.LocalTime}, {@link java.time.LocalDateTime}, and
+         * {@link java.time.OffsetDateTime}, as well as {@code null}.
+         * The token does not protect the key values against inspection or
+         * tampering by the client.</p>
+         *
+         * @return the token; never {@code null}.
+         * @throws IllegalArgumentException if a key value has a type that cannot be encoded.
+         */
+        default String encode() {
+            return CursorCodec.encode(this);
+        }
+
+        /**
+         * Obtains a cursor from a token that was obtained from {@link #encode()}.
+         * The cursor is equal to a cursor that is obtained from {@link #forKey(Object...)}
+         * for the same key values, and can therefore be supplied to
+         * {@link PageRequest#afterCursor(Cursor)} or {@link PageRequest#beforeCursor(Cursor)}.
+         *
+         * @param token the token.
+         * @return a new instance of {@code Cursor}.
+         * @throws IllegalArgumentException if the token is {@code null}, empty,
+         *         malformed, or has an unsupported version.
+         */
+        static Cursor decode(String token) {
+            return CursorCodec.decode(token);
+        }
     }
 }
\ No newline at end of file
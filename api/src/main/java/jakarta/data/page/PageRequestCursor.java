@@ -23,7 +23,7 @@ import java.util.List;
 /**
  * Built-in implementation of Cursor for cursor-based pagination.
  */
-class PageRequestCursor implements PageRequest.Cursor {
+class PageRequestCursor extends AbstractCursor {
     /**
      * Key values.
      */
@@ -45,9 +45,9 @@ class PageRequestCursor implements PageRequest.Cursor {
 
     @Override
     public boolean equals(Object o) {
-        return this == o || o != null
-                && o.getClass() == getClass()
-                && Arrays.equals(key, ((PageRequestCursor) o).key);
+        return o instanceof PageRequestCursor other
+                ? Arrays.equals(key, other.key)
+                : super.equals(o);
     }
 
     @Override
@@ -69,10 +69,4 @@ class PageRequestCursor implements PageRequest.Cursor {
     public List<?> elements() {
         return List.of(key);
     }
-
-    @Override
-    public String toString() {
-        return "Cursor@" + Integer.toHexString(hashCode()) +
-                " with " + key.length + " values";
-    }
 }
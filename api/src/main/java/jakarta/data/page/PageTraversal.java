@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page;
+
+import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * <p>A lazy traversal over all pages of query results, starting from an
+ * initial {@link PageRequest} and following {@link Page#nextPageRequest()}
+ * from each page to the next until a page reports that it is the
+ * {@linkplain Page#hasNext() last page}.</p>
+ *
+ * <p>The pages are obtained by invoking a repository method with each
+ * page request in turn. For example,</p>
+ *
+ * <pre>
+ * try (Stream&lt;Employee&gt; all =
+ *         PageTraversal.of(PageRequest.ofSize(100),
+ *                          req -&gt; employees.findByHoursWorkedGreaterThan(1500, req))
+ *                      .prefetch(2, executor)
+ *                      .stream()) {
+ *     all.forEach(this::export);
+ * }
+ * </pre>
+ *
+ * <p>By default, each page is retrieved when the previous page has been
+ * consumed. When {@linkplain #prefetch(int, Executor) prefetching} is enabled,
+ * the next pages are requested in the background while the caller consumes
+ * the current page, so that the round trips to the database overlap with the
+ * processing of results. Prefetching applies to {@link #stream()} and
+ * {@link #pages()}, which cancel the page requests that were not consumed
+ * when the stream is closed. An {@link #iterator()}, including that of an
+ * enhanced {@code for} statement, cannot be closed and therefore never
+ * prefetches. A page is only ever requested using the
+ * {@linkplain Page#nextPageRequest() next page request} of the page before
+ * it, which for a {@link CursoredPage} is computed from the cursor of the
+ * last result of that page. Therefore, no page is requested beyond the last
+ * page of results, and at most the configured number of pages is retrieved
+ * ahead of the page that the caller is consuming.</p>
+ *
+ * <p>The first page is requested with the supplied page request as is.
+ * Subsequent pages are requested {@linkplain PageRequest#withoutTotal()
+ * without totals} because a traversal does not expose them.</p>
+ *
+ * <p>A traversal does not retrieve any pages until it is iterated. Each call
+ * to {@link #iterator()}, {@link #stream()} or {@link #pages()} starts a new,
+ * independent traversal from the initial page request.</p>
+ *
+ * @param <T> the type of elements in the pages.
+ */
+public interface PageTraversal<T> extends Iterable<T> {
+
+    /**
+     * Creates a traversal that obtains each page by applying the supplied
+     * function to a page request, typically by invoking a repository method
+     * that accepts a {@link PageRequest} and returns a {@link Page} or
+     * {@link CursoredPage}.
+     *
+     * @param <T>         the type of elements in the pages.
+     * @param pageRequest the request for the first page.
+     * @param query       function that retrieves the page for a page request.
+     * @return a new traversal without prefetching. This method never returns {@code null}.
+     * @throws NullPointerException if either parameter is {@code null}.
+     */
+    static <T> PageTraversal<T> of(PageRequest pageRequest, Function<PageRequest, ? extends Page<T>> query) {
+        return new Traversal<>(pageRequest, query, 0, null);
+    }
+
+    /**
+     * <p>Returns an otherwise-equivalent traversal that retrieves up to the
+     * specified number of pages in the background, ahead of the page that is
+     * currently being consumed.</p>
+     *
+     * <p>Because repository methods typically block while communicating with
+     * the database, the executor should be able to run that many blocking
+     * tasks concurrently, for example, an executor that starts a virtual
+     * thread per task.</p>
+     *
+     * @param depth    maximum number of pages to retrieve ahead of the page
+     *                 that is being consumed. {@code 0} disables prefetching.
+     * @param executor executor that runs the page requests in the background.
+     * @return a new traversal. This method never returns {@code null}.
+     * @throws IllegalArgumentException if the depth is negative.
+     * @throws NullPointerException if the executor is {@code null}.
+     */
+    PageTraversal<T> prefetch(int depth, Executor executor);
+
+    /**
+     * Returns an iterator over the results of all pages, in order.
+     * Pages are retrieved as the iterator advances, each when the previous
+     * page has been consumed, even if prefetching is enabled. Use
+     * {@link #stream()} to prefetch pages.
+     *
+     * @return an iterator over the results of all pages.
+     */
+    @Override
+    Iterator<T> iterator();
+
+    /**
+     * Returns a sequential stream of pages, in order. Closing the stream
+     * cancels any page requests that were prefetched but not yet consumed.
+     *
+     * @return a lazy stream of pages.
+     */
+    Stream<Page<T>> pages();
+
+    /**
+     * Returns a sequential stream of the results of all pages, in order.
+     * Closing the stream cancels any page requests that were prefetched but
+     * not yet consumed.
+     *
+     * @return a lazy stream of results.
+     */
+    Stream<T> stream();
+}
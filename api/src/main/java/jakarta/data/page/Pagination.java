@@ -22,7 +22,12 @@ import java.util.Optional;
 /**
  * Built-in implementation of PageRequest.
  */
-record Pagination(long page, int size, Mode mode, Cursor type, boolean requestTotal) implements PageRequest {
+record Pagination(long page, int size, Mode mode, Cursor type, boolean requestTotal, boolean requestEstimatedTotal)
+        implements PageRequest {
+
+    Pagination(long page, int size, Mode mode, Cursor type, boolean requestTotal) {
+        this(page, size, mode, type, requestTotal, false);
+    }
 
     Pagination {
         if (page < 1) {
@@ -38,22 +43,27 @@ record Pagination(long page, int size, Mode mode, Cursor type, boolean requestTo
 
     @Override
     public PageRequest withoutTotal() {
-        return new Pagination(page, size, mode, type, false);
+        return new Pagination(page, size, mode, type, false, false);
     }
 
     @Override
     public PageRequest withTotal() {
-        return new Pagination(page, size, mode, type, true);
+        return new Pagination(page, size, mode, type, true, false);
+    }
+
+    @Override
+    public PageRequest withEstimatedTotal() {
+        return new Pagination(page, size, mode, type, false, true);
     }
 
     @Override
     public PageRequest afterCursor(Cursor cursor) {
-        return new Pagination(page, size, Mode.CURSOR_NEXT, cursor, requestTotal);
+        return new Pagination(page, size, Mode.CURSOR_NEXT, cursor, requestTotal, requestEstimatedTotal);
     }
 
     @Override
     public PageRequest beforeCursor(Cursor cursor) {
-        return new Pagination(page, size, Mode.CURSOR_PREVIOUS, cursor, requestTotal);
+        return new Pagination(page, size, Mode.CURSOR_PREVIOUS, cursor, requestTotal, requestEstimatedTotal);
     }
 
     @Override
@@ -75,7 +85,7 @@ record Pagination(long page, int size, Mode mode, Cursor type, boolean requestTo
 
     @Override
     public PageRequest size(int maxPageSize) {
-        return new Pagination(page, maxPageSize, mode, type, requestTotal);
+        return new Pagination(page, maxPageSize, mode, type, requestTotal, requestEstimatedTotal);
     }
 
 }
\ No newline at end of file
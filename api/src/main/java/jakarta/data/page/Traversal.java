@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Built-in implementation of PageTraversal.
+ */
+record Traversal<T>(PageRequest pageRequest,
+                    Function<PageRequest, ? extends Page<T>> query,
+                    int depth,
+                    Executor executor) implements PageTraversal<T> {
+
+    Traversal {
+        Objects.requireNonNull(pageRequest, "pageRequest is required");
+        Objects.requireNonNull(query, "query is required");
+        if (depth < 0) {
+            throw new IllegalArgumentException("depth: " + depth);
+        } else if (depth > 0) {
+            Objects.requireNonNull(executor, "executor is required");
+        }
+    }
+
+    @Override
+    public PageTraversal<T> prefetch(int depth, Executor executor) {
+        return new Traversal<>(pageRequest, query, depth, executor);
+    }
+
+    /**
+     * An iterator cannot be closed to cancel prefetched page requests when the caller
+     * stops iterating early, so it retrieves each page when the previous page is consumed.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Results<>(new PageIterator<>(pageRequest, query, 0, null));
+    }
+
+    @Override
+    public Stream<Page<T>> pages() {
+        PageIterator<T> pages = new PageIterator<>(pageRequest, query, depth, executor);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(pages, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(pages::close);
+    }
+
+    @Override
+    public Stream<T> stream() {
+        PageIterator<T> pages = new PageIterator<>(pageRequest, query, depth, executor);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(new Results<>(pages), Spliterator.ORDERED), false)
+                .onClose(pages::close);
+    }
+
+    @Override
+    public String toString() {
+        return "PageTraversal{from=" + pageRequest + ", prefetch=" + depth + '}';
+    }
+
+    /**
+     * Iterates the results of each page of a page iterator in turn.
+     */
+    private static final class Results<T> implements Iterator<T> {
+        private final Iterator<Page<T>> pages;
+        private Iterator<T> current = Collections.emptyIterator();
+
+        Results(Iterator<Page<T>> pages) {
+            this.pages = pages;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!current.hasNext()) {
+                if (!pages.hasNext()) {
+                    return false;
+                }
+                current = pages.next().iterator();
+            }
+            return true;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return current.next();
+        }
+    }
+}
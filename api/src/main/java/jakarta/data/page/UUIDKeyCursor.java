@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Built-in implementation of Cursor for a {@link UUID} key value.
+ */
+final class UUIDKeyCursor extends AbstractCursor {
+    /**
+     * Key value.
+     */
+    private final UUID key;
+
+    /**
+     * Unmodifiable list of the key value, which is created when first requested.
+     */
+    private List<?> elements;
+
+    /**
+     * Constructs a cursor with the specified key value.
+     *
+     * @param key key value.
+     */
+    UUIDKeyCursor(UUID key) {
+        this.key = Objects.requireNonNull(key, "key is required");
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof UUIDKeyCursor other
+                ? key.equals(other.key)
+                : super.equals(o);
+    }
+
+    @Override
+    public Object get(int index) {
+        if (index != 0) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return key;
+    }
+
+    @Override
+    public int hashCode() {
+        // same as Arrays.hashCode for an array holding the boxed key value
+        return 31 + key.hashCode();
+    }
+
+    @Override
+    public int size() {
+        return 1;
+    }
+
+    @Override
+    public List<?> elements() {
+        List<?> list = elements;
+        if (list == null) {
+            // benign race: the list is immutable, so another thread at worst creates an equal one
+            list = List.of(key);
+            elements = list;
+        }
+        return list;
+    }
+}
@@ -23,6 +23,7 @@ import jakarta.data.page.PageRequest;
 import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.function.Function;
 
 /**
  * Record type implementing {@link CursoredPage}.
@@ -61,16 +62,52 @@ public record CursoredPageRecord<T>
             (List<T> content, List<PageRequest.Cursor> cursors, long totalElements, PageRequest pageRequest,
             boolean firstPage, boolean lastPage) {
         this(content, cursors, totalElements, pageRequest,
-                lastPage ? null : PageRequest.afterCursor(
+                lastPage ? null : withTotalsOf(pageRequest, PageRequest.afterCursor(
                         cursors.get(cursors.size() - 1),
                         pageRequest.page() + 1,
                         pageRequest.size(),
-                        pageRequest.requestTotal()),
-                firstPage ? null : PageRequest.beforeCursor(
+                        pageRequest.requestTotal())),
+                firstPage ? null : withTotalsOf(pageRequest, PageRequest.beforeCursor(
                         cursors.get(0),
                         pageRequest.page() == 1 ? 1 : pageRequest.page() - 1,
                         pageRequest.size(),
-                        pageRequest.requestTotal()));
+                        pageRequest.requestTotal())));
+    }
+
+    /**
+     * <p>Constructs a new instance that obtains the cursor of each result
+     * on demand, by applying the supplied key extractor to the result,
+     * rather than requiring a list with a cursor for every result. Only the
+     * cursors of the first and last results are obtained when the page is
+     * constructed, in order to compute the next and previous page requests.
+     * Other cursors are obtained if and when they are requested from
+     * {@link #cursor(int)} or {@link #cursors()}. For example,</p>
+     *
+     * <pre>
+     * return new CursoredPageRecord&lt;&gt;(employees,
+     *                                 e -&gt; PageRequest.Cursor.forKey(e.badgeNumber()),
+     *                                 -1, pageRequest, firstPage, lastPage);
+     * </pre>
+     *
+     * @param content The page content, that is, the query results, in order
+     * @param keyExtractor Function that obtains the {@link PageRequest.Cursor}
+     *                     of a result, consisting of the values of the sort
+     *                     keys of the result
+     * @param totalElements The total number of elements across all pages that
+     *                      can be requested for the query
+     * @param pageRequest The {@link PageRequest page request} for which this
+     *                    page was obtained
+     * @param firstPage True, if this is the first page of results
+     * @param lastPage True, if this is the last page of results
+     */
+    public CursoredPageRecord
+            (List<T> content, Function<? super T, PageRequest.Cursor> keyExtractor, long totalElements,
+            PageRequest pageRequest, boolean firstPage, boolean lastPage) {
+        this(content, LazyContent.of(content, keyExtractor), totalElements, pageRequest, firstPage, lastPage);
+    }
+
+    private static PageRequest withTotalsOf(PageRequest current, PageRequest request) {
+        return current.requestEstimatedTotal() ? request.withEstimatedTotal() : request;
     }
 
     @Override
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page.impl;
+
+import jakarta.data.page.CursoredPage;
+import jakarta.data.page.PageRequest;
+
+import java.util.concurrent.Future;
+
+/**
+ * Implementation of {@link CursoredPage} for which the total number of
+ * elements across all pages is computed concurrently with the page content.
+ * This may be used to simplify implementation of a repository interface.
+ * Refer to {@link DeferredTotalPage} for details.
+ *
+ * @param <T> the type of elements in this page.
+ */
+public class DeferredTotalCursoredPage<T> extends DeferredTotalPage<T> implements CursoredPage<T> {
+    private final CursoredPage<T> page;
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param page          a cursored page with the content, that is, the query
+     *                      results, without totals.
+     * @param totalElements the pending computation of the total number of elements
+     *                      across all pages that can be requested for the query, or
+     *                      {@code null} if the total was not requested.
+     * @throws NullPointerException if the page is {@code null}.
+     */
+    public DeferredTotalCursoredPage(CursoredPage<T> page, Future<Long> totalElements) {
+        super(page, totalElements);
+        this.page = page;
+    }
+
+    @Override
+    public PageRequest.Cursor cursor(int index) {
+        return page.cursor(index);
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page.impl;
+
+import jakarta.data.exceptions.DataException;
+import jakarta.data.page.Page;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * <p>Implementation of {@link Page} for which the total number of elements
+ * across all pages is computed concurrently with the page content. This
+ * allows a repository implementation to run the query that counts the
+ * total number of elements in parallel with the query that retrieves the
+ * page content, and to return the page as soon as the content is available.
+ * This may be used to simplify implementation of a repository interface.</p>
+ *
+ * <pre>
+ * Future&lt;Long&gt; count = executor.submit(() -&gt; countQuery.getSingleResult());
+ * List&lt;Product&gt; content = contentQuery.getResultList();
+ * return new DeferredTotalPage&lt;&gt;(new PageRecord&lt;&gt;(pageRequest, content, -1), count);
+ * </pre>
+ *
+ * <p>All operations other than {@link #totalElements()} and {@link #totalPages()}
+ * are delegated to the supplied page, which must not wait for the total.
+ * In particular, {@link #hasNext()} is determined from the page content alone.
+ * The first invocation of {@link #totalElements()} or {@link #totalPages()}
+ * waits for the total to be computed. A caller which does not need the total
+ * may {@linkplain #cancelTotal() cancel} its computation, also through the
+ * {@link Page} interface, so that a repository method may return this page
+ * as any {@code Page}.</p>
+ *
+ * @param <T> the type of elements in this page.
+ */
+public class DeferredTotalPage<T> extends ForwardingPage<T> {
+    private final Future<Long> totalElements;
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param page          a page with the content, that is, the query results,
+     *                      without totals.
+     * @param totalElements the pending computation of the total number of elements
+     *                      across all pages that can be requested for the query, or
+     *                      {@code null} if the total was not requested.
+     * @throws NullPointerException if the page is {@code null}.
+     */
+    public DeferredTotalPage(Page<T> page, Future<Long> totalElements) {
+        super(page);
+        this.totalElements = totalElements;
+    }
+
+    /**
+     * Cancels the computation of the total number of elements, if it has not
+     * already completed. After cancellation, {@link #hasTotals()} returns
+     * {@code false}, and {@link #totalElements()} and {@link #totalPages()}
+     * throw {@link IllegalStateException}.
+     *
+     * @return {@code true} if the computation was cancelled by this invocation.
+     */
+    @Override
+    public boolean cancelTotal() {
+        return totalElements != null && totalElements.cancel(true);
+    }
+
+    /**
+     * Returns {@code true} if the total number of elements was requested and
+     * its computation has not been {@linkplain #cancelTotal() cancelled}.
+     * This method does not wait for the total to be computed.
+     *
+     * @return {@code true} if totals are available.
+     */
+    @Override
+    public boolean hasTotals() {
+        return totalElements != null && !totalElements.isCancelled();
+    }
+
+    /**
+     * Returns the total number of elements across all pages, waiting for
+     * its computation to complete if necessary.
+     *
+     * @return the total number of elements across all pages.
+     * @throws IllegalStateException if the total was not requested or its
+     *         computation was cancelled.
+     * @throws DataException if the computation of the total failed with a
+     *         checked exception or the current thread was interrupted while
+     *         waiting for it. Runtime exceptions and errors of the computation
+     *         are raised unwrapped.
+     */
+    @Override
+    @SuppressWarnings("PMD.PreserveStackTrace")
+    public long totalElements() {
+        if (totalElements == null) {
+            throw new IllegalStateException("total elements are not available");
+        }
+        try {
+            return totalElements.get();
+        } catch (CancellationException x) {
+            throw new IllegalStateException("total elements are not available", x);
+        } catch (ExecutionException x) {
+            if (x.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            } else if (x.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new DataException(x.getCause());
+        } catch (InterruptedException x) {
+            Thread.currentThread().interrupt();
+            throw new DataException(x);
+        }
+    }
+
+    /**
+     * Returns the total number of pages, waiting for the total number of
+     * elements to be computed if necessary.
+     *
+     * @return the total number of pages.
+     * @throws IllegalStateException if the total was not requested or its
+     *         computation was cancelled.
+     * @throws DataException if the computation of the total failed or the
+     *         current thread was interrupted while waiting for it.
+     */
+    @Override
+    public long totalPages() {
+        long total = totalElements();
+        int size = pageRequest().size();
+        return (total + size - 1) / size;
+    }
+
+    /**
+     * Returns the same value as {@link #hasTotals()}, because the exact total
+     * is computed.
+     *
+     * @return {@code true} if totals are available.
+     */
+    @Override
+    public boolean hasTotalsEstimate() {
+        return hasTotals();
+    }
+
+    /**
+     * Returns the same value as {@link #totalElements()}, waiting for the
+     * total to be computed if necessary.
+     *
+     * @return the total number of elements across all pages.
+     * @throws IllegalStateException if the total was not requested or its
+     *         computation was cancelled.
+     * @throws DataException if the computation of the total failed or the
+     *         current thread was interrupted while waiting for it.
+     */
+    @Override
+    public long totalElementsEstimate() {
+        return totalElements();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + '{' + pageRequest() +
+                ", numberOfElements=" + numberOfElements() +
+                ", totalElements=" + (totalElements == null || totalElements.isCancelled() ? "unavailable"
+                        : totalElements.isDone() ? "computed" : "pending") + '}';
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page.impl;
+
+import jakarta.data.page.Page;
+import jakarta.data.page.PageRequest;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Record type implementing {@link Page} for a page request that
+ * {@linkplain PageRequest#requestEstimatedTotal() requests an estimate}
+ * of the total number of elements instead of the exact total.
+ * This may be used to simplify implementation of a repository interface.
+ *
+ * @param pageRequest The {@link PageRequest page request} for which this
+ *                    page was obtained
+ * @param content The page content
+ * @param totalElementsEstimate An estimate of the total number of elements
+ *                              across all pages that can be requested for the
+ *                              query. A negative value indicates that an
+ *                              estimate is not available.
+ * @param moreResults whether there is a (nonempty) next page of results
+ * @param <T> The type of elements on the page
+ */
+public record EstimatedPageRecord<T>(PageRequest pageRequest, List<T> content, long totalElementsEstimate,
+                                     boolean moreResults)
+        implements Page<T> {
+
+    /**
+     * Constructs a new instance, computing the {@link #moreResults}
+     * component as {@code true} if the page {@code content} is a full
+     * page of results. Unlike {@link PageRecord}, the total is not
+     * consulted because an estimate cannot establish that there are
+     * no more results. A nonnegative estimate that is smaller than the
+     * number of elements up to and including this page is raised to
+     * that number.
+     *
+     * @param pageRequest           The {@link PageRequest page request} for
+     *                              which this page was obtained.
+     * @param content               The page content.
+     * @param totalElementsEstimate An estimate of the total number of elements
+     *                              across all pages that can be requested for
+     *                              the query. A negative value indicates that
+     *                              an estimate is not available.
+     */
+    public EstimatedPageRecord(PageRequest pageRequest, List<T> content, long totalElementsEstimate) {
+        this(pageRequest, content,
+                totalElementsEstimate < 0
+                        ? totalElementsEstimate
+                        : Math.max(totalElementsEstimate,
+                                   (pageRequest.page() - 1) * pageRequest.size() + content.size()),
+                content.size() == pageRequest.size());
+    }
+
+    @Override
+    public boolean hasContent() {
+        return !content.isEmpty();
+    }
+
+    @Override
+    public int numberOfElements() {
+        return content.size();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return moreResults;
+    }
+
+    @Override
+    public PageRequest nextPageRequest() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        return PageRequest.ofPage(pageRequest.page() + 1, pageRequest.size(), false)
+                .withEstimatedTotal();
+    }
+
+    @Override
+    public boolean hasPrevious() {
+        return pageRequest.page() > 1;
+    }
+
+    @Override
+    public PageRequest previousPageRequest() {
+        if (!hasPrevious()) {
+            throw new NoSuchElementException();
+        }
+
+        return PageRequest.ofPage(pageRequest.page() - 1, pageRequest.size(), false)
+                .withEstimatedTotal();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return content.iterator();
+    }
+
+    @Override
+    public boolean hasTotals() {
+        return false;
+    }
+
+    @Override
+    public long totalElements() {
+        throw new IllegalStateException("only an estimate of the total elements is available");
+    }
+
+    @Override
+    public long totalPages() {
+        throw new IllegalStateException("only an estimate of the total elements is available");
+    }
+
+    @Override
+    public boolean hasTotalsEstimate() {
+        return totalElementsEstimate >= 0;
+    }
+
+    @Override
+    public long totalElementsEstimate() {
+        if (totalElementsEstimate < 0) {
+            throw new IllegalStateException("an estimate of the total elements is not available");
+        }
+        return totalElementsEstimate;
+    }
+}
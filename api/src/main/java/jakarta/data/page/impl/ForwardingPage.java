@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page.impl;
+
+import jakarta.data.page.Page;
+import jakarta.data.page.PageRequest;
+
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Implementation of {@link Page} that delegates all operations to another
+ * page, which subclasses extend by overriding some of the operations.
+ *
+ * @param <T> the type of elements in this page.
+ */
+abstract class ForwardingPage<T> implements Page<T> {
+    private final Page<T> page;
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param page the page to which operations are delegated.
+     * @throws NullPointerException if the page is {@code null}.
+     */
+    ForwardingPage(Page<T> page) {
+        if (page == null) {
+            throw new NullPointerException("page is required");
+        }
+        this.page = page;
+    }
+
+    /**
+     * The page to which operations are delegated.
+     *
+     * @return the page.
+     */
+    Page<T> delegate() {
+        return page;
+    }
+
+    @Override
+    public List<T> content() {
+        return page.content();
+    }
+
+    @Override
+    public boolean hasContent() {
+        return page.hasContent();
+    }
+
+    @Override
+    public int numberOfElements() {
+        return page.numberOfElements();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return page.hasNext();
+    }
+
+    @Override
+    public boolean hasPrevious() {
+        return page.hasPrevious();
+    }
+
+    @Override
+    public PageRequest pageRequest() {
+        return page.pageRequest();
+    }
+
+    @Override
+    public PageRequest nextPageRequest() {
+        return page.nextPageRequest();
+    }
+
+    @Override
+    public PageRequest previousPageRequest() {
+        return page.previousPageRequest();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return page.iterator();
+    }
+
+    @Override
+    public boolean hasTotals() {
+        return page.hasTotals();
+    }
+
+    @Override
+    public long totalElements() {
+        return page.totalElements();
+    }
+
+    @Override
+    public long totalPages() {
+        return page.totalPages();
+    }
+
+    @Override
+    public boolean hasTotalsEstimate() {
+        return page.hasTotalsEstimate();
+    }
+
+    @Override
+    public long totalElementsEstimate() {
+        return page.totalElementsEstimate();
+    }
+
+    @Override
+    public boolean cancelTotal() {
+        return page.cancelTotal();
+    }
+
+    @Override
+    public boolean isPartial() {
+        return page.isPartial();
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page.impl;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * <p>An unmodifiable list of page content that materializes each element
+ * from the underlying row data the first time the element is accessed, and
+ * retains it for subsequent access. The {@link #size()} of the list is known
+ * up front, without materializing any element.</p>
+ *
+ * <p>A lazily materialized list may be supplied as the content of a
+ * {@link PageRecord}, {@link CursoredPageRecord} or
+ * {@link EstimatedPageRecord}, so that the entities of a page are only
+ * constructed if and when they are obtained from the page, for example,</p>
+ *
+ * <pre>
+ * List&lt;Object[]&gt; rows = ...; // fetched from the database
+ * return new PageRecord&lt;&gt;(pageRequest,
+ *                         LazyContent.of(rows, this::toEmployee),
+ *                         -1);
+ * </pre>
+ *
+ * <p>With this content, {@link jakarta.data.page.Page#numberOfElements()} and
+ * {@link jakarta.data.page.Page#hasContent()} do not materialize any entity,
+ * and {@link jakarta.data.page.Page#stream()} materializes only the entities
+ * that the stream consumes.</p>
+ *
+ * <p>Elements may be accessed concurrently. If several threads access the
+ * same element before it is materialized, the function that materializes it
+ * may be invoked more than once, but all threads observe the same element.
+ * The function must not return {@code null}.</p>
+ *
+ * <p>This may be used to simplify implementation of a repository interface.</p>
+ *
+ * @param <T> The type of elements in the list
+ */
+public final class LazyContent<T> extends AbstractList<T> implements RandomAccess {
+    private final IntFunction<? extends T> materializer;
+    private final AtomicReferenceArray<T> elements;
+
+    private LazyContent(int size, IntFunction<? extends T> materializer) {
+        this.materializer = materializer;
+        this.elements = new AtomicReferenceArray<>(size);
+    }
+
+    /**
+     * Creates a list that materializes each element by applying the supplied
+     * function to the row at the same position in the list of rows.
+     *
+     * @param <R>          The type of rows
+     * @param <T>          The type of elements in the list
+     * @param rows         the row data, one row per element. The list must not
+     *                     be modified while the content is in use.
+     * @param materializer function that constructs an element from a row.
+     * @return a new list. This method never returns {@code null}.
+     * @throws NullPointerException if either parameter is {@code null}.
+     */
+    @SuppressWarnings("PMD.LooseCoupling")
+    public static <R, T> LazyContent<T> of(List<R> rows, Function<? super R, ? extends T> materializer) {
+        Objects.requireNonNull(rows, "rows are required");
+        Objects.requireNonNull(materializer, "materializer is required");
+        return new LazyContent<>(rows.size(), index -> materializer.apply(rows.get(index)));
+    }
+
+    /**
+     * Creates a list of the specified size that materializes each element
+     * by applying the supplied function to the position of the element.
+     *
+     * @param <T>          The type of elements in the list
+     * @param size         the number of elements.
+     * @param materializer function that constructs the element at a position.
+     * @return a new list. This method never returns {@code null}.
+     * @throws IllegalArgumentException if the size is negative.
+     * @throws NullPointerException if the function is {@code null}.
+     */
+    @SuppressWarnings("PMD.LooseCoupling")
+    public static <T> LazyContent<T> of(int size, IntFunction<? extends T> materializer) {
+        if (size < 0) {
+            throw new IllegalArgumentException("size: " + size);
+        }
+        Objects.requireNonNull(materializer, "materializer is required");
+        return new LazyContent<>(size, materializer);
+    }
+
+    /**
+     * Returns the element at the specified position, materializing it
+     * if it has not been materialized already.
+     *
+     * @param index the position of the element.
+     * @return the element.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     * @throws NullPointerException if the element is materialized as {@code null}.
+     */
+    @Override
+    public T get(int index) {
+        T element = elements.get(Objects.checkIndex(index, elements.length()));
+        if (element == null) {
+            element = Objects.requireNonNull(materializer.apply(index), "materialized element");
+            if (!elements.compareAndSet(index, null, element)) {
+                element = elements.get(index);
+            }
+        }
+        return element;
+    }
+
+    /**
+     * Returns the number of elements, without materializing any.
+     *
+     * @return the number of elements.
+     */
+    @Override
+    public int size() {
+        return elements.length();
+    }
+
+    /**
+     * Determines whether the element at the specified position has been
+     * materialized already.
+     *
+     * @param index the position of the element.
+     * @return {@code true} if the element has been materialized, otherwise {@code false}.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    public boolean isMaterialized(int index) {
+        return elements.get(Objects.checkIndex(index, elements.length())) != null;
+    }
+}
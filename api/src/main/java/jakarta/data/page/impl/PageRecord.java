@@ -34,7 +34,9 @@ import java.util.NoSuchElementException;
  * @param totalElements The total number of elements across all pages that
  *                      can be requested for the query. A negative value
  *                      indicates that a total count of elements and pages
- *                      is not available.
+ *                      is not available. An estimate of the total must not
+ *                      be supplied here; use {@link EstimatedPageRecord}
+ *                      instead.
  * @param moreResults whether there is a (nonempty) next page of results
  * @param <T> The type of elements on the page
  */
@@ -85,9 +87,9 @@ public record PageRecord<T>(PageRequest pageRequest, List<T> content, long total
             throw new NoSuchElementException();
         }
 
-        return PageRequest.ofPage(pageRequest.page() + 1,
-                                  pageRequest.size(),
-                                  pageRequest.requestTotal());
+        return withTotalsOf(pageRequest, PageRequest.ofPage(pageRequest.page() + 1,
+                                                            pageRequest.size(),
+                                                            pageRequest.requestTotal()));
     }
 
     @Override
@@ -101,9 +103,9 @@ public record PageRecord<T>(PageRequest pageRequest, List<T> content, long total
             throw new NoSuchElementException();
         }
 
-        return PageRequest.ofPage(pageRequest.page() - 1,
+        return withTotalsOf(pageRequest, PageRequest.ofPage(pageRequest.page() - 1,
                 pageRequest.size(),
-                pageRequest.requestTotal());
+                pageRequest.requestTotal()));
     }
 
     @Override
@@ -132,4 +134,8 @@ public record PageRecord<T>(PageRequest pageRequest, List<T> content, long total
         int size = pageRequest.size();
         return (totalElements + size - 1) / size;
     }
+
+    private static PageRequest withTotalsOf(PageRequest current, PageRequest request) {
+        return current.requestEstimatedTotal() ? request.withEstimatedTotal() : request;
+    }
 }
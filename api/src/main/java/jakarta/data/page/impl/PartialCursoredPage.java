@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page.impl;
+
+import jakarta.data.page.CursoredPage;
+import jakarta.data.page.PageRequest;
+
+/**
+ * <p>Implementation of {@link CursoredPage} that marks a page of results as
+ * {@linkplain CursoredPage#isPartial() partial}, because the query stopped
+ * when its {@link jakarta.data.QueryBudget} was exhausted. All other
+ * operations are delegated to the supplied page, which holds the results that
+ * were obtained before the query stopped. This may be used to simplify
+ * implementation of a repository interface.</p>
+ *
+ * <pre>
+ * if (budget.isExhausted(scanned, Instant.now())) {
+ *     return new PartialCursoredPage&lt;&gt;(new CursoredPageRecord&lt;&gt;(
+ *             resultsSoFar, Product::cursor, -1, pageRequest, firstPage, false));
+ * }
+ * </pre>
+ *
+ * <p>The supplied page should indicate that there is a {@linkplain #hasNext()
+ * next page}, unless it is known that there are no more results, and its
+ * {@linkplain #nextPageRequest() next page request} must continue after
+ * the last result that was obtained, as the page requests of
+ * {@link CursoredPageRecord} do, which allows the caller to resume the
+ * query. Only cursor-based pages can be partial, because a partial page has
+ * fewer results than its page size and the page requests of offset-based
+ * pagination would skip the results that were not obtained.</p>
+ *
+ * @param <T> the type of elements in this page.
+ */
+public class PartialCursoredPage<T> extends ForwardingPage<T> implements CursoredPage<T> {
+    private final CursoredPage<T> page;
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param page a cursored page with the results that were obtained before the query stopped.
+     * @throws NullPointerException if the page is {@code null}.
+     */
+    public PartialCursoredPage(CursoredPage<T> page) {
+        super(page);
+        this.page = page;
+    }
+
+    /**
+     * Returns {@code true}.
+     *
+     * @return {@code true}.
+     */
+    @Override
+    public boolean isPartial() {
+        return true;
+    }
+
+    @Override
+    public PageRequest.Cursor cursor(int index) {
+        return page.cursor(index);
+    }
+
+    @Override
+    public String toString() {
+        return "PartialCursoredPage{" + page + '}';
+    }
+}
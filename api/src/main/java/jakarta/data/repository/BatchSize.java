@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.repository;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * <p>Specifies the number of entities in each batch of results of a
+ * repository query method that returns batches of results, or in each
+ * batch of entities that a repository lifecycle method writes to the
+ * database.</p>
+ *
+ * <p>A {@link Find @Find} method, {@link Query @Query} method, or Query by
+ * Method Name {@code find} method that is annotated {@code BatchSize} may
+ * have the return type {@code Stream<List<E>>}, where {@code E} is the
+ * entity type or the query result type. The method returns the query
+ * results as a stream of lists, in order, where every list holds exactly
+ * the specified number of results, except for the last list, which holds
+ * the remaining results and is never empty. For example,</p>
+ *
+ * <pre>
+ * &#64;Repository
+ * public interface Orders extends CrudRepository&lt;Order, Long&gt; {
+ *     &#64;BatchSize(1000)
+ *     &#64;Find
+ *     &#64;OrderBy(_Order.ID)
+ *     Stream&lt;List&lt;Order&gt;&gt; placedOn(LocalDate placedOn);
+ * }
+ * </pre>
+ *
+ * <pre>
+ * try (Stream&lt;List&lt;Order&gt;&gt; batches = orders.placedOn(today)) {
+ *     batches.forEach(archive::insertAll);
+ * }
+ * </pre>
+ *
+ * <p>A Jakarta Data provider should retrieve the results from the database
+ * in fetches of the batch size, so that each list corresponds to a round
+ * trip to the database. The lists are unmodifiable. As for any stream that
+ * is returned by a repository method, the caller must call
+ * {@link java.util.stream.BaseStream#close() close} on the stream.</p>
+ *
+ * <p>A Jakarta Data provider can use
+ * {@link jakarta.data.spi.Batches#of(java.util.stream.Stream, int)} to
+ * group a stream of results into batches.</p>
+ *
+ * <p>An {@link Insert @Insert} or {@link Save @Save} method that is annotated
+ * {@code BatchSize} may accept a {@code Stream<E>} or {@code Iterable<E>} of
+ * entities, so that large numbers of entities can be written without first
+ * collecting them into a {@code List}. Such a method is declared
+ * {@code void}, or returns the number of entities that were written as
+ * {@code long} or {@code int}, rather than the written entities. For
+ * example,</p>
+ *
+ * <pre>
+ * &#64;BatchSize(500)
+ * &#64;Insert
+ * long importAll(Stream&lt;Order&gt; orders);
+ * </pre>
+ *
+ * <p>The Jakarta Data provider consumes the entities in order and writes each
+ * batch of the specified size to the database, such as with a JDBC batch,
+ * before consuming the entities of the next batch, so that at most one batch
+ * of entities is held in memory. A stream that is supplied to the method is
+ * not closed by the method. If writing a batch fails, the batches that were
+ * written before it are not rolled back unless the method runs in a
+ * transaction that is rolled back. A provider can use
+ * {@link jakarta.data.spi.Batches#write(java.util.Iterator, int, java.util.function.Consumer)}
+ * to write entities in batches.</p>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface BatchSize {
+
+    /**
+     * <p>The number of results in each batch, which must be at least
+     * {@code 1}.</p>
+     *
+     * @return the batch size.
+     */
+    int value();
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.repository;
+
+import jakarta.data.Order;
+import jakarta.data.page.PageRequest;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * <p>Requests that the results of a repository query method be cached by
+ * the Jakarta Data provider, so that repeated invocations of the method with
+ * equal arguments return the cached results instead of querying the
+ * database.</p>
+ *
+ * <p>The annotation may be applied to a {@link Find @Find} or
+ * {@link Query @Query} method, a Query by Method Name method, or to the
+ * repository interface, in which case it applies to every query method of
+ * the repository that is not annotated {@code Cached} itself. For example,</p>
+ *
+ * <pre>
+ * &#64;Repository
+ * public interface Products extends BasicRepository&lt;Product, Long&gt; {
+ *     &#64;Cached(maxEntries = 500, ttl = 30)
+ *     &#64;Find
+ *     Page&lt;Product&gt; byCategory(String category, PageRequest pageRequest, Order&lt;Product&gt; order);
+ * }
+ * </pre>
+ *
+ * <p>Cached results are keyed by the repository method and the values of all
+ * of its arguments, compared by {@code equals}. In particular, a
+ * {@link PageRequest} argument matches a cached result only if its mode, page
+ * number, size, cursor and request for totals are all equal, and an
+ * {@link Order} argument matches only if its sort criteria are equal.</p>
+ *
+ * <p>A cached result is evicted when it is older than the configured
+ * {@link #ttl() time to live}, and the least recently used result is evicted
+ * when the number of cached results of the method would exceed
+ * {@link #maxEntries()}. In addition, cached results of all methods that
+ * query an entity type are evicted when an {@link Insert @Insert},
+ * {@link Update @Update}, {@link Delete @Delete} or {@link Save @Save}
+ * method, or a {@link Query @Query} method that performs an update or delete,
+ * of a repository of the same Jakarta Data provider operates on that entity
+ * type. Changes that are made to the database by other means are not
+ * observed until the cached results expire.</p>
+ *
+ * <p>Repeated invocations may return the same instances of entities and
+ * collections, which the application must not modify. Results that can only
+ * be consumed once, such as a {@link java.util.stream.Stream Stream}, are
+ * never cached. A Jakarta Data provider is permitted to ignore this
+ * annotation, in which case every invocation queries the database.</p>
+ *
+ * <p>A Jakarta Data provider can use {@link jakarta.data.spi.QueryCache} to
+ * implement this annotation.</p>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface Cached {
+
+    /**
+     * <p>The maximum number of results of the method to keep in the cache.</p>
+     *
+     * <p>The default value is {@code 1000}.</p>
+     *
+     * @return the maximum number of cached results.
+     */
+    int maxEntries() default 1000;
+
+    /**
+     * <p>The amount of time, in units of {@link #ttlUnit()}, for which a
+     * cached result may be returned after it was obtained from the
+     * database.</p>
+     *
+     * <p>The default value is {@code 60}.</p>
+     *
+     * @return the time to live of a cached result.
+     */
+    long ttl() default 60;
+
+    /**
+     * <p>The unit of the {@link #ttl() time to live}.</p>
+     *
+     * <p>The default value is {@link ChronoUnit#SECONDS}.</p>
+     *
+     * @return the unit of the time to live.
+     */
+    ChronoUnit ttlUnit() default ChronoUnit.SECONDS;
+}
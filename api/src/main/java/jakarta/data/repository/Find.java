@@ -61,7 +61,8 @@ import java.lang.annotation.Target;
  *     <li>{@code Optional<E>}, when the method returns at most a single instance,</li>
  *     <li>an entity array type {@code E[]},
  *     <li>{@code List<E>},</li>
- *     <li>{@code Stream<E>}, or</li>
+ *     <li>{@code Stream<E>},</li>
+ *     <li>{@code Stream<List<E>>}, when the method is annotated {@link BatchSize @BatchSize}, or</li>
  *     <li>{@code Page<E>} or {@code CursoredPage<E>}.</li>
  * </ul>
  *
@@ -106,7 +106,8 @@ import java.lang.annotation.Target;
  *     <li>{@code Optional<R>}, when the query returns at most a single result,</li>
  *     <li>an array type {@code R[]},
  *     <li>{@code List<R>},</li>
- *     <li>{@code Stream<R>}, or</li>
+ *     <li>{@code Stream<R>},</li>
+ *     <li>{@code Stream<List<R>>}, when the method is annotated {@link BatchSize @BatchSize}, or</li>
  *     <li>{@code Page<R>} or {@code CursoredPage<R>}.</li>
  * </ul>
  * <p>The method returns an object for every query result.</p>
@@ -40,6 +40,11 @@ import java.lang.annotation.Target;
  * <p>The annotated method must either be declared {@code void}, or have a return type that is the same as the type of
  * its parameter.
  * </p>
+ * <p>A {@code Save} method that is annotated {@link BatchSize @BatchSize} may instead have a parameter of type
+ * {@code Stream<E>} or {@code Iterable<E>}, in which case the entities are written in batches of the specified size as
+ * they are consumed, and the method must either be declared {@code void}, or have the return type {@code long} or
+ * {@code int}, which is the number of entities that were saved.
+ * </p>
  * <p>All Jakarta Data providers are required to accept a {@code Save} method which conforms to this signature.
  * Application of the {@code Save} annotation to a method with any other signature is not portable between Jakarta Data
  * providers.
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.restrict;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <p>A restriction that compares the value of an entity attribute with
+ * zero or more values using an {@link Operator}.</p>
+ *
+ * <p>The record is put into canonical form when it is constructed:
+ * {@link Operator#EQUAL} and {@link Operator#NOT_EQUAL} with a {@code null}
+ * value become {@link Operator#NULL} and {@link Operator#NOT_NULL}, duplicate
+ * values of {@link Operator#IN} and {@link Operator#NOT_IN} are removed, and
+ * {@code IN} or {@code NOT IN} a single value becomes {@code EQUAL} or
+ * {@code NOT_EQUAL}.</p>
+ *
+ * @param <T>       entity class of the attribute.
+ * @param attribute the name of the entity attribute.
+ * @param operator  the comparison operator.
+ * @param values    the values with which the attribute value is compared.
+ */
+public record BasicRestriction<T>(String attribute, Operator operator, List<Object> values)
+        implements Restriction<T> {
+
+    /**
+     * Constructs a restriction in canonical form.
+     *
+     * @throws IllegalArgumentException if the number of values does not match the
+     *                                  {@linkplain Operator#arity() arity} of the operator.
+     * @throws NullPointerException     if any parameter is {@code null} or a value other than
+     *                                  the value of {@code EQUAL} or {@code NOT_EQUAL} is {@code null}.
+     */
+    @SuppressWarnings("PMD.UnusedAssignment")
+    public BasicRestriction {
+        Objects.requireNonNull(attribute, "attribute is required");
+        Objects.requireNonNull(operator, "operator is required");
+        Objects.requireNonNull(values, "values are required");
+        if ((operator == Operator.EQUAL || operator == Operator.NOT_EQUAL)
+                && values.size() == 1 && values.get(0) == null) {
+            operator = operator == Operator.EQUAL ? Operator.NULL : Operator.NOT_NULL;
+            values = List.of();
+        } else if (operator.arity() < 0) {
+            if (values.isEmpty()) {
+                throw new IllegalArgumentException(operator + " requires at least one value");
+            }
+            values = new ArrayList<>(new LinkedHashSet<>(values));
+            if (values.size() == 1) {
+                operator = operator == Operator.IN ? Operator.EQUAL : Operator.NOT_EQUAL;
+            }
+        } else if (values.size() != operator.arity()) {
+            throw new IllegalArgumentException(operator + " requires " + operator.arity()
+                    + " values, not " + values.size());
+        }
+        for (Object value : values) {
+            Objects.requireNonNull(value, "values must not be null");
+        }
+        values = List.copyOf(values);
+    }
+
+    @Override
+    public Restriction<T> negate() {
+        return new BasicRestriction<>(attribute, operator.negate(), values);
+    }
+
+    @Override
+    public String toString() {
+        return shape() + ' ' + values;
+    }
+}
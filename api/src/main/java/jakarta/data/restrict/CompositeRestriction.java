@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.restrict;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <p>A restriction that combines other restrictions, requiring that
+ * {@linkplain Type#ALL all} or {@linkplain Type#ANY any} of them are satisfied,
+ * or, if {@code negated}, that they are not.</p>
+ *
+ * <p>The combinations that are obtained from {@link Restriction#all(List)}
+ * and {@link Restriction#any(List)} are in canonical form. The record
+ * constructor retains the restrictions as supplied.</p>
+ *
+ * @param <T>          entity class of the attributes that are restricted.
+ * @param type         how the restrictions are combined.
+ * @param restrictions the restrictions that are combined.
+ * @param negated      whether the combination is negated.
+ */
+public record CompositeRestriction<T>(Type type, List<Restriction<T>> restrictions, boolean negated)
+        implements Restriction<T> {
+
+    /**
+     * How the restrictions of a composite restriction are combined.
+     */
+    public enum Type {
+        /**
+         * All of the restrictions must be satisfied.
+         */
+        ALL,
+        /**
+         * At least one of the restrictions must be satisfied.
+         */
+        ANY
+    }
+
+    private static final CompositeRestriction<?> UNRESTRICTED = new CompositeRestriction<>(Type.ALL, List.of(), false);
+
+    /**
+     * Constructs a composite restriction.
+     *
+     * @throws IllegalArgumentException if there are no restrictions, unless the
+     *                                  type is {@code ALL} and it is not negated.
+     * @throws NullPointerException     if a parameter or restriction is {@code null}.
+     */
+    public CompositeRestriction {
+        Objects.requireNonNull(type, "type is required");
+        restrictions = List.copyOf(restrictions);
+        if (restrictions.isEmpty() && (type == Type.ANY || negated)) {
+            throw new IllegalArgumentException("At least one restriction is required");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> Restriction<T> unrestricted() {
+        return (Restriction<T>) UNRESTRICTED;
+    }
+
+    /**
+     * Combines restrictions in canonical form.
+     *
+     * @param type         how the restrictions are combined.
+     * @param restrictions the restrictions.
+     * @return the combined restriction.
+     */
+    @SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
+    static <T> Restriction<T> of(Type type, List<? extends Restriction<T>> restrictions) {
+        List<Restriction<T>> members = new ArrayList<>(restrictions.size());
+        for (Restriction<T> restriction : restrictions) {
+            Objects.requireNonNull(restriction, "restriction is required");
+            if (restriction.isUnrestricted()) {
+                if (type == Type.ANY) {
+                    return restriction;
+                }
+            } else if (restriction instanceof CompositeRestriction<T> composite
+                    && composite.type == type && !composite.negated) {
+                members.addAll(composite.restrictions);
+            } else {
+                members.add(restriction);
+            }
+        }
+
+        if (members.isEmpty()) {
+            if (type == Type.ANY) {
+                throw new IllegalArgumentException("At least one restriction is required");
+            }
+            return unrestricted();
+        } else if (members.size() == 1) {
+            return members.get(0);
+        }
+
+        List<Shaped<T>> shaped = new ArrayList<>(members.size());
+        for (Restriction<T> member : members) {
+            shaped.add(new Shaped<>(member.shape(), member));
+        }
+        shaped.sort(Comparator.comparing(Shaped::shape));
+        members = shaped.stream().map(Shaped::restriction).toList();
+        return new CompositeRestriction<>(type, members, false);
+    }
+
+    @Override
+    public Restriction<T> negate() {
+        if (restrictions.isEmpty()) {
+            throw new UnsupportedOperationException("An unrestricted restriction cannot be negated");
+        }
+        return new CompositeRestriction<>(type, restrictions, !negated);
+    }
+
+    @Override
+    public String toString() {
+        return shape() + ' ' + values();
+    }
+
+    /**
+     * A restriction with its shape, for ordering.
+     */
+    private record Shaped<T>(String shape, Restriction<T> restriction) {
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.restrict;
+
+/**
+ * Comparison operators of a {@link BasicRestriction}.
+ */
+public enum Operator {
+    /**
+     * The attribute value is equal to the value.
+     */
+    EQUAL("=", 1),
+    /**
+     * The attribute value is not equal to the value.
+     */
+    NOT_EQUAL("<>", 1),
+    /**
+     * The attribute value is less than the value.
+     */
+    LESS_THAN("<", 1),
+    /**
+     * The attribute value is less than or equal to the value.
+     */
+    LESS_THAN_EQUAL("<=", 1),
+    /**
+     * The attribute value is greater than the value.
+     */
+    GREATER_THAN(">", 1),
+    /**
+     * The attribute value is greater than or equal to the value.
+     */
+    GREATER_THAN_EQUAL(">=", 1),
+    /**
+     * The attribute value is between two values, inclusive.
+     */
+    BETWEEN("BETWEEN", 2),
+    /**
+     * The attribute value is not between two values.
+     */
+    NOT_BETWEEN("NOT BETWEEN", 2),
+    /**
+     * The attribute value is one of one or more values.
+     */
+    IN("IN", -1),
+    /**
+     * The attribute value is none of one or more values.
+     */
+    NOT_IN("NOT IN", -1),
+    /**
+     * The attribute value matches a pattern, where {@code _} matches any single
+     * character and {@code %} matches any sequence of characters.
+     */
+    LIKE("LIKE", 1),
+    /**
+     * The attribute value does not match a pattern.
+     */
+    NOT_LIKE("NOT LIKE", 1),
+    /**
+     * The attribute value is {@code null}.
+     */
+    NULL("IS NULL", 0),
+    /**
+     * The attribute value is not {@code null}.
+     */
+    NOT_NULL("IS NOT NULL", 0);
+
+    private final String symbol;
+    private final int arity;
+
+    Operator(String symbol, int arity) {
+        this.symbol = symbol;
+        this.arity = arity;
+    }
+
+    /**
+     * The operator as it appears in a conditional expression of the
+     * Jakarta Data Query Language, for example, {@code <=} or {@code NOT LIKE}.
+     *
+     * @return the JDQL operator.
+     */
+    public String symbol() {
+        return symbol;
+    }
+
+    /**
+     * The number of values that the operator compares the attribute value with,
+     * or {@code -1} if the operator accepts one or more values.
+     *
+     * @return the number of values.
+     */
+    public int arity() {
+        return arity;
+    }
+
+    /**
+     * Obtains the operator that matches exactly the attribute values that
+     * this operator does not match.
+     *
+     * @return the negated operator.
+     */
+    public Operator negate() {
+        return switch (this) {
+            case EQUAL -> NOT_EQUAL;
+            case NOT_EQUAL -> EQUAL;
+            case LESS_THAN -> GREATER_THAN_EQUAL;
+            case LESS_THAN_EQUAL -> GREATER_THAN;
+            case GREATER_THAN -> LESS_THAN_EQUAL;
+            case GREATER_THAN_EQUAL -> LESS_THAN;
+            case BETWEEN -> NOT_BETWEEN;
+            case NOT_BETWEEN -> BETWEEN;
+            case IN -> NOT_IN;
+            case NOT_IN -> IN;
+            case LIKE -> NOT_LIKE;
+            case NOT_LIKE -> LIKE;
+            case NULL -> NOT_NULL;
+            case NOT_NULL -> NULL;
+        };
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.restrict;
+
+import java.util.List;
+
+/**
+ * <p>A condition on the attributes of an entity that is constructed at run time
+ * and supplied to a repository method as a special parameter, alongside
+ * special parameters such as {@link jakarta.data.Order} and
+ * {@link jakarta.data.page.PageRequest}. The condition is combined with the
+ * conditions of the query that the repository method performs, if any, by a
+ * logical AND. For example,</p>
+ *
+ * <pre>
+ * &#64;Find
+ * Page&lt;Product&gt; search(Restriction&lt;Product&gt; filter, Order&lt;Product&gt; order, PageRequest pageRequest);
+ *
+ * ...
+ *
+ * List&lt;Restriction&lt;Product&gt;&gt; filters = new ArrayList&lt;&gt;();
+ * if (maxPrice != null) {
+ *     filters.add(_Product.price.lessThanEqual(maxPrice));
+ * }
+ * if (namePattern != null) {
+ *     filters.add(_Product.name.like(namePattern));
+ * }
+ * page1 = products.search(Restriction.all(filters),
+ *                         Order.by(_Product.price.desc()),
+ *                         PageRequest.ofSize(20));
+ * </pre>
+ *
+ * <p>Restrictions are obtained from the
+ * {@linkplain jakarta.data.metamodel.TypedAttribute typed attributes} of the
+ * {@linkplain jakarta.data.metamodel.StaticMetamodel static metamodel}, which
+ * accept only values of the type of the attribute, and are
+ * combined with {@link #all(List) all}, {@link #any(List) any} and
+ * {@link #not(Restriction) not}. Combining restrictions produces a canonical
+ * form: nested restrictions of the same kind are flattened, a combination of a
+ * single restriction is that restriction, and the restrictions of a combination
+ * are ordered by their {@linkplain #shape() shape}. Comparing with a {@code null}
+ * value becomes a {@code null} check, and negation is pushed into the comparison
+ * operator. Therefore, restrictions that differ only in their values have the
+ * same shape, which a Jakarta Data provider can use as the key for caching the
+ * query or prepared statement that it compiles for the restriction.</p>
+ *
+ * @param <T> entity class of the attributes that are restricted.
+ */
+public sealed interface Restriction<T> permits BasicRestriction, CompositeRestriction {
+
+    /**
+     * Obtains a restriction that does not restrict the results.
+     * It is the combination of {@linkplain #all(List) all} of no restrictions.
+     *
+     * @param <T> entity class.
+     * @return a restriction that every entity satisfies.
+     */
+    static <T> Restriction<T> unrestricted() {
+        return CompositeRestriction.unrestricted();
+    }
+
+    /**
+     * Combines restrictions such that all of them must be satisfied.
+     *
+     * @param <T>          entity class.
+     * @param restrictions the restrictions.
+     * @return the combined restriction.
+     * @throws NullPointerException if a restriction is {@code null}.
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    static <T> Restriction<T> all(Restriction<T>... restrictions) {
+        return all(List.of(restrictions));
+    }
+
+    /**
+     * Combines restrictions such that all of them must be satisfied.
+     * The combination of an empty list is {@linkplain #unrestricted() unrestricted}.
+     *
+     * @param <T>          entity class.
+     * @param restrictions the restrictions.
+     * @return the combined restriction.
+     * @throws NullPointerException if a restriction is {@code null}.
+     */
+    static <T> Restriction<T> all(List<? extends Restriction<T>> restrictions) {
+        return CompositeRestriction.of(CompositeRestriction.Type.ALL, restrictions);
+    }
+
+    /**
+     * Combines restrictions such that at least one of them must be satisfied.
+     *
+     * @param <T>          entity class.
+     * @param restrictions the restrictions.
+     * @return the combined restriction.
+     * @throws IllegalArgumentException if no restrictions are supplied.
+     * @throws NullPointerException     if a restriction is {@code null}.
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    static <T> Restriction<T> any(Restriction<T>... restrictions) {
+        return any(List.of(restrictions));
+    }
+
+    /**
+     * Combines restrictions such that at least one of them must be satisfied.
+     *
+     * @param <T>          entity class.
+     * @param restrictions the restrictions.
+     * @return the combined restriction.
+     * @throws IllegalArgumentException if the list is empty.
+     * @throws NullPointerException     if a restriction is {@code null}.
+     */
+    static <T> Restriction<T> any(List<? extends Restriction<T>> restrictions) {
+        return CompositeRestriction.of(CompositeRestriction.Type.ANY, restrictions);
+    }
+
+    /**
+     * Obtains a restriction that is satisfied when the supplied restriction is not.
+     *
+     * @param <T>         entity class.
+     * @param restriction the restriction to negate.
+     * @return the negated restriction.
+     * @throws UnsupportedOperationException if the restriction is {@linkplain #unrestricted() unrestricted}.
+     */
+    static <T> Restriction<T> not(Restriction<T> restriction) {
+        return restriction.negate();
+    }
+
+    /**
+     * Combines this restriction with another such that both must be satisfied.
+     *
+     * @param other the other restriction.
+     * @return the combined restriction.
+     */
+    default Restriction<T> and(Restriction<T> other) {
+        return all(List.of(this, other));
+    }
+
+    /**
+     * Combines this restriction with another such that at least one must be satisfied.
+     *
+     * @param other the other restriction.
+     * @return the combined restriction.
+     */
+    default Restriction<T> or(Restriction<T> other) {
+        return any(List.of(this, other));
+    }
+
+    /**
+     * Obtains a restriction that is satisfied when this restriction is not.
+     *
+     * @return the negated restriction.
+     * @throws UnsupportedOperationException if this restriction is {@linkplain #unrestricted() unrestricted}.
+     */
+    Restriction<T> negate();
+
+    /**
+     * Indicates whether the restriction is satisfied by every entity.
+     *
+     * @return whether this restriction is {@linkplain #unrestricted() unrestricted}.
+     */
+    default boolean isUnrestricted() {
+        return this instanceof CompositeRestriction<T> composite && composite.restrictions().isEmpty();
+    }
+
+    /**
+     * <p>Obtains the shape of the restriction, which is a conditional expression
+     * in the Jakarta Data Query Language in which each value is replaced by a
+     * positional parameter, {@code ?1}, {@code ?2} and so forth, in the order of
+     * the {@linkplain #values() values}. For example,</p>
+     *
+     * <pre>
+     * name LIKE ?1 AND (price &lt; ?2 OR price &gt; ?3)
+     * </pre>
+     *
+     * <p>The shape of an {@linkplain #unrestricted() unrestricted} restriction is
+     * the empty string.</p>
+     *
+     * @return the shape of the restriction.
+     */
+    default String shape() {
+        return Shapes.shape(this);
+    }
+
+    /**
+     * Obtains the values of the restriction, in the order of the positional
+     * parameters of its {@linkplain #shape() shape}.
+     *
+     * @return the values of the restriction.
+     */
+    default List<Object> values() {
+        return Shapes.values(this);
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.restrict;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Computes the {@linkplain Restriction#shape() shape} and
+ * {@linkplain Restriction#values() values} of restrictions.
+ */
+final class Shapes {
+
+    private Shapes() {
+    }
+
+    static String shape(Restriction<?> restriction) {
+        StringBuilder shape = new StringBuilder();
+        write(restriction, shape, new int[]{1});
+        return shape.toString();
+    }
+
+    static List<Object> values(Restriction<?> restriction) {
+        if (restriction instanceof BasicRestriction<?> basic) {
+            return basic.values();
+        }
+        List<Object> values = new ArrayList<>();
+        collect(restriction, values);
+        return Collections.unmodifiableList(values);
+    }
+
+    private static void collect(Restriction<?> restriction, List<Object> values) {
+        if (restriction instanceof BasicRestriction<?> basic) {
+            values.addAll(basic.values());
+        } else {
+            for (Restriction<?> member : ((CompositeRestriction<?>) restriction).restrictions()) {
+                collect(member, values);
+            }
+        }
+    }
+
+    /**
+     * Writes the shape of a restriction.
+     *
+     * @param restriction the restriction.
+     * @param shape       the shape that is being written.
+     * @param next        the number of the next positional parameter, which is updated.
+     */
+    @SuppressWarnings("PMD.UseVarargs")
+    private static void write(Restriction<?> restriction, StringBuilder shape, int[] next) {
+        if (restriction instanceof BasicRestriction<?> basic) {
+            Operator operator = basic.operator();
+            shape.append(basic.attribute()).append(' ').append(operator.symbol());
+            if (operator == Operator.BETWEEN || operator == Operator.NOT_BETWEEN) {
+                shape.append(" ?").append(next[0]++).append(" AND ?").append(next[0]++);
+            } else if (operator.arity() < 0) {
+                shape.append(" (");
+                for (int i = 0; i < basic.values().size(); i++) {
+                    shape.append(i == 0 ? "?" : ", ?").append(next[0]++);
+                }
+                shape.append(')');
+            } else if (operator.arity() == 1) {
+                shape.append(" ?").append(next[0]++);
+            }
+            return;
+        }
+
+        CompositeRestriction<?> composite = (CompositeRestriction<?>) restriction;
+        if (composite.negated()) {
+            shape.append("NOT (");
+        }
+        String separator = composite.type() == CompositeRestriction.Type.ALL ? " AND " : " OR ";
+        List<? extends Restriction<?>> members = composite.restrictions();
+        for (int i = 0; i < members.size(); i++) {
+            Restriction<?> member = members.get(i);
+            if (i > 0) {
+                shape.append(separator);
+            }
+            if (member instanceof CompositeRestriction<?> nested && !nested.negated()) {
+                shape.append('(');
+                write(member, shape, next);
+                shape.append(')');
+            } else {
+                write(member, shape, next);
+            }
+        }
+        if (composite.negated()) {
+            shape.append(')');
+        }
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+/**
+ * <p>Restrictions on entity attributes that are constructed at run time and
+ * supplied to repository methods as a special parameter.</p>
+ *
+ * <p>A {@link jakarta.data.restrict.Restriction} is usually obtained from a
+ * {@linkplain jakarta.data.metamodel.TypedAttribute typed attribute} of the
+ * {@linkplain jakarta.data.metamodel.StaticMetamodel static metamodel},
+ * for example, {@code _Product.price.between(min, max)}, and combined with other
+ * restrictions. Restrictions have a canonical {@linkplain jakarta.data.restrict.Restriction#shape() shape}
+ * that is independent of their values, so that a Jakarta Data provider can reuse the
+ * query that it compiles for restrictions that differ only in their values.</p>
+ *
+ * <p>The module Javadoc provides an {@link jakarta.data/ overview} of Jakarta Data.</p>
+ */
+package jakarta.data.restrict;
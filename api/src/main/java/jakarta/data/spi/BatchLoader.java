@@ -0,0 +1,293 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * <p>Coalesces concurrent lookups of single entities by identifier, such as
+ * invocations of {@link jakarta.data.repository.BasicRepository#findById(Object)
+ * findById}, into batches, so that a Jakarta Data provider retrieves each
+ * batch with a single query for multiple identifiers rather than with a round
+ * trip to the database per lookup.</p>
+ *
+ * <pre>
+ * BatchLoader&lt;UUID, Address&gt; loader = new BatchLoader&lt;&gt;(100, Duration.ofMillis(2),
+ *         ids -&gt; addresses.findById(ids), Address::id);
+ * ...
+ * Optional&lt;Address&gt; address = loader.load(id);
+ * </pre>
+ *
+ * <p>The first lookup that finds no batch collecting identifiers opens a batch
+ * and waits up to the maximum wait time for other lookups to join it. The batch
+ * is closed when the wait time has elapsed or the batch has reached its maximum
+ * size, whichever occurs first, and is then retrieved on the thread of the lookup
+ * that opened it. Each lookup in the batch receives the entity with its identifier,
+ * as determined by the identifier function, or an empty result if the batch query
+ * did not return such an entity. Lookups of the same identifier within a batch
+ * share one result. If the batch query fails, every lookup in the batch raises
+ * the exception.</p>
+ *
+ * <p>Because the batch query runs on the thread of whichever lookup opened the
+ * batch, it runs in the transaction, persistence context, security context and
+ * tenant of that lookup, on behalf of every lookup in the batch. A loader must
+ * therefore only be used for lookups that are made outside of a transaction, and
+ * only with a query function that does not depend on the context of its thread,
+ * for example, because it obtains its own connection as a single tenant with
+ * the same access to every entity that can be looked up. Lookups in a
+ * transaction, or in contexts that differ in what they may see, must not share a
+ * loader and must query the repository directly instead.</p>
+ *
+ * <p>Coalescing adds up to the maximum wait time to the latency of a lookup that
+ * opens a batch, in exchange for fewer round trips under concurrent load.
+ * The {@linkplain #statistics() statistics} report the sizes of the batches and the
+ * time that lookups waited for their batch to close, for tuning the maximum batch
+ * size and wait time.</p>
+ *
+ * <p>Instances are safe for concurrent use.</p>
+ *
+ * @param <K> type of entity identifier.
+ * @param <T> entity type.
+ */
+public final class BatchLoader<K, T> {
+    private final int maxBatchSize;
+    private final long maxWaitNanos;
+    private final Function<? super List<K>, ? extends Iterable<? extends T>> query;
+    private final Function<? super T, ? extends K> identifier;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition closed = lock.newCondition();
+
+    /**
+     * The batch that is collecting identifiers, if any. Guarded by the lock.
+     */
+    private Batch<K, T> open;
+
+    private long batches;
+    private long requests;
+    private long keys;
+    private int largestBatch;
+    private long waitNanos;
+
+    /**
+     * Creates a loader.
+     *
+     * @param maxBatchSize the maximum number of distinct identifiers per batch.
+     * @param maxWait      the maximum time to wait for a batch to fill. With {@code Duration.ZERO},
+     *                     the lookup that opens a batch closes it before any other lookup can
+     *                     join, so that each lookup is retrieved in a batch of its own.
+     * @param query        retrieves the entities with any of a list of identifiers, independently
+     *                     of the context of the thread that applies it.
+     * @param identifier   obtains the identifier of an entity that is returned by the query.
+     * @throws IllegalArgumentException if the maximum batch size is less than 1 or the wait time is negative.
+     * @throws NullPointerException     if any parameter is {@code null}.
+     */
+    public BatchLoader(int maxBatchSize, Duration maxWait,
+                       Function<? super List<K>, ? extends Iterable<? extends T>> query,
+                       Function<? super T, ? extends K> identifier) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize: " + maxBatchSize);
+        } else if (maxWait.isNegative()) {
+            throw new IllegalArgumentException("maxWait: " + maxWait);
+        }
+        this.maxBatchSize = maxBatchSize;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.query = Objects.requireNonNull(query, "query is required");
+        this.identifier = Objects.requireNonNull(identifier, "identifier is required");
+    }
+
+    /**
+     * Looks up the entity with an identifier as part of a batch.
+     *
+     * @param id the identifier.
+     * @return the entity, or an empty result if there is no entity with the identifier.
+     * @throws NullPointerException if the identifier is {@code null}.
+     */
+    public Optional<T> load(K id) {
+        Objects.requireNonNull(id, "id is required");
+        long start = System.nanoTime();
+        Batch<K, T> batch;
+        CompletableFuture<Optional<T>> result;
+        boolean leader;
+        lock.lock();
+        try {
+            leader = open == null;
+            if (leader) {
+                open = new Batch<>(new LinkedHashMap<>());
+            }
+            batch = open;
+            result = batch.results().computeIfAbsent(id, k -> new CompletableFuture<>());
+            requests++;
+            if (batch.results().size() >= maxBatchSize) {
+                close(batch);
+            }
+            if (leader) {
+                await(batch, start);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (leader) {
+            retrieve(batch);
+        }
+        waited(start);
+        return join(result);
+    }
+
+    /**
+     * Waits, while holding the lock, until the batch is closed by another
+     * lookup or the maximum wait time elapses, and then closes the batch.
+     */
+    private void await(Batch<K, T> batch, long start) {
+        long remaining = maxWaitNanos - (System.nanoTime() - start);
+        try {
+            while (open == batch && remaining > 0L) {
+                remaining = closed.awaitNanos(remaining);
+            }
+        } catch (InterruptedException x) {
+            Thread.currentThread().interrupt();
+        }
+        if (open == batch) {
+            close(batch);
+        }
+    }
+
+    private void close(Batch<K, T> batch) {
+        open = null;
+        batches++;
+        keys += batch.results().size();
+        largestBatch = Math.max(largestBatch, batch.results().size());
+        closed.signalAll();
+    }
+
+    /**
+     * Retrieves the entities of a closed batch and completes its lookups.
+     */
+    @SuppressWarnings("PMD.AvoidCatchingThrowable")
+    private void retrieve(Batch<K, T> batch) {
+        try {
+            Map<K, T> found = new LinkedHashMap<>();
+            for (T entity : query.apply(new ArrayList<>(batch.results().keySet()))) {
+                if (entity != null) {
+                    found.putIfAbsent(identifier.apply(entity), entity);
+                }
+            }
+            batch.results().forEach((id, result) -> result.complete(Optional.ofNullable(found.get(id))));
+        } catch (Throwable x) {
+            batch.results().values().forEach(result -> result.completeExceptionally(x));
+        }
+    }
+
+    private void waited(long start) {
+        long elapsed = System.nanoTime() - start;
+        lock.lock();
+        try {
+            waitNanos += elapsed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waits for the result of a lookup, raising the exception of the batch query,
+     * if any, unwrapped.
+     */
+    @SuppressWarnings("PMD.PreserveStackTrace")
+    private static <T> Optional<T> join(CompletableFuture<Optional<T>> result) {
+        try {
+            return result.join();
+        } catch (CompletionException x) {
+            if (x.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            } else if (x.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw x;
+        }
+    }
+
+    /**
+     * Obtains statistics about the batches that have been closed so far.
+     *
+     * @return the statistics.
+     */
+    public Statistics statistics() {
+        lock.lock();
+        try {
+            return new Statistics(batches, requests, keys, largestBatch, Duration.ofNanos(waitNanos));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "BatchLoader{maxBatchSize=" + maxBatchSize + ", maxWait=" + Duration.ofNanos(maxWaitNanos) + '}';
+    }
+
+    /**
+     * Statistics of a {@link BatchLoader}.
+     *
+     * @param batches      number of batches that were closed.
+     * @param requests     number of lookups.
+     * @param keys         number of distinct identifiers in closed batches.
+     * @param largestBatch the largest number of distinct identifiers in a batch.
+     * @param totalWait    total time that lookups waited for their batch to be retrieved,
+     *                     including the time of the batch query.
+     */
+    public record Statistics(long batches, long requests, long keys, int largestBatch, Duration totalWait) {
+
+        /**
+         * Returns the average number of distinct identifiers per batch.
+         *
+         * @return the average batch size, or {@code 0.0} if no batches were closed.
+         */
+        public double averageBatchSize() {
+            return batches == 0 ? 0.0 : (double) keys / batches;
+        }
+
+        /**
+         * Returns the average time that a lookup waited for its batch to be retrieved.
+         *
+         * @return the average wait time, or {@code Duration.ZERO} if there were no lookups.
+         */
+        public Duration averageWait() {
+            return requests == 0 ? Duration.ZERO : totalWait.dividedBy(requests);
+        }
+    }
+
+    /**
+     * A batch of lookups.
+     *
+     * @param results results of the lookups, by identifier, in the order in which they were requested.
+     */
+    private record Batch<K, T>(Map<K, CompletableFuture<Optional<T>>> results) {
+    }
+}
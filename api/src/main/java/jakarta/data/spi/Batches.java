@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * <p>Groups results, or entities to write, into batches of a fixed size,
+ * which a Jakarta Data provider can use to implement repository methods
+ * that are annotated {@link jakarta.data.repository.BatchSize BatchSize}.</p>
+ */
+public final class Batches {
+
+    private Batches() {
+    }
+
+    /**
+     * <p>Returns a stream of unmodifiable lists of the elements of the
+     * supplied stream, in order, where every list holds {@code size}
+     * elements, except for the last list, which holds the remaining
+     * elements and is never empty.</p>
+     *
+     * <p>The elements are consumed lazily, one batch at a time. Closing the
+     * returned stream closes the supplied stream.</p>
+     *
+     * @param <T>    the type of elements.
+     * @param source the elements to group into batches.
+     * @param size   the number of elements per batch.
+     * @return a sequential stream of batches. This method never returns {@code null}.
+     * @throws IllegalArgumentException if the size is less than 1.
+     * @throws NullPointerException if the stream is {@code null}.
+     */
+    public static <T> Stream<List<T>> of(Stream<T> source, int size) {
+        Objects.requireNonNull(source, "source is required");
+        if (size < 1) {
+            throw new IllegalArgumentException("size: " + size);
+        }
+        return StreamSupport.stream(new BatchSpliterator<>(source.spliterator(), size), false)
+                .onClose(source::close);
+    }
+
+    /**
+     * <p>Consumes elements in order and passes them to a writer in unmodifiable
+     * lists of {@code size} elements, except for the last list, which holds the
+     * remaining elements and is never empty. Each batch is collected only after
+     * the writer has returned from the previous batch, so that at most one batch
+     * is held in memory unless the writer retains the lists.</p>
+     *
+     * <p>If the writer raises an exception, no further elements are consumed
+     * and the exception is raised to the caller.</p>
+     *
+     * @param <T>    the type of elements.
+     * @param source the elements to write.
+     * @param size   the number of elements per batch.
+     * @param writer writes a batch of elements, for example, as a JDBC batch.
+     * @return the number of elements that were written.
+     * @throws IllegalArgumentException if the size is less than 1.
+     * @throws NullPointerException if the source or writer is {@code null}.
+     */
+    @SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
+    public static <T> long write(Iterator<? extends T> source, int size, Consumer<? super List<T>> writer) {
+        Objects.requireNonNull(source, "source is required");
+        Objects.requireNonNull(writer, "writer is required");
+        if (size < 1) {
+            throw new IllegalArgumentException("size: " + size);
+        }
+        long written = 0L;
+        while (source.hasNext()) {
+            List<T> batch = new ArrayList<>(size);
+            while (batch.size() < size && source.hasNext()) {
+                batch.add(source.next());
+            }
+            writer.accept(Collections.unmodifiableList(batch));
+            written += batch.size();
+        }
+        return written;
+    }
+
+    /**
+     * Splits a spliterator of elements into batches of elements.
+     */
+    private static final class BatchSpliterator<T> implements Spliterator<List<T>> {
+        private final Spliterator<T> source;
+        private final int size;
+
+        BatchSpliterator(Spliterator<T> source, int size) {
+            this.source = source;
+            this.size = size;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super List<T>> action) {
+            List<T> batch = new ArrayList<>(size);
+            while (batch.size() < size && source.tryAdvance(batch::add)) {
+                // the element was added to the batch
+            }
+            if (batch.isEmpty()) {
+                return false;
+            }
+            action.accept(Collections.unmodifiableList(batch));
+            return true;
+        }
+
+        @Override
+        public Spliterator<List<T>> trySplit() {
+            return null;
+        }
+
+        @Override
+        public long estimateSize() {
+            long elements = source.estimateSize();
+            return elements == Long.MAX_VALUE ? Long.MAX_VALUE : (elements + size - 1) / size;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | NONNULL | (source.characteristics() & SIZED);
+        }
+    }
+}
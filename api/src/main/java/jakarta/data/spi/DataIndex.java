@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * <p>An index of the entity classes and {@link jakarta.data.repository.Repository}
+ * interfaces of an application that is generated at build time, so that a
+ * Jakarta Data provider can discover them at startup without scanning the
+ * classpath. The index is written by the Jakarta Data annotation processor
+ * to the resource {@value #RESOURCE} of each module that it compiles, and is
+ * {@linkplain #load(ClassLoader) loaded} from all such resources that are
+ * visible to a class loader.</p>
+ *
+ * <pre>
+ * DataIndex index = DataIndex.load(applicationClassLoader);
+ * for (DataIndex.RepositoryEntry repository : index.repositories(MY_PROVIDER_NAME)) {
+ *     Class&lt;?&gt; repositoryInterface = applicationClassLoader.loadClass(repository.repository());
+ *     ...
+ * }
+ * </pre>
+ *
+ * <p>Each line of the resource is a record of tab-separated fields, where a
+ * backslash escapes a tab ({@code \t}), a line feed ({@code \n}), a carriage
+ * return ({@code \r}) or itself ({@code \\}) within a field. Blank lines, lines
+ * that start with {@code #}, and records of unknown kinds are ignored. The
+ * records are:</p>
+ *
+ * <ul>
+ * <li>{@code entity}, followed by the binary name of an entity class,
+ *     and</li>
+ * <li>{@code repository}, followed by the binary names of a repository
+ *     interface and of its primary entity class, and by the
+ *     {@link jakarta.data.repository.Repository#dataStore() dataStore} and
+ *     {@link jakarta.data.repository.Repository#provider() provider} of the
+ *     repository. A field is empty if the value is not known or is the default.</li>
+ * </ul>
+ *
+ * <p>An index only lists the classes that were compiled with the annotation
+ * processor. A provider that finds no index, or that supports applications
+ * that are compiled without the annotation processor, still needs to discover
+ * classes by other means.</p>
+ */
+public final class DataIndex {
+    /**
+     * Name of the resource that contains the index.
+     */
+    public static final String RESOURCE = "META-INF/jakarta.data/index";
+
+    static final String ENTITY = "entity";
+    static final String REPOSITORY = "repository";
+
+    private final Set<String> entities;
+    private final List<RepositoryEntry> repositories;
+
+    private DataIndex(Set<String> entities, Map<String, RepositoryEntry> repositories) {
+        this.entities = Collections.unmodifiableSet(entities);
+        this.repositories = List.copyOf(repositories.values());
+    }
+
+    /**
+     * A repository interface in the index.
+     *
+     * @param repository    the binary name of the repository interface.
+     * @param primaryEntity the binary name of the primary entity class of the repository,
+     *                      or the empty string if it could not be determined at build time.
+     * @param dataStore     the data store of the repository, or the empty string for the default.
+     * @param provider      the name of the provider of the repository, or the empty string
+     *                      if any provider may provide it.
+     */
+    public record RepositoryEntry(String repository, String primaryEntity, String dataStore, String provider) {
+
+        /**
+         * Constructs an entry.
+         *
+         * @throws NullPointerException if a parameter is {@code null}.
+         */
+        public RepositoryEntry {
+            Objects.requireNonNull(repository, "repository is required");
+            Objects.requireNonNull(primaryEntity, "primaryEntity is required");
+            Objects.requireNonNull(dataStore, "dataStore is required");
+            Objects.requireNonNull(provider, "provider is required");
+        }
+
+        /**
+         * Determines whether the named provider may provide the repository.
+         *
+         * @param providerName the name of a Jakarta Data provider.
+         * @return whether the repository does not name a provider or names the given provider.
+         */
+        public boolean isProvidedBy(String providerName) {
+            return provider.isEmpty() || provider.equals(providerName);
+        }
+    }
+
+    /**
+     * Loads and combines all indexes that are visible to a class loader.
+     *
+     * @param loader the class loader.
+     * @return the combined index, which is empty if no index is found.
+     * @throws UncheckedIOException if an index cannot be read.
+     */
+    @SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
+    public static DataIndex load(ClassLoader loader) {
+        Set<String> entities = new LinkedHashSet<>();
+        Map<String, RepositoryEntry> repositories = new LinkedHashMap<>();
+        try {
+            Enumeration<URL> resources = loader.getResources(RESOURCE);
+            while (resources.hasMoreElements()) {
+                try (Reader reader = new InputStreamReader(resources.nextElement().openStream(), StandardCharsets.UTF_8)) {
+                    read(reader, entities, repositories);
+                }
+            }
+        } catch (IOException x) {
+            throw new UncheckedIOException("Unable to read " + RESOURCE, x);
+        }
+        return new DataIndex(entities, repositories);
+    }
+
+    /**
+     * Reads an index.
+     *
+     * @param reader reader for the content of an index resource. The reader is not closed.
+     * @return the index.
+     * @throws IOException if the index cannot be read.
+     */
+    public static DataIndex read(Reader reader) throws IOException {
+        Set<String> entities = new LinkedHashSet<>();
+        Map<String, RepositoryEntry> repositories = new LinkedHashMap<>();
+        read(reader, entities, repositories);
+        return new DataIndex(entities, repositories);
+    }
+
+    @SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
+    private static void read(Reader reader, Set<String> entities, Map<String, RepositoryEntry> repositories)
+            throws IOException {
+        BufferedReader lines = new BufferedReader(reader);
+        for (String line = lines.readLine(); line != null; line = lines.readLine()) {
+            if (line.isBlank() || line.charAt(0) == '#') {
+                continue;
+            }
+            List<String> fields = fields(line);
+            if (ENTITY.equals(fields.get(0)) && fields.size() > 1) {
+                entities.add(fields.get(1));
+            } else if (REPOSITORY.equals(fields.get(0)) && fields.size() > 4) {
+                repositories.putIfAbsent(fields.get(1),
+                        new RepositoryEntry(fields.get(1), fields.get(2), fields.get(3), fields.get(4)));
+            }
+        }
+    }
+
+    /**
+     * Splits a line into unescaped, tab-separated fields.
+     */
+    private static List<String> fields(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        int i = 0;
+        while (i < line.length()) {
+            char c = line.charAt(i++);
+            if (c == '\t') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\\' && i < line.length()) {
+                char escaped = line.charAt(i++);
+                field.append(switch (escaped) {
+                    case 't' -> '\t';
+                    case 'n' -> '\n';
+                    case 'r' -> '\r';
+                    default -> escaped;
+                });
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * The binary names of the entity classes in the index.
+     *
+     * @return the entity class names, in the order in which they were indexed.
+     */
+    public Set<String> entities() {
+        return entities;
+    }
+
+    /**
+     * The repository interfaces in the index.
+     *
+     * @return the repositories, in the order in which they were indexed.
+     */
+    public List<RepositoryEntry> repositories() {
+        return repositories;
+    }
+
+    /**
+     * The repository interfaces in the index that the named provider may provide.
+     *
+     * @param providerName the name of a Jakarta Data provider.
+     * @return the repositories that do not name a provider or that name the given provider.
+     * @see RepositoryEntry#isProvidedBy(String)
+     */
+    public List<RepositoryEntry> repositories(String providerName) {
+        return repositories.stream().filter(r -> r.isProvidedBy(providerName)).toList();
+    }
+
+    /**
+     * Indicates whether the index lists no entity classes and no repositories.
+     *
+     * @return whether the index is empty.
+     */
+    public boolean isEmpty() {
+        return entities.isEmpty() && repositories.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "DataIndex{entities=" + entities.size() + ", repositories=" + repositories.size() + '}';
+    }
+}
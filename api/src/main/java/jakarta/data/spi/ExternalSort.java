@@ -0,0 +1,549 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * <p>Sorts a stream of results that may be too large to hold in memory,
+ * which a Jakarta Data provider can use to apply an {@link jakarta.data.Order}
+ * to the results of a query when the database cannot sort by the requested
+ * attributes.</p>
+ *
+ * <p>Elements are read from the stream into memory up to the
+ * {@linkplain #memoryBudget(int) memory budget}. Whenever the budget is
+ * reached, the elements in memory are sorted and written as a sorted run to
+ * a temporary file, using the supplied {@link Codec}. Once the stream is
+ * exhausted, the sorted runs are merged lazily as the sorted stream is
+ * consumed, holding only one element per run in memory. If there are more
+ * runs than the {@linkplain #mergeFanIn(int) merge fan-in}, the runs are
+ * first merged into fewer, longer runs. If all elements fit
+ * within the memory budget, they are sorted in memory and no files are
+ * written. For example,</p>
+ *
+ * <pre>
+ * ExternalSort&lt;Product&gt; sorter =
+ *         ExternalSort.of(order.comparator(accessors), productCodec)
+ *                     .memoryBudget(200_000);
+ *
+ * try (Stream&lt;Product&gt; sorted = sorter.sort(unsortedResults)) {
+ *     sorted.forEach(report::add);
+ * }
+ * </pre>
+ *
+ * <p>The sort is stable. The source stream is not read until the sorted
+ * stream is consumed. Closing the sorted stream closes the source stream
+ * and deletes all temporary files. A failure to write or read a temporary
+ * file is raised as an {@link UncheckedIOException}.</p>
+ *
+ * <p>Instances are immutable and may be shared.</p>
+ *
+ * @param <T> the type of elements.
+ */
+public final class ExternalSort<T> {
+    /**
+     * The default {@linkplain #memoryBudget(int) memory budget}.
+     */
+    public static final int DEFAULT_MEMORY_BUDGET = 100_000;
+
+    /**
+     * The default {@linkplain #mergeFanIn(int) merge fan-in}.
+     */
+    public static final int DEFAULT_MERGE_FAN_IN = 64;
+
+    private final Comparator<? super T> comparator;
+    private final Codec<T> codec;
+    private final int memoryBudget;
+    private final int mergeFanIn;
+    private final Path directory;
+
+    private ExternalSort(Comparator<? super T> comparator, Codec<T> codec, int memoryBudget, int mergeFanIn,
+                         Path directory) {
+        this.comparator = comparator;
+        this.codec = codec;
+        this.memoryBudget = memoryBudget;
+        this.mergeFanIn = mergeFanIn;
+        this.directory = directory;
+    }
+
+    /**
+     * Writes elements to and reads elements from the temporary files
+     * that hold sorted runs.
+     *
+     * @param <T> the type of elements.
+     */
+    public interface Codec<T> {
+        /**
+         * Writes an element.
+         *
+         * @param element the element.
+         * @param out     the output to which to write the element.
+         * @throws IOException if the element cannot be written.
+         */
+        void write(T element, DataOutput out) throws IOException;
+
+        /**
+         * Reads an element that was written by {@link #write(Object, DataOutput)}.
+         *
+         * @param in the input from which to read the element.
+         * @return the element.
+         * @throws IOException if the element cannot be read.
+         */
+        T read(DataInput in) throws IOException;
+    }
+
+    /**
+     * Creates a sorter with the {@linkplain #DEFAULT_MEMORY_BUDGET default
+     * memory budget} that writes temporary files to the default temporary
+     * directory.
+     *
+     * @param <T>        the type of elements.
+     * @param comparator the order of the elements, typically obtained from
+     *                   {@link jakarta.data.Order#comparator(java.util.function.Function)}.
+     * @param codec      writes and reads elements of the sorted runs.
+     * @return a new sorter. This method never returns {@code null}.
+     * @throws NullPointerException if either parameter is {@code null}.
+     */
+    public static <T> ExternalSort<T> of(Comparator<? super T> comparator, Codec<T> codec) {
+        Objects.requireNonNull(comparator, "comparator is required");
+        Objects.requireNonNull(codec, "codec is required");
+        return new ExternalSort<>(comparator, codec, DEFAULT_MEMORY_BUDGET, DEFAULT_MERGE_FAN_IN, null);
+    }
+
+    /**
+     * Returns an otherwise-equivalent sorter that holds at most the specified
+     * number of elements of the source stream in memory at once.
+     *
+     * @param maxElements the maximum number of elements to hold in memory.
+     * @return a new sorter. This method never returns {@code null}.
+     * @throws IllegalArgumentException if the budget is less than 1.
+     */
+    public ExternalSort<T> memoryBudget(int maxElements) {
+        if (maxElements < 1) {
+            throw new IllegalArgumentException("maxElements: " + maxElements);
+        }
+        return new ExternalSort<>(comparator, codec, maxElements, mergeFanIn, directory);
+    }
+
+    /**
+     * Returns an otherwise-equivalent sorter that merges at most the specified
+     * number of sorted runs at once. If there are more runs, consecutive runs
+     * are first merged into longer runs, in as many passes as needed, which
+     * bounds the number of files that are open at once.
+     *
+     * @param maxRuns the maximum number of runs to merge at once.
+     * @return a new sorter. This method never returns {@code null}.
+     * @throws IllegalArgumentException if the fan-in is less than 2.
+     */
+    public ExternalSort<T> mergeFanIn(int maxRuns) {
+        if (maxRuns < 2) {
+            throw new IllegalArgumentException("maxRuns: " + maxRuns);
+        }
+        return new ExternalSort<>(comparator, codec, memoryBudget, maxRuns, directory);
+    }
+
+    /**
+     * Returns an otherwise-equivalent sorter that writes temporary files
+     * to the specified directory.
+     *
+     * @param directory the directory for temporary files.
+     * @return a new sorter. This method never returns {@code null}.
+     * @throws NullPointerException if the directory is {@code null}.
+     */
+    public ExternalSort<T> tempDirectory(Path directory) {
+        return new ExternalSort<>(comparator, codec, memoryBudget, mergeFanIn,
+                Objects.requireNonNull(directory, "directory is required"));
+    }
+
+    /**
+     * Returns a stream of the elements of the source stream, sorted.
+     *
+     * @param source the elements to sort.
+     * @return a lazy, sequential stream of the sorted elements. This method
+     *         never returns {@code null}.
+     * @throws NullPointerException if the stream is {@code null}.
+     */
+    public Stream<T> sort(Stream<T> source) {
+        Objects.requireNonNull(source, "source is required");
+        Merge merge = new Merge(source);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(merge, Spliterator.ORDERED), false)
+                .onClose(merge::close);
+    }
+
+    /**
+     * Iterates the sorted elements, creating the sorted runs when the
+     * first element is requested.
+     */
+    private final class Merge implements Iterator<T>, AutoCloseable {
+        private final Stream<T> source;
+
+        /**
+         * Runs that are not closed yet, which are closed and deleted when
+         * the merge is closed.
+         */
+        private final Set<Run<T>> open = new LinkedHashSet<>();
+        private Iterator<T> sorted;
+
+        Merge(Stream<T> source) {
+            this.source = source;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (sorted == null) {
+                List<Run<T>> runs = createRuns();
+                while (runs.size() > mergeFanIn) {
+                    runs = mergePass(runs);
+                }
+                sorted = new Sorted(runs);
+            }
+            return sorted.hasNext();
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return sorted.next();
+        }
+
+        private List<Run<T>> createRuns() {
+            List<Run<T>> runs = new ArrayList<>();
+            List<T> buffer = new ArrayList<>(Math.min(memoryBudget, 1024));
+            for (Iterator<T> it = source.iterator(); it.hasNext();) {
+                buffer.add(it.next());
+                if (buffer.size() == memoryBudget) {
+                    buffer.sort(comparator);
+                    runs.add(opened(FileRun.write(runs.size(), buffer.iterator(), codec, directory)));
+                    buffer.clear();
+                }
+            }
+            if (!buffer.isEmpty()) {
+                buffer.sort(comparator);
+                runs.add(opened(new MemoryRun<>(runs.size(), buffer.iterator())));
+            }
+            return runs;
+        }
+
+        /**
+         * Merges consecutive groups of at most {@code mergeFanIn} runs into
+         * longer runs, preserving the order of the runs so that the sort
+         * remains stable.
+         */
+        @SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
+        private List<Run<T>> mergePass(List<Run<T>> runs) {
+            List<Run<T>> merged = new ArrayList<>(runs.size() / mergeFanIn + 1);
+            for (int from = 0; from < runs.size(); from += mergeFanIn) {
+                Iterator<T> group = new Sorted(runs.subList(from, Math.min(from + mergeFanIn, runs.size())));
+                merged.add(opened(FileRun.write(merged.size(), group, codec, directory)));
+            }
+            return merged;
+        }
+
+        private Run<T> opened(Run<T> run) {
+            open.add(run);
+            return run;
+        }
+
+        private void close(Run<T> run) {
+            open.remove(run);
+            run.close();
+        }
+
+        /**
+         * Closes the source stream and all runs, including the runs that
+         * fail to close, and then raises the first failure, if any, with
+         * the subsequent failures suppressed.
+         */
+        @Override
+        public void close() {
+            RuntimeException failure = null;
+            try {
+                source.close();
+            } catch (RuntimeException x) {
+                failure = x;
+            }
+            for (Run<T> run : open) {
+                try {
+                    run.close();
+                } catch (RuntimeException x) {
+                    if (failure == null) {
+                        failure = x;
+                    } else {
+                        failure.addSuppressed(x);
+                    }
+                }
+            }
+            open.clear();
+            if (failure != null) {
+                throw failure;
+            }
+        }
+
+        /**
+         * Merges runs, holding the current element of each run in memory,
+         * and closes each run once it is exhausted.
+         */
+        private final class Sorted implements Iterator<T> {
+            private final Queue<Run<T>> heads;
+
+            Sorted(List<Run<T>> runs) {
+                heads = new PriorityQueue<>(Math.max(1, runs.size()), (r1, r2) -> {
+                    int comparison = comparator.compare(r1.head(), r2.head());
+                    return comparison == 0 ? Integer.compare(r1.index(), r2.index()) : comparison;
+                });
+                for (Run<T> run : runs) {
+                    advance(run);
+                }
+            }
+
+            private void advance(Run<T> run) {
+                if (run.advance()) {
+                    heads.add(run);
+                } else {
+                    close(run);
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                return !heads.isEmpty();
+            }
+
+            @Override
+            public T next() {
+                Run<T> run = heads.poll();
+                if (run == null) {
+                    throw new NoSuchElementException();
+                }
+                T element = run.head();
+                advance(run);
+                return element;
+            }
+        }
+    }
+
+    /**
+     * A sorted sequence of elements and its current element.
+     */
+    private abstract static class Run<T> implements AutoCloseable {
+        private final int index;
+        private T head;
+
+        Run(int index) {
+            this.index = index;
+        }
+
+        /**
+         * The position of the run among the runs that are merged together,
+         * which orders equal elements of different runs.
+         */
+        int index() {
+            return index;
+        }
+
+        /**
+         * The current element of the run.
+         */
+        T head() {
+            return head;
+        }
+
+        /**
+         * Advances to the next element of the run.
+         *
+         * @return {@code false} if the run has no more elements.
+         */
+        final boolean advance() {
+            if (hasMore()) {
+                head = read();
+                return true;
+            }
+            head = null;
+            return false;
+        }
+
+        abstract boolean hasMore();
+
+        abstract T read();
+
+        @Override
+        public void close() {
+            head = null;
+        }
+    }
+
+    /**
+     * A run that remains in memory.
+     */
+    private static final class MemoryRun<T> extends Run<T> {
+        private Iterator<T> elements;
+
+        MemoryRun(int index, Iterator<T> elements) {
+            super(index);
+            this.elements = elements;
+        }
+
+        @Override
+        boolean hasMore() {
+            return elements.hasNext();
+        }
+
+        @Override
+        T read() {
+            return elements.next();
+        }
+
+        @Override
+        public void close() {
+            super.close();
+            elements = Collections.emptyIterator();
+        }
+    }
+
+    /**
+     * A run that is held in a temporary file, which is deleted
+     * when the run is closed.
+     */
+    private static final class FileRun<T> extends Run<T> {
+        private final Path file;
+        private final Codec<T> codec;
+        private long remaining;
+        private DataInputStream in;
+
+        private FileRun(int index, Path file, Codec<T> codec, long size) {
+            super(index);
+            this.file = file;
+            this.codec = codec;
+            this.remaining = size;
+        }
+
+        static <T> FileRun<T> write(int index, Iterator<T> elements, Codec<T> codec, Path directory) {
+            Path file = null;
+            try {
+                file = directory == null
+                        ? Files.createTempFile("jakarta-data-sort-", ".run")
+                        : Files.createTempFile(directory, "jakarta-data-sort-", ".run");
+                long size = 0;
+                try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+                    while (elements.hasNext()) {
+                        codec.write(elements.next(), out);
+                        size++;
+                    }
+                }
+                return new FileRun<>(index, file, codec, size);
+            } catch (IOException x) {
+                throw new UncheckedIOException(deleteAfter(x, file));
+            } catch (RuntimeException x) {
+                throw deleteAfter(x, file);
+            } catch (Error x) {
+                throw deleteAfter(x, file);
+            }
+        }
+
+        /**
+         * Deletes the file of a run that failed to be written, if it was created.
+         *
+         * @return the failure, with any failure to delete the file as a suppressed exception.
+         */
+        private static <X extends Throwable> X deleteAfter(X failure, Path file) {
+            if (file != null) {
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException x) {
+                    failure.addSuppressed(x);
+                }
+            }
+            return failure;
+        }
+
+        @Override
+        boolean hasMore() {
+            return remaining > 0;
+        }
+
+        @Override
+        T read() {
+            try {
+                if (in == null) {
+                    in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)));
+                }
+                T element = codec.read(in);
+                remaining--;
+                return element;
+            } catch (IOException x) {
+                throw new UncheckedIOException(x);
+            }
+        }
+
+        /**
+         * Closes the file and deletes it, even if it fails to close.
+         */
+        @Override
+        public void close() {
+            super.close();
+            remaining = 0;
+            IOException failure = null;
+            if (in != null) {
+                try {
+                    in.close();
+                } catch (IOException x) {
+                    failure = x;
+                }
+                in = null;
+            }
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException x) {
+                if (failure == null) {
+                    failure = x;
+                } else {
+                    failure.addSuppressed(x);
+                }
+            }
+            if (failure != null) {
+                throw new UncheckedIOException(failure);
+            }
+        }
+    }
+}
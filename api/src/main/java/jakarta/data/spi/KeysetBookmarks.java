@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi;
+
+import jakarta.data.Limit;
+import jakarta.data.Order;
+import jakarta.data.page.PageRequest;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * <p>Remembers the {@linkplain PageRequest.Cursor key values} of results at
+ * known positions of the results of queries, which a Jakarta Data provider
+ * can use to retrieve a page of results by {@linkplain PageRequest.Mode#OFFSET
+ * offset} or a {@link Limit#range(long, long) range} of results by seeking
+ * after the key values of a preceding result, rather than by making the
+ * database skip all preceding results.</p>
+ *
+ * <p>After retrieving results by offset, the provider {@linkplain
+ * #bookmark(Object, Class, Order, long, PageRequest.Cursor) bookmarks} the key values
+ * of the last result, along with its position. When the next page, or any
+ * later page, of the same query with the same {@link Order} is requested, the
+ * provider {@linkplain #seek(Object, Class, Order, long) obtains} the nearest
+ * bookmark at or before the requested offset, and queries for the results
+ * after its key values, skipping only the results between the bookmark and
+ * the requested offset. For example, while an application retrieves pages
+ * of 50 results in sequence, page 5000 is retrieved by seeking after the
+ * last result of page 4999, which costs the same as retrieving page 1. The
+ * {@link jakarta.data.page.Page} that is returned to the application is the
+ * same as for offset-based pagination.</p>
+ *
+ * <pre>
+ * long offset = KeysetBookmarks.offset(pageRequest);
+ * Optional&lt;KeysetBookmarks.Seek&gt; seek = bookmarks.seek(queryKey, Product.class, order, offset);
+ * List&lt;Product&gt; content = seek.isPresent()
+ *         ? queryAfter(seek.get().after(), seek.get().skip(), pageRequest.size())
+ *         : queryWithOffset(offset, pageRequest.size());
+ * if (!content.isEmpty()) {
+ *     bookmarks.bookmark(queryKey, Product.class, order, offset + content.size(),
+ *                        cursorOf(content.get(content.size() - 1)));
+ * }
+ * </pre>
+ *
+ * <p>The query is identified by a key that the provider chooses, typically
+ * the repository method together with its arguments other than the special
+ * parameters. The sort criteria must define a unique ordering of results,
+ * for example, by ending with the unique identifier, so that the key values
+ * of a result identify its position.</p>
+ *
+ * <p>Seeking finds the same results as skipping by offset only while no
+ * results before the bookmark are inserted or deleted. This class does not
+ * observe modifications. Whether to seek from bookmarks is the decision of
+ * the provider, which should make it opt-in, for example, per repository,
+ * because modifications by other means than its repositories, such as by
+ * other applications that share the database, cannot be observed. A
+ * provider that seeks from bookmarks must {@linkplain #invalidate(Class)
+ * invalidate} the bookmarks of an entity type after each insert, update,
+ * delete or save operation on the entity type.</p>
+ *
+ * <p>The number of queries, and the number of bookmarks per query, are
+ * bounded. The bookmarks of the least recently used query, and the bookmark
+ * at the lowest position of a query, are evicted first.</p>
+ *
+ * <p>Instances are safe for concurrent use.</p>
+ */
+public final class KeysetBookmarks {
+    private final int maxBookmarks;
+    private final Map<Key, NavigableMap<Long, PageRequest.Cursor>> queries;
+
+    /**
+     * Creates an instance without any bookmarks.
+     *
+     * @param maxQueries   the maximum number of queries for which to keep bookmarks.
+     * @param maxBookmarks the maximum number of bookmarks to keep per query.
+     * @throws IllegalArgumentException if either maximum is less than 1.
+     */
+    @SuppressWarnings("serial")
+    public KeysetBookmarks(int maxQueries, int maxBookmarks) {
+        if (maxQueries < 1) {
+            throw new IllegalArgumentException("maxQueries: " + maxQueries);
+        } else if (maxBookmarks < 1) {
+            throw new IllegalArgumentException("maxBookmarks: " + maxBookmarks);
+        }
+        this.maxBookmarks = maxBookmarks;
+        this.queries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, NavigableMap<Long, PageRequest.Cursor>> eldest) {
+                return size() > maxQueries;
+            }
+        };
+    }
+
+    /**
+     * Computes the number of results that precede the page that is requested
+     * by a page request.
+     *
+     * @param pageRequest a request for a page by offset.
+     * @return the offset of the first result of the page.
+     * @throws IllegalArgumentException if the page request is not for {@linkplain PageRequest.Mode#OFFSET
+     *         offset-based pagination}.
+     */
+    public static long offset(PageRequest pageRequest) {
+        if (pageRequest.mode() != PageRequest.Mode.OFFSET) {
+            throw new IllegalArgumentException("The page request is cursor-based: " + pageRequest);
+        }
+        return (pageRequest.page() - 1) * pageRequest.size();
+    }
+
+    /**
+     * Computes the number of results that precede the results that are
+     * requested by a limit.
+     *
+     * @param limit a limit.
+     * @return the offset of the first result that is included by the limit.
+     */
+    public static long offset(Limit limit) {
+        return limit.startAt() - 1;
+    }
+
+    /**
+     * Remembers the key values of the result at a position of the results of a query.
+     *
+     * @param query       key that identifies the query.
+     * @param entityClass the entity type that the query retrieves.
+     * @param order       the sort criteria of the query.
+     * @param position    the number of results up to and including the result,
+     *                    that is, the offset of the result that follows it.
+     * @param cursor      the key values of the result, in the order of the sort criteria.
+     * @throws IllegalArgumentException if the position is less than 1.
+     * @throws NullPointerException if a parameter is {@code null}.
+     */
+    public void bookmark(Object query, Class<?> entityClass, Order<?> order, long position, PageRequest.Cursor cursor) {
+        Objects.requireNonNull(cursor, "cursor is required");
+        if (position < 1) {
+            throw new IllegalArgumentException("position: " + position);
+        }
+        Key key = new Key(query, entityClass, order);
+        synchronized (queries) {
+            NavigableMap<Long, PageRequest.Cursor> bookmarks = queries.computeIfAbsent(key, k -> new TreeMap<>());
+            bookmarks.put(position, cursor);
+            if (bookmarks.size() > maxBookmarks) {
+                bookmarks.pollFirstEntry();
+            }
+        }
+    }
+
+    /**
+     * Finds the bookmark that is nearest to, but not after, the offset of the
+     * first requested result of a query.
+     *
+     * @param query       key that identifies the query.
+     * @param entityClass the entity type that the query retrieves.
+     * @param order       the sort criteria of the query.
+     * @param offset      the number of results that precede the first requested result.
+     * @return how to seek to the offset, or {@link Optional#empty()} if there
+     *         is no bookmark at or before the offset.
+     * @throws NullPointerException if the query key, entity type or order is {@code null}.
+     */
+    public Optional<Seek> seek(Object query, Class<?> entityClass, Order<?> order, long offset) {
+        Key key = new Key(query, entityClass, order);
+        synchronized (queries) {
+            NavigableMap<Long, PageRequest.Cursor> bookmarks = queries.get(key);
+            Map.Entry<Long, PageRequest.Cursor> bookmark = bookmarks == null ? null : bookmarks.floorEntry(offset);
+            return bookmark == null
+                    ? Optional.empty()
+                    : Optional.of(new Seek(bookmark.getValue(), offset - bookmark.getKey()));
+        }
+    }
+
+    /**
+     * Removes the bookmarks of all queries that retrieve the entity type,
+     * typically because an entity of the type was inserted, updated,
+     * deleted or saved.
+     *
+     * @param entityClass the entity type.
+     */
+    public void invalidate(Class<?> entityClass) {
+        synchronized (queries) {
+            queries.keySet().removeIf(key -> key.entityClass() == entityClass);
+        }
+    }
+
+    /**
+     * Removes the bookmarks of a query, for all sort criteria.
+     *
+     * @param query key that identifies the query.
+     */
+    public void invalidateQuery(Object query) {
+        synchronized (queries) {
+            queries.keySet().removeIf(key -> key.query().equals(query));
+        }
+    }
+
+    /**
+     * Removes all bookmarks.
+     */
+    public void invalidateAll() {
+        synchronized (queries) {
+            queries.clear();
+        }
+    }
+
+    /**
+     * How to reach an offset from a bookmark: the requested results follow
+     * the result with the key values of the cursor, after skipping the
+     * specified number of results.
+     *
+     * @param after the key values of the bookmarked result.
+     * @param skip  the number of results to skip after the bookmarked result,
+     *              which is {@code 0} if the requested results immediately
+     *              follow it.
+     */
+    public record Seek(PageRequest.Cursor after, long skip) {
+    }
+
+    /**
+     * Identifies the bookmarks of a query of an entity type with sort criteria.
+     */
+    private record Key(Object query, Class<?> entityClass, Order<?> order) {
+        Key {
+            Objects.requireNonNull(query, "query is required");
+            Objects.requireNonNull(entityClass, "entityClass is required");
+            Objects.requireNonNull(order, "order is required");
+        }
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi;
+
+import jakarta.data.Limit;
+import jakarta.data.Sort;
+import jakarta.data.page.Page;
+import jakarta.data.page.PageRequest;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * <p>A query that a Jakarta Data provider has parsed and prepared once, when a
+ * {@linkplain RepositoryOperations generated repository implementation} is
+ * created, and which is then executed by each invocation of a repository
+ * method with the arguments of that invocation.</p>
+ *
+ * <p>Instances must be safe for concurrent use. Each invocation of a
+ * repository method obtains its own {@link Execution} to which it binds
+ * its arguments.</p>
+ *
+ * @param <R> type of query result.
+ */
+public interface PreparedQuery<R> {
+
+    /**
+     * The query, in the Jakarta Data Query Language, with positional
+     * parameters {@code ?1}, {@code ?2}, and so forth.
+     *
+     * @return the query.
+     */
+    String query();
+
+    /**
+     * Starts an execution of the query.
+     *
+     * @return a new execution, to which no arguments are bound.
+     */
+    Execution<R> execute();
+
+    /**
+     * <p>A single execution of a prepared query. Arguments are bound with
+     * overloads for primitive types so that repository methods with
+     * primitive parameters do not need to box them. Arguments of type
+     * {@code byte} and {@code short} are bound as {@code int}, and
+     * arguments of type {@code float} as {@code double}.</p>
+     *
+     * <p>An execution is used by a single thread and is discarded
+     * after one of its terminal operations.</p>
+     *
+     * @param <R> type of query result.
+     */
+    interface Execution<R> {
+
+        /**
+         * Binds a {@code boolean} argument.
+         *
+         * @param position the parameter position, starting at 1.
+         * @param value    the argument.
+         * @return the same execution.
+         */
+        Execution<R> bind(int position, boolean value);
+
+        /**
+         * Binds an {@code int} argument.
+         *
+         * @param position the parameter position, starting at 1.
+         * @param value    the argument.
+         * @return the same execution.
+         */
+        Execution<R> bind(int position, int value);
+
+        /**
+         * Binds a {@code long} argument.
+         *
+         * @param position the parameter position, starting at 1.
+         * @param value    the argument.
+         * @return the same execution.
+         */
+        Execution<R> bind(int position, long value);
+
+        /**
+         * Binds a {@code double} argument.
+         *
+         * @param position the parameter position, starting at 1.
+         * @param value    the argument.
+         * @return the same execution.
+         */
+        Execution<R> bind(int position, double value);
+
+        /**
+         * Binds an argument of a reference type, or of type {@code char}
+         * after boxing it.
+         *
+         * @param position the parameter position, starting at 1.
+         * @param value    the argument, which may be {@code null}.
+         * @return the same execution.
+         */
+        Execution<R> bind(int position, Object value);
+
+        /**
+         * Appends a dynamic sort criterion, which applies after any
+         * ordering that is specified by the query.
+         *
+         * @param sort the sort criterion.
+         * @return the same execution.
+         */
+        Execution<R> sort(Sort<?> sort);
+
+        /**
+         * Limits the results.
+         *
+         * @param limit the limit.
+         * @return the same execution.
+         */
+        Execution<R> limit(Limit limit);
+
+        /**
+         * Retrieves all results.
+         *
+         * @return the results.
+         */
+        List<R> list();
+
+        /**
+         * Retrieves the results as a stream, which is closed
+         * when it has been consumed.
+         *
+         * @return the results.
+         */
+        Stream<R> stream();
+
+        /**
+         * Retrieves at most one result.
+         *
+         * @return the result, if any.
+         * @throws jakarta.data.exceptions.NonUniqueResultException if there is more than one result.
+         */
+        Optional<R> optional();
+
+        /**
+         * Retrieves exactly one result.
+         *
+         * @return the result.
+         * @throws jakarta.data.exceptions.EmptyResultException     if there is no result.
+         * @throws jakarta.data.exceptions.NonUniqueResultException if there is more than one result.
+         */
+        R single();
+
+        /**
+         * Retrieves the requested page of results.
+         *
+         * @param pageRequest the page request.
+         * @return the page.
+         */
+        Page<R> page(PageRequest pageRequest);
+
+        /**
+         * Executes an update or delete query.
+         *
+         * @return the number of entities that were updated or deleted.
+         */
+        long update();
+    }
+}
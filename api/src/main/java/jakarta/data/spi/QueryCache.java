@@ -0,0 +1,378 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi;
+
+import jakarta.data.repository.Cached;
+
+import java.lang.reflect.Method;
+import java.time.Clock;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.BaseStream;
+
+/**
+ * <p>A cache of the results of repository query methods, which a Jakarta
+ * Data provider can use to implement the {@link Cached} annotation.</p>
+ *
+ * <p>A provider typically creates a single instance, which it shares among
+ * all of its repositories, and obtains the result of each query method
+ * through it. For example,</p>
+ *
+ * <pre>
+ * Object result = queryCache.get(method, Product.class, args,
+ *                                () -&gt; executeQuery(method, args));
+ * </pre>
+ *
+ * <p>and, after each insert, update, delete or save operation on an entity
+ * type,</p>
+ *
+ * <pre>
+ * queryCache.invalidate(Product.class);
+ * </pre>
+ *
+ * <p>The results of each method are held in a separate region of the cache,
+ * which is configured by the {@link Cached} annotation on the method or, if
+ * absent, on the interface that declares the method. Results of methods
+ * without the annotation are never cached. Within a region, results are
+ * keyed by the arguments of the method, which are compared by
+ * {@code equals}, or element by element for arrays. A region evicts its least
+ * recently used result when it is full, and results expire when they are
+ * older than the time to live of the region.</p>
+ *
+ * <p>Results are obtained from the database without holding any lock, so
+ * that concurrent queries do not wait for each other. A result that was
+ * obtained while the entity type was being invalidated is returned to the
+ * caller, but is not cached.</p>
+ *
+ * <p>Instances are safe for concurrent use.</p>
+ */
+public final class QueryCache {
+    private final Clock clock;
+
+    private final ConcurrentMap<Method, Region> regions = new ConcurrentHashMap<>();
+
+    /**
+     * Number of invalidations of each entity type.
+     */
+    private final ConcurrentMap<Class<?>, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    /**
+     * Creates an empty cache that uses the system clock to expire results.
+     */
+    public QueryCache() {
+        this(Clock.systemUTC());
+    }
+
+    /**
+     * Creates an empty cache that uses the supplied clock to expire results.
+     *
+     * @param clock the clock.
+     * @throws NullPointerException if the clock is {@code null}.
+     */
+    public QueryCache(Clock clock) {
+        this.clock = Objects.requireNonNull(clock, "clock is required");
+    }
+
+    /**
+     * <p>Returns the cached result of the repository method for equal
+     * arguments, if present and not expired. Otherwise, obtains the result
+     * from the supplied query and caches it.</p>
+     *
+     * <p>If the method is not annotated {@link Cached}, directly or by its
+     * declaring interface, or if its result can only be consumed once, such
+     * as a {@link BaseStream Stream}, {@link Iterator} or {@link Spliterator},
+     * the result of the query is returned without caching it.</p>
+     *
+     * @param <R>         the type of result.
+     * @param method      the repository method.
+     * @param entityClass the entity type that the method queries.
+     * @param args        the arguments of the method, or {@code null} if it has none.
+     *                    Arguments must not be modified after they are supplied.
+     * @param query       obtains the result from the database.
+     * @return the result.
+     * @throws IllegalArgumentException if the {@link Cached} annotation specifies a negative
+     *         number of entries or time to live.
+     * @throws NullPointerException if the method, entity type or query is {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    public <R> R get(Method method, Class<?> entityClass, Object[] args, Supplier<R> query) {
+        Objects.requireNonNull(entityClass, "entityClass is required");
+        Objects.requireNonNull(query, "query is required");
+        Region region = regions.computeIfAbsent(method, m -> Region.of(m, entityClass));
+        if (region == Region.NONE) {
+            return query.get();
+        }
+
+        Key key = new Key(args == null ? new Object[0] : args.clone());
+        AtomicLong generation = generation(region.entityClass());
+        long expected = generation.get();
+        Entry entry = region.get(key, clock.millis());
+        if (entry != null) {
+            return (R) entry.value;
+        }
+
+        R result = query.get();
+        region.put(key, result, clock.millis(), generation, expected);
+        return result;
+    }
+
+    /**
+     * Removes all cached results of methods that query the entity type,
+     * typically because an entity of the type was inserted, updated,
+     * deleted or saved.
+     *
+     * @param entityClass the entity type.
+     */
+    public void invalidate(Class<?> entityClass) {
+        generation(entityClass).incrementAndGet();
+        for (Region region : regions.values()) {
+            if (region.entityClass() == entityClass) {
+                region.clear();
+            }
+        }
+    }
+
+    /**
+     * Removes all cached results.
+     */
+    public void invalidateAll() {
+        for (AtomicLong generation : generations.values()) {
+            generation.incrementAndGet();
+        }
+        for (Region region : regions.values()) {
+            region.clear();
+        }
+    }
+
+    /**
+     * Returns statistics of all methods whose results are cached.
+     *
+     * @return the sum of the statistics of all methods.
+     */
+    public Statistics statistics() {
+        Statistics total = new Statistics(0, 0, 0, 0, 0);
+        for (Region region : regions.values()) {
+            if (region != Region.NONE) {
+                total = total.plus(region.statistics(clock.millis()));
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Returns statistics of the cached results of a method.
+     *
+     * @param method the repository method.
+     * @return the statistics of the method, which are all zero if its
+     *         results have never been requested or are not cached.
+     */
+    public Statistics statistics(Method method) {
+        Region region = regions.get(method);
+        return region == null || region == Region.NONE
+                ? new Statistics(0, 0, 0, 0, 0)
+                : region.statistics(clock.millis());
+    }
+
+    private AtomicLong generation(Class<?> entityClass) {
+        return generations.computeIfAbsent(entityClass, c -> new AtomicLong());
+    }
+
+    private static long saturatedAdd(long a, long b) {
+        long sum = a + b;
+        return ((a ^ sum) & (b ^ sum)) < 0 ? Long.MAX_VALUE : sum;
+    }
+
+    /**
+     * Counts of cache activity.
+     *
+     * @param hits          number of results that were returned from the cache.
+     * @param misses        number of results that were obtained from the database.
+     * @param evictions     number of results that were removed because they expired
+     *                      or because the cache was full.
+     * @param invalidations number of results that were removed because their
+     *                      entity type was invalidated.
+     * @param size          number of results that are currently cached.
+     */
+    public record Statistics(long hits, long misses, long evictions, long invalidations, int size) {
+
+        /**
+         * Returns the fraction of requests for results that were satisfied
+         * by the cache.
+         *
+         * @return the hit ratio, between {@code 0.0} and {@code 1.0}, or
+         *         {@code 0.0} if no results have been requested.
+         */
+        public double hitRatio() {
+            long requests = hits + misses;
+            return requests == 0 ? 0.0 : (double) hits / requests;
+        }
+
+        Statistics plus(Statistics other) {
+            return new Statistics(hits + other.hits, misses + other.misses, evictions + other.evictions,
+                    invalidations + other.invalidations, size + other.size);
+        }
+    }
+
+    /**
+     * The cached results of a single method.
+     */
+    private static final class Region {
+        /**
+         * Marks methods whose results are not cached.
+         */
+        static final Region NONE = new Region(null, 0, 0);
+
+        private final Class<?> entityClass;
+        private final long ttlMillis;
+        private final Map<Key, Entry> entries;
+
+        private long hits;
+        private long misses;
+        private long evictions;
+        private long invalidations;
+
+        @SuppressWarnings("serial")
+        Region(Class<?> entityClass, int maxEntries, long ttlMillis) {
+            this.entityClass = entityClass;
+            this.ttlMillis = ttlMillis;
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                    if (size() > maxEntries) {
+                        evictions++;
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        static Region of(Method method, Class<?> entityClass) {
+            Cached cached = method.getAnnotation(Cached.class);
+            if (cached == null) {
+                cached = method.getDeclaringClass().getAnnotation(Cached.class);
+            }
+            if (cached == null || isConsumedOnce(method.getReturnType())) {
+                return NONE;
+            } else if (cached.maxEntries() < 0 || cached.ttl() < 0) {
+                throw new IllegalArgumentException("The Cached annotation of " + method +
+                        " must not specify a negative number of entries or time to live.");
+            }
+            long ttlMillis;
+            try {
+                ttlMillis = cached.ttlUnit().getDuration().multipliedBy(cached.ttl()).toMillis();
+            } catch (ArithmeticException x) {
+                ttlMillis = Long.MAX_VALUE;
+            }
+            return new Region(entityClass, cached.maxEntries(), ttlMillis);
+        }
+
+        /**
+         * Results of these types can only be consumed once and are never cached.
+         */
+        private static boolean isConsumedOnce(Class<?> resultType) {
+            return BaseStream.class.isAssignableFrom(resultType)
+                    || Iterator.class.isAssignableFrom(resultType)
+                    || Spliterator.class.isAssignableFrom(resultType);
+        }
+
+        Class<?> entityClass() {
+            return entityClass;
+        }
+
+        /**
+         * Returns the unexpired entry for the key, if present, and counts a hit or miss.
+         */
+        synchronized Entry get(Key key, long now) {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                if (entry.expiresAt > now) {
+                    hits++;
+                    return entry;
+                }
+                entries.remove(key);
+                evictions++;
+            }
+            misses++;
+            return null;
+        }
+
+        /**
+         * Caches a result unless the entity type was invalidated since the
+         * expected generation was read.
+         */
+        synchronized void put(Key key, Object result, long now, AtomicLong generation, long expected) {
+            if (generation.get() == expected) {
+                entries.put(key, new Entry(result, saturatedAdd(now, ttlMillis)));
+            }
+        }
+
+        synchronized void clear() {
+            invalidations += entries.size();
+            entries.clear();
+        }
+
+        synchronized Statistics statistics(long now) {
+            for (Iterator<Entry> it = entries.values().iterator(); it.hasNext();) {
+                if (it.next().expiresAt <= now) {
+                    it.remove();
+                    evictions++;
+                }
+            }
+            return new Statistics(hits, misses, evictions, invalidations, entries.size());
+        }
+    }
+
+    /**
+     * A cached result and the time, in milliseconds, at which it expires.
+     */
+    private record Entry(Object value, long expiresAt) {
+    }
+
+    /**
+     * The arguments of a method invocation, compared element by element.
+     */
+    private static final class Key {
+        private final Object[] args;
+        private final int hash;
+
+        @SuppressWarnings({"PMD.ArrayIsStoredDirectly", "PMD.UseVarargs"})
+        Key(Object[] args) {
+            this.args = args;
+            this.hash = Arrays.deepHashCode(args);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return this == o || o instanceof Key that && hash == that.hash && Arrays.deepEquals(args, that.args);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
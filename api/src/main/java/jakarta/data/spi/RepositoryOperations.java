@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi;
+
+import java.lang.reflect.Constructor;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * <p>Operations of a Jakarta Data provider that are invoked directly by repository
+ * implementations that are generated at build time, instead of dispatching each
+ * invocation of a repository method through a dynamic proxy.</p>
+ *
+ * <p>The generated implementation of a repository interface {@code Products} is a
+ * class {@code Products_} in the same package, or {@code Outer_Products_} for a
+ * repository interface that is nested in a class {@code Outer}. It has a public
+ * constructor that accepts the {@code RepositoryOperations} of the provider, and
+ * prepares all of its queries in that constructor. Each query is written in the
+ * Jakarta Data Query Language, with its named parameters already replaced by
+ * positional parameters, so that the provider parses it only once.</p>
+ *
+ * <p>A provider can {@linkplain #implementation(Class, RepositoryOperations)
+ * instantiate} the generated implementation of a repository when it is
+ * available, and otherwise fall back to its own implementation.</p>
+ */
+public interface RepositoryOperations {
+
+    /**
+     * Prepares a query.
+     *
+     * @param <R>         type of query result.
+     * @param query       query in the Jakarta Data Query Language, with positional parameters.
+     * @param entityClass the primary entity class of the query.
+     * @param resultClass the class of the results of the query. For update, delete and
+     *                    count queries, this is {@code Long}.
+     * @return the prepared query.
+     * @throws IllegalArgumentException if the query is not valid for the entity class.
+     */
+    <R> PreparedQuery<R> prepare(String query, Class<?> entityClass, Class<R> resultClass);
+
+    /**
+     * Inserts an entity.
+     *
+     * @param <T>    entity type.
+     * @param entity the entity.
+     * @return the inserted entity.
+     */
+    <T> T insert(T entity);
+
+    /**
+     * Inserts entities.
+     *
+     * @param <T>      entity type.
+     * @param entities the entities.
+     * @return the inserted entities, in the same order.
+     */
+    <T> List<T> insertAll(List<T> entities);
+
+    /**
+     * Updates an entity.
+     *
+     * @param <T>    entity type.
+     * @param entity the entity.
+     * @return the updated entity.
+     */
+    <T> T update(T entity);
+
+    /**
+     * Updates entities.
+     *
+     * @param <T>      entity type.
+     * @param entities the entities.
+     * @return the updated entities, in the same order.
+     */
+    <T> List<T> updateAll(List<T> entities);
+
+    /**
+     * Inserts or updates an entity.
+     *
+     * @param <T>    entity type.
+     * @param entity the entity.
+     * @return the saved entity.
+     */
+    <T> T save(T entity);
+
+    /**
+     * Inserts or updates entities.
+     *
+     * @param <T>      entity type.
+     * @param entities the entities.
+     * @return the saved entities, in the same order.
+     */
+    <T> List<T> saveAll(List<T> entities);
+
+    /**
+     * <p>Inserts entities in batches, consuming each batch of entities only after
+     * the previous batch has been written, for {@link jakarta.data.repository.Insert Insert}
+     * methods that are annotated {@link jakarta.data.repository.BatchSize BatchSize}
+     * and accept a {@code Stream} or {@code Iterable} of entities.</p>
+     *
+     * <p>The default implementation inserts each batch with {@link #insertAll(List)}
+     * and discards the inserted entities. A provider should override it to write
+     * each batch, such as with a JDBC batch, without retaining the entities.</p>
+     *
+     * @param entities  the entities.
+     * @param batchSize the number of entities per batch.
+     * @return the number of entities that were inserted.
+     */
+    default long insertAll(Iterator<?> entities, int batchSize) {
+        return Batches.write(entities, batchSize, this::insertAll);
+    }
+
+    /**
+     * <p>Inserts or updates entities in batches, consuming each batch of entities only
+     * after the previous batch has been written, for {@link jakarta.data.repository.Save Save}
+     * methods that are annotated {@link jakarta.data.repository.BatchSize BatchSize}
+     * and accept a {@code Stream} or {@code Iterable} of entities.</p>
+     *
+     * <p>The default implementation saves each batch with {@link #saveAll(List)}
+     * and discards the saved entities. A provider should override it to write
+     * each batch, such as with a JDBC batch, without retaining the entities.</p>
+     *
+     * @param entities  the entities.
+     * @param batchSize the number of entities per batch.
+     * @return the number of entities that were inserted or updated.
+     */
+    default long saveAll(Iterator<?> entities, int batchSize) {
+        return Batches.write(entities, batchSize, this::saveAll);
+    }
+
+    /**
+     * Deletes an entity.
+     *
+     * @param entity the entity.
+     */
+    void delete(Object entity);
+
+    /**
+     * Deletes entities.
+     *
+     * @param entities the entities.
+     */
+    void deleteAll(List<?> entities);
+
+    /**
+     * Obtains the generated implementation of a repository interface, if it was generated.
+     *
+     * @param <R>        repository type.
+     * @param repository the repository interface.
+     * @param operations the operations of the provider.
+     * @return an instance of the generated implementation, or an empty optional if there is none.
+     * @throws IllegalStateException if the generated implementation cannot be instantiated.
+     */
+    static <R> Optional<R> implementation(Class<R> repository, RepositoryOperations operations) {
+        String name = repository.getName();
+        int dot = name.lastIndexOf('.');
+        String implementationName = name.substring(0, dot + 1) + name.substring(dot + 1).replace('$', '_') + '_';
+        Class<?> implementation;
+        try {
+            implementation = Class.forName(implementationName, false, repository.getClassLoader());
+        } catch (ClassNotFoundException x) {
+            return Optional.empty();
+        }
+        if (!repository.isAssignableFrom(implementation)) {
+            return Optional.empty();
+        }
+        try {
+            Constructor<?> constructor = implementation.getConstructor(RepositoryOperations.class);
+            return Optional.of(repository.cast(constructor.newInstance(operations)));
+        } catch (ReflectiveOperationException x) {
+            throw new IllegalStateException("Unable to create " + implementationName, x);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi;
+
+import jakarta.data.restrict.Restriction;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiFunction;
+
+/**
+ * <p>Caches the plans that a Jakarta Data provider compiles for queries with
+ * a {@link Restriction} special parameter, such as a query string, a prepared
+ * statement, or a predicate, keyed by the {@linkplain Restriction#shape() shape}
+ * of the restriction. Restrictions that differ only in their values have the
+ * same shape, so their queries share one plan, to which the provider binds
+ * the {@linkplain Restriction#values() values} of each restriction.</p>
+ *
+ * <pre>
+ * RestrictionPlans&lt;String&gt; plans = new RestrictionPlans&lt;&gt;(500,
+ *         (method, shape) -&gt; baseQuery(method) + (shape.isEmpty() ? "" : " WHERE " + shape));
+ * ...
+ * String jdql = plans.plan(method, restriction);
+ * execute(jdql, restriction.values());
+ * </pre>
+ *
+ * <p>The plans of a restriction shape are further distinguished by a query key
+ * that the provider chooses, typically the repository method. The number of
+ * plans is bounded, and the least recently used plan is evicted first.
+ * A plan is compiled without holding a lock, so the same plan may be compiled
+ * more than once by concurrent threads, in which case the first plan that is
+ * cached is used.</p>
+ *
+ * <p>Instances are safe for concurrent use.</p>
+ *
+ * @param <P> type of plan.
+ */
+public final class RestrictionPlans<P> {
+    private final BiFunction<Object, String, ? extends P> compiler;
+    private final Map<Key, P> plans;
+    private long hits;
+    private long misses;
+
+    /**
+     * Creates an empty cache.
+     *
+     * @param maxPlans the maximum number of plans to keep.
+     * @param compiler compiles the plan for a query key and restriction shape.
+     * @throws IllegalArgumentException if the maximum is less than 1.
+     * @throws NullPointerException     if the compiler is {@code null}.
+     */
+    @SuppressWarnings("serial")
+    public RestrictionPlans(int maxPlans, BiFunction<Object, String, ? extends P> compiler) {
+        if (maxPlans < 1) {
+            throw new IllegalArgumentException("maxPlans: " + maxPlans);
+        }
+        this.compiler = Objects.requireNonNull(compiler, "compiler is required");
+        this.plans = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, P> eldest) {
+                return size() > maxPlans;
+            }
+        };
+    }
+
+    /**
+     * Obtains the plan for a query with a restriction, compiling it
+     * if no plan is cached for the shape of the restriction.
+     *
+     * @param query       key that identifies the query.
+     * @param restriction the restriction.
+     * @return the plan. This method never returns {@code null}.
+     * @throws NullPointerException if either parameter is {@code null}
+     *                              or the compiler returns {@code null}.
+     */
+    public P plan(Object query, Restriction<?> restriction) {
+        Key key = new Key(Objects.requireNonNull(query, "query is required"), restriction.shape());
+        synchronized (this) {
+            P plan = plans.get(key);
+            if (plan != null) {
+                hits++;
+                return plan;
+            }
+            misses++;
+        }
+        P plan = Objects.requireNonNull(compiler.apply(query, key.shape()), "compiled plan");
+        synchronized (this) {
+            P cached = plans.putIfAbsent(key, plan);
+            return cached == null ? plan : cached;
+        }
+    }
+
+    /**
+     * Removes all plans.
+     */
+    public synchronized void clear() {
+        plans.clear();
+    }
+
+    /**
+     * The number of plans that are cached.
+     *
+     * @return the number of plans.
+     */
+    public synchronized int size() {
+        return plans.size();
+    }
+
+    /**
+     * The number of times that a cached plan was used.
+     *
+     * @return the number of cache hits.
+     */
+    public synchronized long hits() {
+        return hits;
+    }
+
+    /**
+     * The number of times that a plan was compiled.
+     *
+     * @return the number of cache misses.
+     */
+    public synchronized long misses() {
+        return misses;
+    }
+
+    private record Key(Object query, String shape) {
+    }
+}
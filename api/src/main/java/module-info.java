@@ -18,6 +18,7 @@
 
 import jakarta.data.Limit;
 import jakarta.data.Order;
+import jakarta.data.QueryBudget;
 import jakarta.data.Sort;
 import jakarta.data.metamodel.StaticMetamodel;
 import jakarta.data.page.PageRequest;
@@ -34,6 +35,7 @@ import jakarta.data.repository.Query;
 import jakarta.data.repository.Repository;
 import jakarta.data.repository.Save;
 import jakarta.data.repository.Update;
+import jakarta.data.restrict.Restriction;
 
 import java.util.Set;
 
@@ -752,11 +754,13 @@ import java.util.Set;
  *
  * <p>A repository method annotated {@link Query @Query}, {@link Find @Find} or
  * following the <em>Query by Method Name</em> pattern may have <em>special
- * parameters</em> of type {@link Limit}, {@link Order}, {@link Sort}, or
- * {@link PageRequest} if the method return type indicates that the method may
- * return multiple entities. Special parameters occur after parameters related
- * to query conditions and JDQL query parameters, and enable capabilities such
- * as pagination, limits, and sorting.</p>
+ * parameters</em> of type {@link Limit}, {@link Order}, {@link Sort},
+ * {@link PageRequest}, {@link QueryBudget}, or {@link Restriction} if the
+ * method return type indicates that the method may return multiple entities.
+ * Special parameters occur after parameters related to query conditions and
+ * JDQL query parameters, and enable capabilities such as pagination, limits,
+ * sorting, bounding the work performed by the database, and restricting the
+ * results by conditions that are constructed at run time.</p>
  *
  * <h3>Limits</h3>
  *
@@ -836,6 +840,23 @@ import java.util.Set;
  *                                 Sort.asc("name"));
  * </pre>
  *
+ * <h3>Restrictions</h3>
+ *
+ * <p>Conditions that are only known at run time may be supplied by passing a
+ * {@link Restriction}, which is obtained from the attributes of the
+ * {@link StaticMetamodel} and combined with the conditions of the query.
+ * For example,</p>
+ *
+ * <pre>
+ * &#64;Find
+ * List&lt;Product&gt; search(Restriction&lt;Product&gt; filter, Order&lt;Product&gt; order);
+ *
+ * ...
+ * found = products.search(Restriction.all(_Product.price.between(10, 20),
+ *                                         _Product.name.like("%phone%")),
+ *                         Order.by(_Product.price.asc()));
+ * </pre>
+ *
  * <h2>Repository default methods</h2>
  *
  * <p>A repository interface may declare any number of {@code default} methods
@@ -1065,6 +1086,7 @@ module jakarta.data {
     exports jakarta.data.page;
     exports jakarta.data.page.impl;
     exports jakarta.data.repository;
+    exports jakarta.data.restrict;
     exports jakarta.data.exceptions;
     opens jakarta.data.repository;
     exports jakarta.data.spi;
@@ -20,6 +20,12 @@ package jakarta.data;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.SoftAssertions.assertSoftly;
 
@@ -126,4 +132,22 @@ class LimitTest {
             soft.assertThat(limit.startAt()).isEqualTo(2L);
         });
     }
+
+    @Test
+    @DisplayName("Should collect the first results in order, honoring startAt, from unordered input")
+    void shouldCollectTopResults() {
+        List<Integer> shuffled = IntStream.rangeClosed(1, 10_000).boxed().collect(Collectors.toList());
+        Collections.shuffle(shuffled);
+
+        assertSoftly(softly -> {
+            softly.assertThat(shuffled.stream().collect(Limit.of(3).collector(Comparator.<Integer>naturalOrder())))
+                    .containsExactly(1, 2, 3);
+            softly.assertThat(shuffled.parallelStream().collect(Limit.range(5, 8).collector(Comparator.<Integer>reverseOrder())))
+                    .containsExactly(9996, 9995, 9994, 9993);
+            softly.assertThat(List.of(3, 1, 2).stream().collect(Limit.range(2, 10).collector(Comparator.<Integer>naturalOrder())))
+                    .containsExactly(2, 3);
+            softly.assertThat(List.of(3, 1).stream().collect(Limit.range(5, 10).collector(Comparator.<Integer>naturalOrder())))
+                    .isEmpty();
+        });
+    }
 }
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class OrderTest {
+
+    record Employee(String lastName, int salary) {
+    }
+
+    interface IntAccessor extends Function<Employee, Object>, ToIntFunction<Employee> {
+        @Override
+        default Object apply(Employee employee) {
+            throw new AssertionError("The salary must not be boxed");
+        }
+    }
+
+    private static final Map<String, Function<Employee, ?>> ACCESSORS = Map.of(
+            "lastName", Employee::lastName,
+            "salary", (IntAccessor) Employee::salary);
+
+    private static final Employee SMITH = new Employee("Smith", 50_000);
+    private static final Employee JONES = new Employee("jones", 60_000);
+    private static final Employee BROWN = new Employee("Brown", 60_000);
+    private static final Employee UNKNOWN = new Employee(null, 40_000);
+
+    @Test
+    @DisplayName("Should sort entities in memory according to the sort criteria")
+    void shouldCompileComparator() {
+        Order<Employee> bySalaryDescThenName = Order.by(Sort.desc("salary"), Sort.ascIgnoreCase("lastName"));
+        Order<Employee> byName = Order.by(Sort.asc("lastName"));
+
+        List<Employee> bySalary = new ArrayList<>(List.of(SMITH, JONES, UNKNOWN, BROWN));
+        bySalary.sort(bySalaryDescThenName.comparator(ACCESSORS::get));
+        List<Employee> byNameCaseSensitive = new ArrayList<>(List.of(SMITH, JONES, UNKNOWN, BROWN));
+        byNameCaseSensitive.sort(byName.comparator(ACCESSORS::get));
+
+        assertSoftly(softly -> {
+            softly.assertThat(bySalary).containsExactly(BROWN, JONES, SMITH, UNKNOWN);
+            softly.assertThat(byNameCaseSensitive).containsExactly(UNKNOWN, BROWN, SMITH, JONES);
+        });
+    }
+
+    @Test
+    @DisplayName("Should reject sort attributes without an accessor")
+    void shouldRejectUnknownAttribute() {
+        Order<Employee> order = Order.by(Sort.asc("firstName"));
+        assertThatIllegalArgumentException().isThrownBy(() -> order.comparator(ACCESSORS::get));
+    }
+
+    @Test
+    @DisplayName("Should intern equal orders as the same canonical instance with interned sorts")
+    void shouldInternOrders() {
+        Order<Employee> order1 = Order.by(Sort.desc("salary"), Sort.ascIgnoreCase("lastName"));
+        Order<Employee> order2 = Order.by(List.of(Sort.desc("salary"), Sort.ascIgnoreCase("lastName")));
+        Order<Employee> other = Order.by(Sort.desc("salary"), Sort.asc("lastName"));
+
+        assertSoftly(softly -> {
+            softly.assertThat(order1.intern()).isSameAs(order2.intern());
+            softly.assertThat(order1.intern()).isEqualTo(order1);
+            softly.assertThat(order1.intern().sorts().get(0)).isSameAs(Sort.desc("salary").intern());
+            softly.assertThat(other.intern()).isNotSameAs(order1.intern());
+            softly.assertThat(order1.fingerprint()).isEqualTo(order2.fingerprint());
+            softly.assertThat(other.fingerprint()).isNotEqualTo(order1.fingerprint());
+            softly.assertThat(Order.by(Sort.asc("ab"), Sort.asc("c")).fingerprint())
+                    .isNotEqualTo(Order.by(Sort.asc("a"), Sort.asc("bc")).fingerprint());
+            softly.assertThat(order1.hashCode()).isEqualTo(order2.hashCode());
+        });
+    }
+
+    @Test
+    @DisplayName("Should sort with case-folded keys consistently with case insensitive comparison")
+    void shouldSortWithCaseFoldedKeys() {
+        List<String> names = List.of("beta", "Alpha", "ALPHA", "gamma", "\u00df", "Gamma", "\u0130stanbul", "istanbul");
+        for (String n1 : names) {
+            for (String n2 : names) {
+                assertSoftly(softly -> softly.assertThat(Integer.signum(CaseFoldedKey.of(n1).compareTo(CaseFoldedKey.of(n2))))
+                        .as("%s vs %s", n1, n2)
+                        .isEqualTo(Integer.signum(String.CASE_INSENSITIVE_ORDER.compare(n1, n2))));
+            }
+        }
+
+        Order<Employee> order = Order.by(Sort.descIgnoreCase("lastName"), Sort.asc("salary"));
+        List<Employee> sorted = new ArrayList<>(List.of(SMITH, JONES, UNKNOWN, BROWN, new Employee("SMITH", 10)));
+        order.sort(sorted, ACCESSORS::get);
+        List<Employee> compared = new ArrayList<>(sorted);
+        compared.sort(order.comparator(ACCESSORS::get));
+
+        assertSoftly(softly -> {
+            softly.assertThat(sorted).containsExactly(new Employee("SMITH", 10), SMITH, JONES, BROWN, UNKNOWN);
+            softly.assertThat(compared).isEqualTo(sorted);
+            softly.assertThat(CaseFoldedKey.of("Smith")).isEqualTo(CaseFoldedKey.of("SMITH"));
+            softly.assertThat(CaseFoldedKey.of("Smith").value()).isEqualTo("Smith");
+        });
+    }
+
+    @Test
+    @DisplayName("Should compare sort attribute values with nulls first and optionally without regard to case")
+    void shouldCompareValues() {
+        assertSoftly(softly -> {
+            softly.assertThat(CaseFoldedKey.compare(null, "a", false)).isNegative();
+            softly.assertThat(CaseFoldedKey.compare("a", null, true)).isPositive();
+            softly.assertThat(CaseFoldedKey.compare(null, null, false)).isZero();
+            softly.assertThat(CaseFoldedKey.compare("B", "a", false)).isNegative();
+            softly.assertThat(CaseFoldedKey.compare("B", "a", true)).isPositive();
+            softly.assertThat(CaseFoldedKey.compare(CaseFoldedKey.of("ABC"), "abc", true)).isZero();
+            softly.assertThat(CaseFoldedKey.compare("abd", CaseFoldedKey.of("ABC"), true)).isPositive();
+            softly.assertThat(CaseFoldedKey.compare(2, 10, true)).isNegative();
+        });
+        assertThatIllegalArgumentException().isThrownBy(() -> CaseFoldedKey.compare(new Object(), new Object(), false));
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data;
+
+import jakarta.data.page.CursoredPage;
+import jakarta.data.page.PageRequest;
+import jakarta.data.page.impl.CursoredPageRecord;
+import jakarta.data.page.impl.PageRecord;
+import jakarta.data.page.impl.PartialCursoredPage;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class QueryBudgetTest {
+
+    private static final Instant NOW = Instant.parse("2024-10-01T12:00:00Z");
+
+    @Test
+    @DisplayName("Should be exhausted when the rows scanned reach the maximum or the deadline passes")
+    void shouldDetermineExhaustion() {
+        QueryBudget budget = QueryBudget.maxScanned(1000).withDeadline(NOW.plusSeconds(2));
+
+        assertSoftly(softly -> {
+            softly.assertThat(budget.isExhausted(999, NOW)).isFalse();
+            softly.assertThat(budget.isExhausted(1000, NOW)).isTrue();
+            softly.assertThat(budget.isExhausted(0, NOW.plusSeconds(3))).isTrue();
+            softly.assertThat(budget.remaining(Clock.fixed(NOW, ZoneOffset.UTC))).isEqualTo(Duration.ofSeconds(2));
+            softly.assertThat(budget.remaining(Clock.fixed(NOW.plusSeconds(5), ZoneOffset.UTC))).isEqualTo(Duration.ZERO);
+            softly.assertThat(QueryBudget.maxScanned(10).remaining(Clock.systemUTC())).isNull();
+            softly.assertThat(QueryBudget.until(NOW).maxScanned()).isEqualTo(Long.MAX_VALUE);
+            softly.assertThat(QueryBudget.within(Duration.ofMinutes(1)).deadline()).isAfter(Instant.now());
+        });
+        assertThatIllegalArgumentException().isThrownBy(() -> QueryBudget.maxScanned(0));
+        assertThatNullPointerException().isThrownBy(() -> QueryBudget.until(null));
+    }
+
+    @Test
+    @DisplayName("Should mark a page as partial and continue after its last result")
+    void shouldMarkPagePartial() {
+        PageRequest pageRequest = PageRequest.ofSize(10);
+        CursoredPage<Integer> page = new PartialCursoredPage<>(new CursoredPageRecord<>(List.of(1, 2, 3),
+                id -> PageRequest.Cursor.forKey(id), -1, pageRequest, true, false));
+
+        assertSoftly(softly -> {
+            softly.assertThat(page.isPartial()).isTrue();
+            softly.assertThat(page.numberOfElements()).isEqualTo(3);
+            softly.assertThat(page.hasNext()).isTrue();
+            softly.assertThat(page.nextPageRequest().cursor()).contains(PageRequest.Cursor.forKey(3));
+            softly.assertThat(page.cursor(1)).isEqualTo(PageRequest.Cursor.forKey(2));
+            softly.assertThat(new PageRecord<>(pageRequest, List.of(1), -1).isPartial()).isFalse();
+        });
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.metamodel;
+
+import jakarta.data.Order;
+import jakarta.data.Sort;
+import jakarta.data.metamodel.impl.NumericAttributeRecord;
+import jakarta.data.metamodel.impl.TemporalAttributeRecord;
+import jakarta.data.metamodel.impl.TypedAttributeRecord;
+import jakarta.data.metamodel.impl.TypedNumericAttributeRecord;
+import jakarta.data.metamodel.impl.TypedTemporalAttributeRecord;
+import jakarta.data.metamodel.impl.TypedTextAttributeRecord;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class TypedAttributeTest {
+
+    static final class Product {
+        private final long id;
+        private String name;
+        private final String sku;
+        private LocalDate released;
+
+        Product(long id, String name, String sku) {
+            this.id = id;
+            this.name = name;
+            this.sku = sku;
+        }
+
+        long getId() {
+            return id;
+        }
+
+        String getName() {
+            return name;
+        }
+
+        void setName(String name) {
+            this.name = name;
+        }
+
+        String getSku() {
+            return sku;
+        }
+
+        LocalDate getReleased() {
+            return released;
+        }
+
+        void setReleased(LocalDate released) {
+            this.released = released;
+        }
+    }
+
+    static final TypedNumericAttribute<Product, Long> ID =
+            TypedNumericAttributeRecord.ofLong("id", Product::getId);
+    static final TypedTextAttribute<Product> NAME =
+            new TypedTextAttributeRecord<>("name", Product::getName, Product::setName);
+    static final TypedAttribute<Product, String> SKU =
+            new TypedAttributeRecord<>("sku", String.class, Product::getSku);
+    static final TypedTemporalAttribute<Product, LocalDate> RELEASED =
+            new TypedTemporalAttributeRecord<>("released", LocalDate.class, Product::getReleased, Product::setReleased);
+
+    @Test
+    @DisplayName("Should read and write attribute values through the accessors")
+    void shouldAccessValues() {
+        Product product = new Product(7L, "Widget", "W-7");
+
+        NAME.set(product, "Gadget");
+
+        assertSoftly(softly -> {
+            softly.assertThat(ID.get(product)).isEqualTo(7L);
+            softly.assertThat(ID.type()).isEqualTo(Long.class);
+            softly.assertThat(ID.isSettable()).isFalse();
+            softly.assertThat(NAME.get(product)).isEqualTo("Gadget");
+            softly.assertThat(NAME.type()).isEqualTo(String.class);
+            softly.assertThat(NAME.isSettable()).isTrue();
+            softly.assertThat(SKU.get(product)).isEqualTo("W-7");
+            softly.assertThat(NAME.ascIgnoreCase()).isEqualTo(Sort.ascIgnoreCase("name"));
+            softly.assertThat(ID.desc()).isEqualTo(Sort.desc("id"));
+        });
+    }
+
+    @Test
+    @DisplayName("Should reject assigning an attribute that is not settable")
+    void shouldRejectSetWithoutSetter() {
+        Product product = new Product(1L, "Widget", "W-1");
+
+        assertThatThrownBy(() -> SKU.set(product, "W-2"))
+                .isInstanceOf(UnsupportedOperationException.class)
+                .hasMessageContaining("sku");
+        assertThatThrownBy(() -> ID.get(null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    @DisplayName("Should sort in memory using the accessors of the attributes")
+    void shouldSortWithAccessors() {
+        List<Product> products = new ArrayList<>(List.of(
+                new Product(3L, "beta", "B"),
+                new Product(1L, "Alpha", "A"),
+                new Product(2L, "alpha", "C")));
+
+        Order.by(NAME.ascIgnoreCase(), ID.desc())
+                .sort(products, TypedAttribute.accessors(ID, NAME, SKU));
+
+        assertThat(products).extracting(Product::getId).containsExactly(2L, 1L, 3L);
+    }
+
+    @Test
+    @DisplayName("Should resolve accessors by name and reject duplicate names")
+    void shouldResolveAccessorsByName() {
+        var accessors = TypedAttribute.accessors(ID, SKU);
+        Product product = new Product(5L, "Widget", "W-5");
+
+        assertSoftly(softly -> {
+            softly.assertThat(accessors.apply("id").apply(product)).isEqualTo(5L);
+            softly.assertThat(accessors.apply("sku").apply(product)).isEqualTo("W-5");
+            softly.assertThat(accessors.apply("name")).isNull();
+        });
+        assertThatIllegalArgumentException().isThrownBy(() -> TypedAttribute.accessors(SKU,
+                new TypedAttributeRecord<Product, String>("sku", String.class, Product::getName)));
+    }
+
+    @Test
+    @DisplayName("Should declare the kind of numeric and temporal attributes")
+    void shouldDeclareNumericAndTemporalKinds() {
+        Product product = new Product(9L, "Widget", "W-9");
+        RELEASED.set(product, LocalDate.of(2024, 5, 1));
+        NumericAttribute<Product> price = new NumericAttributeRecord<>("price", BigDecimal.class);
+        TemporalAttribute<Product> created = new TemporalAttributeRecord<>("created", Instant.class);
+
+        assertSoftly(softly -> {
+            softly.assertThat(ID.numericType()).isEqualTo(long.class);
+            softly.assertThat(ID.type()).isEqualTo(Long.class);
+            softly.assertThat(price.numericType()).isEqualTo(BigDecimal.class);
+            softly.assertThat(price.asc()).isEqualTo(Sort.asc("price"));
+            softly.assertThat(RELEASED.temporalType()).isEqualTo(LocalDate.class);
+            softly.assertThat(RELEASED.get(product)).isEqualTo(LocalDate.of(2024, 5, 1));
+            softly.assertThat(created.temporalType()).isEqualTo(Instant.class);
+            softly.assertThat(TypedAttribute.accessors(ID, RELEASED).apply("id"))
+                    .isInstanceOf(ToLongFunction.class);
+            softly.assertThat(TypedAttribute.accessors(
+                    new TypedNumericAttributeRecord<Product, Long>("id", Long.class, long.class, Product::getId))
+                    .apply("id")).isNotInstanceOf(ToLongFunction.class);
+        });
+        assertThatIllegalArgumentException().isThrownBy(() -> new NumericAttributeRecord<>("active", boolean.class));
+        assertThatIllegalArgumentException().isThrownBy(() ->
+                new TypedNumericAttributeRecord<Product, Long>("id", Long.class, int.class, Product::getId));
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page;
+
+import jakarta.data.Order;
+import jakarta.data.Sort;
+import jakarta.data.page.impl.CursoredPageRecord;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class CursorRangeTest {
+
+    private static final List<Integer> DATA = IntStream.rangeClosed(1, 100).boxed().collect(Collectors.toList());
+
+    private static final Order<Integer> ORDER = Order.by(Sort.asc("id"));
+
+    private static CursoredPage<Integer> findAll(PageRequest pageRequest) {
+        int after = pageRequest.cursor().map(c -> (Integer) c.get(0)).orElse(0);
+        List<Integer> content = DATA.stream().filter(i -> i > after).limit(pageRequest.size()).toList();
+        List<PageRequest.Cursor> cursors = new ArrayList<>();
+        content.forEach(i -> cursors.add(PageRequest.Cursor.forKey(i)));
+        boolean last = content.isEmpty() || content.get(content.size() - 1).equals(DATA.get(DATA.size() - 1));
+        return new CursoredPageRecord<>(content, cursors, -1, pageRequest, after == 0, last);
+    }
+
+    private static List<PageRequest.Cursor> keys(int... keys) {
+        return IntStream.of(keys).mapToObj(PageRequest.Cursor::forKey).toList();
+    }
+
+    @Test
+    @DisplayName("Should split a range into ordered disjoint ranges at sampled boundaries")
+    void shouldSplitAtSamples() {
+        List<CursorRange<Integer>> ranges = CursorRange.split(ORDER, null, null, keys(75, 25, 50, 50, 10, 90, 60), 4);
+
+        assertSoftly(softly -> {
+            softly.assertThat(ranges).hasSize(4);
+            softly.assertThat(ranges.get(0).after()).isEmpty();
+            softly.assertThat(ranges.get(0).upTo()).contains(PageRequest.Cursor.forKey(25));
+            softly.assertThat(ranges.get(1).after()).contains(PageRequest.Cursor.forKey(25));
+            softly.assertThat(ranges.get(1).upTo()).contains(PageRequest.Cursor.forKey(60));
+            softly.assertThat(ranges.get(2).upTo()).contains(PageRequest.Cursor.forKey(75));
+            softly.assertThat(ranges.get(3).after()).contains(PageRequest.Cursor.forKey(75));
+            softly.assertThat(ranges.get(3).upTo()).isEmpty();
+            softly.assertThat(ranges.get(1).contains(PageRequest.Cursor.forKey(25))).isFalse();
+            softly.assertThat(ranges.get(1).contains(PageRequest.Cursor.forKey(50))).isTrue();
+            softly.assertThat(ranges.get(1).firstPageRequest(10).mode()).isEqualTo(PageRequest.Mode.CURSOR_NEXT);
+            softly.assertThat(ranges.get(0).firstPageRequest(10).mode()).isEqualTo(PageRequest.Mode.OFFSET);
+        });
+    }
+
+    @Test
+    @DisplayName("Should ignore samples outside of the range and return fewer ranges for few samples")
+    void shouldIgnoreSamplesOutsideRange() {
+        List<CursorRange<Integer>> ranges = CursorRange.split(ORDER,
+                PageRequest.Cursor.forKey(20), PageRequest.Cursor.forKey(40), keys(5, 20, 30, 40, 95), 8);
+
+        assertThat(ranges).containsExactly(
+                CursorRange.of(ORDER, PageRequest.Cursor.forKey(20), PageRequest.Cursor.forKey(30)),
+                CursorRange.of(ORDER, PageRequest.Cursor.forKey(30), PageRequest.Cursor.forKey(40)));
+    }
+
+    @Test
+    @DisplayName("Should order cursors in descending direction")
+    void shouldHonorDescendingSort() {
+        Order<Integer> descending = Order.by(Sort.desc("id"));
+        CursorRange<Integer> range = CursorRange.of(descending,
+                PageRequest.Cursor.forKey(50), PageRequest.Cursor.forKey(10));
+
+        assertSoftly(softly -> {
+            softly.assertThat(range.contains(PageRequest.Cursor.forKey(30))).isTrue();
+            softly.assertThat(range.contains(PageRequest.Cursor.forKey(60))).isFalse();
+            softly.assertThat(range.contains(PageRequest.Cursor.forKey(5))).isFalse();
+        });
+    }
+
+    @Test
+    @DisplayName("Should scan ranges concurrently and merge them back in order")
+    void shouldScanRangesConcurrently() {
+        List<CursorRange<Integer>> ranges = CursorRange.split(ORDER, null, null, keys(17, 33, 50, 66, 83), 6);
+        ExecutorService executor = Executors.newFixedThreadPool(ranges.size());
+        try {
+            List<CompletableFuture<List<Integer>>> scans = ranges.stream()
+                    .map(range -> CompletableFuture.supplyAsync(
+                            () -> range.traverse(7, CursorRangeTest::findAll).stream().toList(), executor))
+                    .toList();
+
+            List<Integer> merged = scans.stream().flatMap(scan -> scan.join().stream()).toList();
+
+            assertSoftly(softly -> {
+                softly.assertThat(merged).containsExactlyElementsOf(DATA);
+                softly.assertThat(scans.get(1).join()).startsWith(18).endsWith(33);
+            });
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should end the traversal with a page that ends exactly on the upper bound")
+    void shouldEndAtUpperBound() {
+        CursorRange<Integer> range = CursorRange.of(ORDER, PageRequest.Cursor.forKey(10), PageRequest.Cursor.forKey(20));
+        List<PageRequest> requests = new ArrayList<>();
+
+        List<Integer> results = range.traverse(5, request -> {
+            requests.add(request);
+            return findAll(request);
+        }).stream().toList();
+
+        assertSoftly(softly -> {
+            softly.assertThat(results).containsExactlyElementsOf(DATA.subList(10, 20));
+            softly.assertThat(requests).hasSize(2);
+        });
+    }
+
+    @Test
+    @DisplayName("Should reject invalid bounds and partition counts")
+    void shouldRejectInvalidArguments() {
+        assertSoftly(softly -> {
+            softly.assertThatThrownBy(() -> CursorRange.of(ORDER,
+                            PageRequest.Cursor.forKey(40), PageRequest.Cursor.forKey(20)))
+                    .isInstanceOf(IllegalArgumentException.class);
+            softly.assertThatThrownBy(() -> CursorRange.of(ORDER, PageRequest.Cursor.forKey(1, 2), null))
+                    .isInstanceOf(IllegalArgumentException.class);
+        });
+        assertThatIllegalArgumentException().isThrownBy(() -> CursorRange.split(ORDER, null, null, List.of(), 0));
+    }
+
+    @Test
+    @DisplayName("Should compare string keys without regard to case for sorts that ignore case")
+    void shouldIgnoreCase() {
+        Order<String> byName = Order.by(Sort.ascIgnoreCase("name"), Sort.asc("id"));
+        List<CursorRange<String>> ranges = CursorRange.split(byName, null, PageRequest.Cursor.forKey("Smith", 9),
+                List.of(PageRequest.Cursor.forKey("jones", 4), PageRequest.Cursor.forKey("BROWN", 2),
+                        PageRequest.Cursor.forKey("Brown", 2), PageRequest.Cursor.forKey("smith", 9)), 4);
+
+        assertSoftly(softly -> {
+            softly.assertThat(ranges).hasSize(3);
+            softly.assertThat(ranges.get(0).upTo()).get().extracting(c -> c.get(0)).isIn("BROWN", "Brown");
+            softly.assertThat(ranges.get(1).upTo()).contains(PageRequest.Cursor.forKey("jones", 4));
+            softly.assertThat(ranges.get(2).contains(PageRequest.Cursor.forKey("MILLER", 1))).isTrue();
+            softly.assertThat(ranges.get(2).contains(PageRequest.Cursor.forKey("SMITH", 9))).isTrue();
+            softly.assertThat(ranges.get(2).contains(PageRequest.Cursor.forKey("smith", 10))).isFalse();
+            softly.assertThat(ranges.get(1).contains(PageRequest.Cursor.forKey("Jones", 3))).isTrue();
+        });
+    }
+}
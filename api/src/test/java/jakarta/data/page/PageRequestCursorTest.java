@@ -17,14 +17,22 @@
  */
 package jakarta.data.page;
 
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
+import java.util.UUID;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.SoftAssertions.assertSoftly;
 
 class PageRequestCursorTest {
@@ -221,5 +229,107 @@ class PageRequestCursorTest {
             softly.assertThat(p2.size()).isEqualTo(30);
         });
     }
-}
 
+    @Test
+    @DisplayName("Should decode an encoded cursor to an equal cursor")
+    void shouldRoundTripEncodedCursor() {
+        PageRequest.Cursor cursor = PageRequest.Cursor.forKey("Müller", 42L, -7, (short) 3, (byte) -1, 'x',
+                true, null, 2.5d, 1.25f, new BigDecimal("-12345.678"),
+                UUID.fromString("123e4567-e89b-12d3-a456-426614174000"),
+                Instant.ofEpochSecond(1_700_000_000L, 123), LocalDate.of(1969, 7, 20),
+                LocalDateTime.of(2024, 2, 29, 23, 59, 59, 999),
+                OffsetDateTime.of(2024, 1, 1, 0, 0, 0, 0, ZoneOffset.ofHours(-5)));
+
+        String token = cursor.encode();
+        PageRequest pageRequest = PageRequest.ofSize(10).afterCursor(PageRequest.Cursor.decode(token));
+
+        assertSoftly(softly -> {
+            softly.assertThat(token).matches("[A-Za-z0-9_-]+");
+            softly.assertThat(pageRequest.cursor()).get().isEqualTo(cursor);
+            softly.assertThat(pageRequest.cursor()).get().extracting(PageRequest.Cursor::hashCode)
+                    .isEqualTo(cursor.hashCode());
+            softly.assertThat(pageRequest).isEqualTo(PageRequest.ofSize(10).afterCursor(cursor));
+        });
+    }
+
+    @Test
+    @DisplayName("Should encode small integral keys compactly")
+    void shouldEncodeCompactly() {
+        // version, count, tag and a single byte varint for the value
+        assertSoftly(softly -> {
+            softly.assertThat(PageRequest.Cursor.forKey(1L).encode()).hasSize(6);
+            softly.assertThat(PageRequest.Cursor.forKey(Long.MAX_VALUE).encode()).hasSize(18);
+        });
+    }
+
+    @Test
+    @DisplayName("Should raise IllegalArgumentException for tokens and key values that cannot be encoded or decoded")
+    void shouldRejectInvalidTokens() {
+        assertThatIllegalArgumentException().isThrownBy(() -> PageRequest.Cursor.decode(null));
+        assertThatIllegalArgumentException().isThrownBy(() -> PageRequest.Cursor.decode(""));
+        assertThatIllegalArgumentException().isThrownBy(() -> PageRequest.Cursor.decode("not a token!"));
+        assertThatIllegalArgumentException().isThrownBy(() -> PageRequest.Cursor.decode("AgEG")); // version 2
+        assertThatIllegalArgumentException().isThrownBy(() -> PageRequest.Cursor.decode("AQEG")); // missing value
+        assertThatIllegalArgumentException().isThrownBy(() -> PageRequest.Cursor.decode("AQEEgPEE")); // short 40000
+        assertThatIllegalArgumentException().isThrownBy(() -> PageRequest.Cursor.decode("AQEJ8KIE")); // char 70000
+        assertThatIllegalArgumentException().isThrownBy(() -> PageRequest.Cursor.decode("AQEO_v__________AYCo1rkH")); // instant overflow
+        assertThatIllegalArgumentException().isThrownBy(() -> PageRequest.Cursor.decode("AQEMAA")); // empty big integer
+        assertThatIllegalArgumentException().isThrownBy(() -> PageRequest.Cursor.forKey(new Object()).encode());
+    }
+
+    @Test
+    @DisplayName("Single key cursors should be equal to and hash the same as cursors with the boxed key value")
+    void shouldMatchSingleKeyCursors() {
+        UUID uuid = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+        PageRequest.Cursor longCursor = PageRequest.Cursor.forKey(5000000000L);
+        PageRequest.Cursor intCursor = PageRequest.Cursor.forKey(-17);
+        PageRequest.Cursor uuidCursor = PageRequest.Cursor.forUUIDKey(uuid);
+        PageRequest.Cursor boxedLong = new PageRequestCursor(5000000000L);
+        PageRequest.Cursor boxedInt = new PageRequestCursor(-17);
+        PageRequest.Cursor boxedUUID = new PageRequestCursor(uuid);
+
+        assertSoftly(softly -> {
+            softly.assertThat(longCursor).isInstanceOf(LongKeyCursor.class);
+            softly.assertThat(intCursor).isInstanceOf(IntKeyCursor.class);
+            softly.assertThat(uuidCursor).isInstanceOf(UUIDKeyCursor.class);
+
+            softly.assertThat(longCursor).isEqualTo(boxedLong).hasSameHashCodeAs(boxedLong);
+            softly.assertThat(boxedLong).isEqualTo(longCursor);
+            softly.assertThat(intCursor).isEqualTo(boxedInt).hasSameHashCodeAs(boxedInt);
+            softly.assertThat(boxedInt).isEqualTo(intCursor);
+            softly.assertThat(uuidCursor).isEqualTo(boxedUUID).hasSameHashCodeAs(boxedUUID);
+            softly.assertThat(boxedUUID).isEqualTo(uuidCursor);
+
+            softly.assertThat(longCursor).isNotEqualTo(PageRequest.Cursor.forKey(5000000001L));
+            softly.assertThat(PageRequest.Cursor.forKey(7L)).isNotEqualTo(PageRequest.Cursor.forKey(7));
+            softly.assertThat(PageRequest.Cursor.forKey(7L)).isNotEqualTo(PageRequest.Cursor.forKey(7L, 1));
+
+            softly.assertThat(longCursor.size()).isEqualTo(1);
+            softly.assertThat(longCursor.get(0)).isEqualTo(5000000000L);
+            softly.assertThat(intCursor.elements()).isEqualTo(List.of(-17));
+            softly.assertThat(uuidCursor.elements()).isEqualTo(List.of(uuid));
+            softly.assertThat(intCursor.elements()).isSameAs(intCursor.elements());
+            softly.assertThat(PageRequest.Cursor.decode(longCursor.encode())).isEqualTo(longCursor);
+            softly.assertThat(PageRequest.ofSize(10).afterCursor(intCursor))
+                    .isEqualTo(PageRequest.ofSize(10).afterCursor(boxedInt));
+        });
+        assertThatThrownBy(() -> longCursor.get(1)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> PageRequest.Cursor.forUUIDKey(null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    @DisplayName("Short, byte and char keys should keep their boxed types")
+    void shouldKeepNarrowKeyTypes() {
+        short s = 3;
+        byte b = -1;
+        char c = 'x';
+
+        assertSoftly(softly -> {
+            softly.assertThat(PageRequest.Cursor.forKey(s).get(0)).isEqualTo(Short.valueOf(s));
+            softly.assertThat(PageRequest.Cursor.forKey(b).get(0)).isEqualTo(Byte.valueOf(b));
+            softly.assertThat(PageRequest.Cursor.forKey(c).get(0)).isEqualTo(Character.valueOf(c));
+            softly.assertThat(PageRequest.Cursor.forKey(s)).isEqualTo(PageRequest.Cursor.forKey((Object) s));
+            softly.assertThat(PageRequest.Cursor.forKey(s)).isNotEqualTo(PageRequest.Cursor.forKey(3));
+        });
+    }
+}
@@ -23,6 +23,7 @@ import org.junit.jupiter.api.Test;
 import jakarta.data.Sort;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -95,6 +96,93 @@ class PageRequestTest {
         });
     }
 
+    @Test
+    @DisplayName("The estimated total configuration must replace exact totals and be preserved by subsequent configuration.")
+    void shouldRequestEstimatedTotal() {
+        PageRequest estimated = PageRequest.ofPage(3).withEstimatedTotal().size(40)
+                .afterCursor(PageRequest.Cursor.forKey(12L));
+
+        assertSoftly(softly -> {
+            softly.assertThat(PageRequest.ofSize(10).requestEstimatedTotal()).isFalse();
+            softly.assertThat(estimated.requestEstimatedTotal()).isTrue();
+            softly.assertThat(estimated.requestTotal()).isFalse();
+            softly.assertThat(estimated.size()).isEqualTo(40);
+            softly.assertThat(estimated.mode()).isEqualTo(PageRequest.Mode.CURSOR_NEXT);
+            softly.assertThat(estimated.withTotal().requestEstimatedTotal()).isFalse();
+            softly.assertThat(estimated.withTotal().requestTotal()).isTrue();
+            softly.assertThat(estimated.withoutTotal().requestEstimatedTotal()).isFalse();
+            softly.assertThat(estimated.withoutTotal().requestTotal()).isFalse();
+            softly.assertThat(estimated).isNotEqualTo(estimated.withoutTotal());
+        });
+    }
+
+    @Test
+    @DisplayName("Page requests that predate estimated totals should request the exact total instead.")
+    void shouldDefaultEstimatedTotal() {
+        PageRequest legacy = new LegacyPageRequest(PageRequest.ofPage(2).withoutTotal());
+
+        assertSoftly(softly -> {
+            softly.assertThat(legacy.requestEstimatedTotal()).isFalse();
+            softly.assertThat(legacy.withEstimatedTotal().requestTotal()).isTrue();
+            softly.assertThat(legacy.withEstimatedTotal().page()).isEqualTo(2L);
+        });
+    }
+
+    /**
+     * A page request that only implements the methods which are not default methods.
+     */
+    private record LegacyPageRequest(PageRequest delegate) implements PageRequest {
+        @Override
+        public PageRequest afterCursor(Cursor cursor) {
+            return new LegacyPageRequest(delegate.afterCursor(cursor));
+        }
+
+        @Override
+        public PageRequest beforeCursor(Cursor cursor) {
+            return new LegacyPageRequest(delegate.beforeCursor(cursor));
+        }
+
+        @Override
+        public Optional<Cursor> cursor() {
+            return delegate.cursor();
+        }
+
+        @Override
+        public Mode mode() {
+            return delegate.mode();
+        }
+
+        @Override
+        public long page() {
+            return delegate.page();
+        }
+
+        @Override
+        public int size() {
+            return delegate.size();
+        }
+
+        @Override
+        public boolean requestTotal() {
+            return delegate.requestTotal();
+        }
+
+        @Override
+        public PageRequest size(int maxPageSize) {
+            return new LegacyPageRequest(delegate.size(maxPageSize));
+        }
+
+        @Override
+        public PageRequest withoutTotal() {
+            return new LegacyPageRequest(delegate.withoutTotal());
+        }
+
+        @Override
+        public PageRequest withTotal() {
+            return new LegacyPageRequest(delegate.withTotal());
+        }
+    }
+
     @Test
     @DisplayName("Should throw IllegalArgumentException when page is not present")
     void shouldReturnErrorWhenThereIsIllegalArgument() {
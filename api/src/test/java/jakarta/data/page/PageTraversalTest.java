@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page;
+
+import jakarta.data.page.impl.CursoredPageRecord;
+import jakarta.data.page.impl.PageRecord;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class PageTraversalTest {
+
+    private static final List<Integer> DATA = IntStream.rangeClosed(1, 23).boxed().collect(Collectors.toList());
+
+    private final List<PageRequest> requests = new CopyOnWriteArrayList<>();
+
+    private Page<Integer> offsetPage(PageRequest pageRequest) {
+        requests.add(pageRequest);
+        int start = (int) Math.min(DATA.size(), (pageRequest.page() - 1) * pageRequest.size());
+        int end = Math.min(DATA.size(), start + pageRequest.size());
+        return new PageRecord<>(pageRequest, DATA.subList(start, end),
+                pageRequest.requestTotal() ? DATA.size() : -1);
+    }
+
+    private CursoredPage<Integer> cursoredPage(PageRequest pageRequest) {
+        requests.add(pageRequest);
+        int after = pageRequest.cursor().map(c -> (Integer) c.get(0)).orElse(0);
+        List<Integer> content = DATA.stream().filter(i -> i > after).limit(pageRequest.size()).toList();
+        List<PageRequest.Cursor> cursors = new ArrayList<>();
+        content.forEach(i -> cursors.add(PageRequest.Cursor.forKey(i)));
+        boolean last = content.isEmpty() || content.get(content.size() - 1).equals(DATA.get(DATA.size() - 1));
+        return new CursoredPageRecord<>(content, cursors, -1, pageRequest, after == 0, last);
+    }
+
+    @Test
+    @DisplayName("Should traverse all pages in order without prefetching")
+    void shouldTraverseAllPages() {
+        PageTraversal<Integer> traversal = PageTraversal.of(PageRequest.ofSize(5), this::offsetPage);
+
+        assertThat(requests).isEmpty();
+        assertThat(traversal).containsExactlyElementsOf(DATA);
+        assertSoftly(softly -> {
+            softly.assertThat(requests).hasSize(5);
+            softly.assertThat(requests.get(0).requestTotal()).isTrue();
+            softly.assertThat(requests.get(1).requestTotal()).isFalse();
+            softly.assertThat(requests.get(4).page()).isEqualTo(5L);
+        });
+    }
+
+    @Test
+    @DisplayName("Should not request pages beyond those consumed when prefetching is disabled")
+    void shouldRequestLazily() {
+        try (Stream<Integer> stream = PageTraversal.of(PageRequest.ofSize(5), this::offsetPage).stream()) {
+            assertThat(stream.limit(7).toList()).containsExactly(1, 2, 3, 4, 5, 6, 7);
+        }
+        assertThat(requests).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Should not prefetch pages for an iterator, which cannot be closed")
+    void shouldNotPrefetchForIterator() {
+        Iterator<Integer> iterator = PageTraversal.of(PageRequest.ofSize(5), this::offsetPage)
+                .prefetch(3, Runnable::run)
+                .iterator();
+
+        List<Integer> first = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            first.add(iterator.next());
+        }
+
+        assertSoftly(softly -> {
+            softly.assertThat(first).containsExactly(1, 2, 3, 4, 5, 6, 7);
+            softly.assertThat(requests).hasSize(2);
+        });
+    }
+
+    @Test
+    @DisplayName("Should prefetch cursored pages in the background and return them in order")
+    void shouldPrefetchCursoredPages() {
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try (Stream<Page<Integer>> pages = PageTraversal.of(PageRequest.ofSize(4), this::cursoredPage)
+                .prefetch(3, executor)
+                .pages()) {
+            List<Page<Integer>> all = pages.toList();
+
+            assertSoftly(softly -> {
+                softly.assertThat(all).hasSize(6);
+                softly.assertThat(all.stream().flatMap(Page::stream)).containsExactlyElementsOf(DATA);
+                softly.assertThat(all.get(5).hasNext()).isFalse();
+                softly.assertThat(requests).hasSize(6);
+                softly.assertThat(requests.get(5).mode()).isEqualTo(PageRequest.Mode.CURSOR_NEXT);
+                softly.assertThat(requests.get(5).cursor()).get().extracting(c -> c.get(0)).isEqualTo(20);
+            });
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should raise the exception of a failed page request")
+    void shouldRaiseErrorOfPageRequest() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            PageTraversal<Integer> traversal = PageTraversal.of(PageRequest.ofSize(5), (PageRequest req) -> {
+                if (req.page() == 3) {
+                    throw new UnsupportedOperationException("page 3");
+                }
+                return offsetPage(req);
+            }).prefetch(1, executor);
+
+            assertThatThrownBy(() -> traversal.stream().forEach(i -> { }))
+                    .isInstanceOf(UnsupportedOperationException.class)
+                    .hasMessage("page 3");
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject a negative prefetch depth")
+    void shouldRejectNegativeDepth() {
+        PageTraversal<Integer> traversal = PageTraversal.of(PageRequest.ofSize(5), this::offsetPage);
+        assertThatIllegalArgumentException().isThrownBy(() -> traversal.prefetch(-1, Runnable::run));
+    }
+}
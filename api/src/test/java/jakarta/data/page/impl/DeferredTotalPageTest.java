@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page.impl;
+
+import jakarta.data.exceptions.DataException;
+import jakarta.data.page.Page;
+import jakarta.data.page.PageRequest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class DeferredTotalPageTest {
+
+    @Test
+    @DisplayName("Should provide the content before the total is computed and the total once it is computed.")
+    void shouldProvideTotalWhenComputed() {
+        PageRequest pageRequest = PageRequest.ofPage(2).size(3);
+        CompletableFuture<Long> count = new CompletableFuture<>();
+        DeferredTotalPage<String> page = new DeferredTotalPage<>(
+                new PageRecord<>(pageRequest, List.of("D", "E", "F"), -1), count);
+
+        assertSoftly(softly -> {
+            softly.assertThat(page.content()).containsExactly("D", "E", "F");
+            softly.assertThat(page.hasNext()).isTrue();
+            softly.assertThat(page.hasPrevious()).isTrue();
+            softly.assertThat(page.hasTotals()).isTrue();
+            softly.assertThat(page.toString()).contains("pending");
+        });
+
+        count.complete(8L);
+
+        assertSoftly(softly -> {
+            softly.assertThat(page.totalElements()).isEqualTo(8L);
+            softly.assertThat(page.totalPages()).isEqualTo(3L);
+            softly.assertThat(page.totalElementsEstimate()).isEqualTo(8L);
+            softly.assertThat(page.cancelTotal()).isFalse();
+            softly.assertThat(page.hasTotals()).isTrue();
+        });
+    }
+
+    @Test
+    @DisplayName("Should make totals unavailable once the computation of the total is cancelled.")
+    void shouldCancelTotal() {
+        PageRequest pageRequest = PageRequest.ofSize(2);
+        CompletableFuture<Long> count = new CompletableFuture<>();
+        List<PageRequest.Cursor> cursors = List.of(PageRequest.Cursor.forKey(1L), PageRequest.Cursor.forKey(2L));
+        Page<Long> page = new DeferredTotalCursoredPage<>(
+                new CursoredPageRecord<>(List.of(1L, 2L), cursors, -1, pageRequest, true, false), count);
+
+        assertSoftly(softly -> {
+            softly.assertThat(page.cancelTotal()).isTrue();
+            softly.assertThat(count.isCancelled()).isTrue();
+            softly.assertThat(page.hasTotals()).isFalse();
+            softly.assertThat(page.hasTotalsEstimate()).isFalse();
+            softly.assertThat(((DeferredTotalCursoredPage<Long>) page).cursor(1)).isEqualTo(PageRequest.Cursor.forKey(2L));
+            softly.assertThat(page.nextPageRequest().cursor()).get().isEqualTo(PageRequest.Cursor.forKey(2L));
+        });
+        assertThatThrownBy(page::totalElements).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(page::totalPages).isInstanceOf(IllegalStateException.class);
+
+        DeferredTotalPage<Long> withoutTotal = new DeferredTotalPage<>(
+                new PageRecord<>(pageRequest.withoutTotal(), List.of(1L), -1), null);
+
+        assertSoftly(softly -> {
+            softly.assertThat(withoutTotal.hasTotals()).isFalse();
+            softly.assertThat(withoutTotal.cancelTotal()).isFalse();
+            softly.assertThat(new PageRecord<>(pageRequest, List.of(1L), 1L).cancelTotal()).isFalse();
+        });
+        assertThatThrownBy(withoutTotal::totalElements).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("Should raise the failure of the computation of the total.")
+    void shouldRaiseFailureOfTotal() {
+        CompletableFuture<Long> count = CompletableFuture.failedFuture(new DataException("count failed"));
+        DeferredTotalPage<String> page = new DeferredTotalPage<>(
+                new PageRecord<>(PageRequest.ofSize(5), List.of("A"), -1), count);
+
+        assertThatThrownBy(page::totalElements).isInstanceOf(DataException.class).hasMessage("count failed");
+
+        DeferredTotalPage<String> failed = new DeferredTotalPage<>(new PageRecord<>(PageRequest.ofSize(5), List.of("A"), -1),
+                CompletableFuture.failedFuture(new OutOfMemoryError("count")));
+
+        assertThatThrownBy(failed::totalElements).isInstanceOf(OutOfMemoryError.class).hasMessage("count");
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page.impl;
+
+import jakarta.data.page.Page;
+import jakarta.data.page.PageRequest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class LazyContentTest {
+
+    @Test
+    @DisplayName("Should materialize only the elements of a page that are accessed, once each")
+    void shouldMaterializeOnAccess() {
+        AtomicInteger materialized = new AtomicInteger();
+        List<String> rows = List.of("a", "b", "c", "d", "e");
+        LazyContent<String> content = LazyContent.of(rows, row -> {
+            materialized.incrementAndGet();
+            return row.toUpperCase();
+        });
+        Page<String> page = new PageRecord<>(PageRequest.ofSize(5), content, -1);
+
+        assertSoftly(softly -> {
+            softly.assertThat(page.numberOfElements()).isEqualTo(5);
+            softly.assertThat(page.hasContent()).isTrue();
+            softly.assertThat(materialized).hasValue(0);
+            softly.assertThat(page.stream().limit(2)).containsExactly("A", "B");
+            softly.assertThat(materialized).hasValue(2);
+            softly.assertThat(content.isMaterialized(1)).isTrue();
+            softly.assertThat(content.isMaterialized(2)).isFalse();
+            softly.assertThat(page.content()).containsExactly("A", "B", "C", "D", "E");
+            softly.assertThat(materialized).hasValue(5);
+        });
+    }
+
+    @Test
+    @DisplayName("Should be unmodifiable and reject invalid positions")
+    void shouldBeUnmodifiable() {
+        LazyContent<Integer> content = LazyContent.of(3, index -> index * 10);
+
+        assertSoftly(softly -> {
+            softly.assertThat(content).containsExactly(0, 10, 20);
+            softly.assertThatThrownBy(() -> content.set(0, 1)).isInstanceOf(UnsupportedOperationException.class);
+            softly.assertThatThrownBy(() -> content.get(3)).isInstanceOf(IndexOutOfBoundsException.class);
+        });
+        assertThatThrownBy(() -> LazyContent.of(-1, index -> index)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
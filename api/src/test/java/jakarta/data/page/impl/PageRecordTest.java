@@ -22,6 +22,7 @@ import org.junit.jupiter.api.Test;
 
 import jakarta.data.page.PageRequest;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.NoSuchElementException;
 
@@ -112,4 +113,66 @@ class PageRecordTest {
         });
     }
 
+    @Test
+    @DisplayName("Pages with an estimated total must expose the estimate without treating it as an exact total.")
+    void shouldCreateInstanceWithEstimatedTotal() {
+
+        PageRequest page2Request = PageRequest.ofPage(2).size(4).withEstimatedTotal();
+        EstimatedPageRecord<String> page2 = new EstimatedPageRecord<>(page2Request, List.of("E", "F", "G", "H"), 1_200_000L);
+
+        assertSoftly(softly -> {
+            softly.assertThat(page2.hasNext()).isEqualTo(true);
+            softly.assertThat(page2.hasTotals()).isEqualTo(false);
+            softly.assertThat(page2.hasTotalsEstimate()).isEqualTo(true);
+            softly.assertThat(page2.totalElementsEstimate()).isEqualTo(1_200_000L);
+            softly.assertThat(page2.nextPageRequest()).isEqualTo(PageRequest.ofPage(3).size(4).withEstimatedTotal());
+            softly.assertThat(page2.previousPageRequest()).isEqualTo(PageRequest.ofPage(1).size(4).withEstimatedTotal());
+        });
+        assertThatThrownBy(() -> page2.totalElements()).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> page2.totalPages()).isInstanceOf(IllegalStateException.class);
+
+        // an estimate that is too low must not end the pagination and is raised to the elements seen so far
+        EstimatedPageRecord<String> page3 = new EstimatedPageRecord<>(PageRequest.ofPage(3).size(4), List.of("I", "J", "K", "L"), 5L);
+
+        assertSoftly(softly -> {
+            softly.assertThat(page3.hasNext()).isEqualTo(true);
+            softly.assertThat(page3.totalElementsEstimate()).isEqualTo(12L);
+        });
+
+        // pages with exact totals supply the exact total as the estimate
+        PageRecord<String> exact = new PageRecord<>(PageRequest.ofPage(1).size(4), List.of("A", "B"), 2L);
+        PageRecord<String> none = new PageRecord<>(PageRequest.ofPage(2).size(2).withEstimatedTotal(), List.of("C", "D"), -1L);
+
+        assertSoftly(softly -> {
+            softly.assertThat(exact.hasTotalsEstimate()).isEqualTo(true);
+            softly.assertThat(exact.totalElementsEstimate()).isEqualTo(2L);
+            softly.assertThat(none.hasTotalsEstimate()).isEqualTo(false);
+            softly.assertThat(none.nextPageRequest()).isEqualTo(PageRequest.ofPage(3).size(2).withEstimatedTotal());
+        });
+        assertThatThrownBy(() -> none.totalElementsEstimate()).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("Cursored pages with a key extractor must only extract the cursors that are used.")
+    void shouldExtractCursorsOnDemand() {
+
+        List<PageRequest.Cursor> extracted = new ArrayList<>();
+        PageRequest pageRequest = PageRequest.ofSize(4);
+        CursoredPageRecord<Long> page = new CursoredPageRecord<>(List.of(10L, 20L, 30L, 40L), id -> {
+            PageRequest.Cursor cursor = PageRequest.Cursor.forKey(id);
+            extracted.add(cursor);
+            return cursor;
+        }, -1, pageRequest, false, false);
+
+        assertSoftly(softly -> {
+            softly.assertThat(extracted).hasSize(2);
+            softly.assertThat(page.nextPageRequest())
+                    .isEqualTo(PageRequest.afterCursor(PageRequest.Cursor.forKey(40L), 2, 4, true));
+            softly.assertThat(page.previousPageRequest())
+                    .isEqualTo(PageRequest.beforeCursor(PageRequest.Cursor.forKey(10L), 1, 4, true));
+            softly.assertThat(page.cursor(2)).isEqualTo(PageRequest.Cursor.forKey(30L));
+            softly.assertThat(extracted).hasSize(3);
+            softly.assertThat(page.cursor(2)).isSameAs(extracted.get(2));
+        });
+    }
 }
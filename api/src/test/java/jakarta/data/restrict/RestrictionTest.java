@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.restrict;
+
+import jakarta.data.metamodel.TypedAttribute;
+import jakarta.data.metamodel.TypedSortableAttribute;
+import jakarta.data.metamodel.TypedTextAttribute;
+import jakarta.data.metamodel.impl.TypedAttributeRecord;
+import jakarta.data.metamodel.impl.TypedSortableAttributeRecord;
+import jakarta.data.metamodel.impl.TypedTextAttributeRecord;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class RestrictionTest {
+
+    record Product(String name, int price, String color) {
+    }
+
+    private static final TypedSortableAttribute<Product, Integer> PRICE =
+            new TypedSortableAttributeRecord<>("price", Integer.class, Product::price);
+    private static final TypedTextAttribute<Product> NAME = new TypedTextAttributeRecord<>("name", Product::name);
+    private static final TypedAttribute<Product, String> COLOR =
+            new TypedAttributeRecord<>("color", String.class, Product::color);
+
+    @Test
+    @DisplayName("Should render the shape of restrictions with positional parameters in the order of the values")
+    void shouldRenderShapeAndValues() {
+        Restriction<Product> restriction = NAME.like("%phone%")
+                .and(PRICE.lessThan(10).or(PRICE.between(100, 200)))
+                .and(COLOR.in(List.of("red", "blue")));
+
+        assertSoftly(softly -> {
+            softly.assertThat(restriction.shape())
+                    .isEqualTo("color IN (?1, ?2) AND name LIKE ?3 AND (price < ?4 OR price BETWEEN ?5 AND ?6)");
+            softly.assertThat(restriction.values()).containsExactly("red", "blue", "%phone%", 10, 100, 200);
+            softly.assertThat(COLOR.isNull().shape()).isEqualTo("color IS NULL");
+            softly.assertThat(Restriction.not(NAME.like("a%").or(COLOR.notNull())).shape())
+                    .isEqualTo("NOT (color IS NOT NULL OR name LIKE ?1)");
+        });
+    }
+
+    @Test
+    @DisplayName("Should give restrictions that differ only in their values the same canonical shape")
+    void shouldCanonicalize() {
+        Restriction<Product> first = Restriction.all(PRICE.greaterThan(5), Restriction.all(NAME.like("a%"), COLOR.equalTo("red")));
+        Restriction<Product> second = Restriction.all(COLOR.equalTo("blue"), NAME.like("b%"), PRICE.greaterThan(7));
+
+        assertSoftly(softly -> {
+            softly.assertThat(first.shape()).isEqualTo(second.shape());
+            softly.assertThat(first.values()).containsExactly("red", "a%", 5);
+            softly.assertThat(second.values()).containsExactly("blue", "b%", 7);
+            softly.assertThat(COLOR.equalTo(null)).isEqualTo(COLOR.isNull());
+            softly.assertThat(COLOR.notEqualTo(null)).isEqualTo(COLOR.notNull());
+            softly.assertThat(COLOR.in(List.of("red", "red"))).isEqualTo(COLOR.equalTo("red"));
+            softly.assertThat(Restriction.not(PRICE.lessThan(3))).isEqualTo(PRICE.greaterThanEqual(3));
+            softly.assertThat(Restriction.not(Restriction.not(NAME.like("a%")))).isEqualTo(NAME.like("a%"));
+            softly.assertThat(Restriction.all(List.of(NAME.like("a%")))).isEqualTo(NAME.like("a%"));
+        });
+    }
+
+    @Test
+    @DisplayName("Should treat an unrestricted restriction as the identity of all and the absorbing element of any")
+    void shouldHandleUnrestricted() {
+        Restriction<Product> none = Restriction.unrestricted();
+
+        assertSoftly(softly -> {
+            softly.assertThat(none.isUnrestricted()).isTrue();
+            softly.assertThat(none.shape()).isEmpty();
+            softly.assertThat(none.values()).isEmpty();
+            softly.assertThat(Restriction.all(List.<Restriction<Product>>of())).isEqualTo(none);
+            softly.assertThat(Restriction.all(none, PRICE.lessThan(1))).isEqualTo(PRICE.lessThan(1));
+            softly.assertThat(Restriction.any(none, PRICE.lessThan(1)).isUnrestricted()).isTrue();
+        });
+        assertThatThrownBy(none::negate).isInstanceOf(UnsupportedOperationException.class);
+        assertThatIllegalArgumentException().isThrownBy(() -> Restriction.any(List.<Restriction<Product>>of()));
+    }
+
+    @Test
+    @DisplayName("Should reject values that do not match the operator")
+    void shouldRejectInvalidValues() {
+        assertThatIllegalArgumentException().isThrownBy(() -> COLOR.in(List.of()));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new BasicRestriction<Product>("price", Operator.BETWEEN, List.of(1)));
+        assertThatThrownBy(() -> PRICE.lessThan(null)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> Restriction.all(PRICE.lessThan(1), null)).isInstanceOf(NullPointerException.class);
+        assertThat(Operator.NOT_BETWEEN.negate()).isEqualTo(Operator.BETWEEN);
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class BatchLoaderTest {
+
+    private record Person(long id, String name) {
+    }
+
+    private final List<List<Long>> queries = new CopyOnWriteArrayList<>();
+
+    private List<Person> findById(List<Long> ids) {
+        queries.add(ids);
+        return ids.stream().filter(id -> id % 10 != 0).map(id -> new Person(id, "p" + id)).toList();
+    }
+
+    private List<Optional<Person>> loadConcurrently(BatchLoader<Long, Person> loader, long... ids) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(ids.length);
+        try {
+            List<Future<Optional<Person>>> futures = new ArrayList<>();
+            for (long id : ids) {
+                futures.add(executor.submit(() -> loader.load(id)));
+            }
+            List<Optional<Person>> results = new ArrayList<>();
+            for (Future<Optional<Person>> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should coalesce concurrent lookups into batches of the maximum size and fan out the results")
+    void shouldCoalesceLookups() throws Exception {
+        BatchLoader<Long, Person> loader = new BatchLoader<>(2, Duration.ofMinutes(1), this::findById, Person::id);
+
+        List<Optional<Person>> results = loadConcurrently(loader, 1L, 2L, 3L, 10L);
+
+        assertSoftly(softly -> {
+            softly.assertThat(results).extracting(r -> r.map(Person::name).orElse(null))
+                    .containsExactly("p1", "p2", "p3", null);
+            softly.assertThat(queries).hasSize(2).allSatisfy(ids -> assertThat(ids).hasSize(2));
+            BatchLoader.Statistics statistics = loader.statistics();
+            softly.assertThat(statistics.batches()).isEqualTo(2L);
+            softly.assertThat(statistics.requests()).isEqualTo(4L);
+            softly.assertThat(statistics.averageBatchSize()).isEqualTo(2.0);
+            softly.assertThat(statistics.largestBatch()).isEqualTo(2);
+            softly.assertThat(statistics.averageWait()).isLessThan(Duration.ofMinutes(1));
+        });
+    }
+
+    @Test
+    @DisplayName("Should share the result of the same identifier within a batch")
+    void shouldDeduplicateIdentifiers() throws Exception {
+        BatchLoader<Long, Person> loader = new BatchLoader<>(2, Duration.ofMinutes(1), this::findById, Person::id);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Optional<Person>> first = executor.submit(() -> loader.load(5L));
+            awaitRequests(loader, 1L);
+            Future<Optional<Person>> second = executor.submit(() -> loader.load(5L));
+            awaitRequests(loader, 2L);
+            Optional<Person> third = loader.load(6L);
+            List<Optional<Person>> results = List.of(first.get(), second.get(), third);
+
+            assertSoftly(softly -> {
+                softly.assertThat(results).extracting(r -> r.orElseThrow().id())
+                        .containsExactly(5L, 5L, 6L);
+                softly.assertThat(queries).containsExactly(List.of(5L, 6L));
+                softly.assertThat(loader.statistics().requests()).isEqualTo(3L);
+                softly.assertThat(loader.statistics().keys()).isEqualTo(2L);
+            });
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static void awaitRequests(BatchLoader<?, ?> loader, long requests) throws InterruptedException {
+        while (loader.statistics().requests() < requests) {
+            Thread.sleep(1L);
+        }
+    }
+
+    @Test
+    @DisplayName("Should retrieve a batch when the maximum wait time elapses")
+    void shouldRetrieveAfterMaxWait() {
+        BatchLoader<Long, Person> loader = new BatchLoader<>(100, Duration.ofMillis(5), this::findById, Person::id);
+
+        assertSoftly(softly -> {
+            softly.assertThat(loader.load(7L)).map(Person::name).contains("p7");
+            softly.assertThat(loader.load(20L)).isEmpty();
+            softly.assertThat(queries).containsExactly(List.of(7L), List.of(20L));
+            softly.assertThat(loader.statistics().averageWait()).isGreaterThanOrEqualTo(Duration.ofMillis(5));
+        });
+    }
+
+    @Test
+    @DisplayName("Should raise the exception of the batch query to every lookup in the batch")
+    void shouldRaiseQueryException() throws Exception {
+        Function<List<Long>, List<Person>> failing = ids -> {
+            throw new IllegalStateException("unavailable");
+        };
+        BatchLoader<Long, Person> loader = new BatchLoader<>(1, Duration.ZERO, failing, Person::id);
+
+        assertThatThrownBy(() -> loader.load(1L))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("unavailable");
+    }
+
+    @Test
+    @DisplayName("Should raise the exception of the batch query to every lookup of a batch of several lookups")
+    void shouldRaiseQueryExceptionToEveryLookup() throws Exception {
+        Function<List<Long>, List<Person>> failing = ids -> {
+            queries.add(ids);
+            throw new IllegalStateException("unavailable");
+        };
+        BatchLoader<Long, Person> loader = new BatchLoader<>(2, Duration.ofMinutes(1), failing, Person::id);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Optional<Person>> first = executor.submit(() -> loader.load(1L));
+            awaitRequests(loader, 1L);
+            Future<Optional<Person>> second = executor.submit(() -> loader.load(2L));
+
+            assertSoftly(softly -> {
+                softly.assertThatThrownBy(first::get).hasCauseInstanceOf(IllegalStateException.class)
+                        .hasRootCauseMessage("unavailable");
+                softly.assertThatThrownBy(second::get).hasCauseInstanceOf(IllegalStateException.class)
+                        .hasRootCauseMessage("unavailable");
+                softly.assertThat(queries).containsExactly(List.of(1L, 2L));
+            });
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject invalid batch sizes and wait times")
+    void shouldRejectInvalidArguments() {
+        assertSoftly(softly -> {
+            softly.assertThatThrownBy(() -> new BatchLoader<>(0, Duration.ZERO, this::findById, Person::id))
+                    .isInstanceOf(IllegalArgumentException.class);
+            softly.assertThatThrownBy(() -> new BatchLoader<>(1, Duration.ofMillis(-1), this::findById, Person::id))
+                    .isInstanceOf(IllegalArgumentException.class);
+        });
+    }
+}
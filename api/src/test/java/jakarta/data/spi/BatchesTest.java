@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class BatchesTest {
+
+    @Test
+    @DisplayName("Should group elements into batches of the size with a smaller last batch")
+    void shouldGroupIntoBatches() {
+        List<List<Integer>> batches = Batches.of(IntStream.rangeClosed(1, 7).boxed(), 3).toList();
+
+        assertSoftly(softly -> {
+            softly.assertThat(batches).isEqualTo(List.of(List.of(1, 2, 3), List.of(4, 5, 6), List.of(7)));
+            softly.assertThatThrownBy(() -> batches.get(0).add(8)).isInstanceOf(UnsupportedOperationException.class);
+            softly.assertThat(Batches.of(Stream.empty(), 3)).isEmpty();
+        });
+    }
+
+    @Test
+    @DisplayName("Should consume elements one batch at a time and close the source")
+    void shouldConsumeLazily() {
+        AtomicInteger consumed = new AtomicInteger();
+        AtomicBoolean closed = new AtomicBoolean();
+        Stream<Integer> source = IntStream.iterate(1, i -> i + 1).boxed()
+                .peek(i -> consumed.incrementAndGet())
+                .onClose(() -> closed.set(true));
+
+        try (Stream<List<Integer>> batches = Batches.of(source, 4)) {
+            List<List<Integer>> first = batches.limit(2).toList();
+
+            assertSoftly(softly -> {
+                softly.assertThat(first).isEqualTo(List.of(List.of(1, 2, 3, 4), List.of(5, 6, 7, 8)));
+                softly.assertThat(consumed).hasValue(8);
+            });
+        }
+        assertSoftly(softly -> softly.assertThat(closed).isTrue());
+        assertThatIllegalArgumentException().isThrownBy(() -> Batches.of(Stream.of(1), 0));
+    }
+
+    @Test
+    @DisplayName("Should write elements in batches, consuming each batch after the previous one is written")
+    void shouldWriteInBatches() {
+        AtomicInteger consumed = new AtomicInteger();
+        Iterator<Integer> source = IntStream.rangeClosed(1, 7).boxed()
+                .peek(i -> consumed.incrementAndGet())
+                .iterator();
+        List<String> written = new ArrayList<>();
+
+        long count = Batches.write(source, 3, batch -> written.add(batch + " after " + consumed.get()));
+
+        assertSoftly(softly -> {
+            softly.assertThat(count).isEqualTo(7L);
+            softly.assertThat(written).containsExactly("[1, 2, 3] after 3", "[4, 5, 6] after 6", "[7] after 7");
+        });
+        assertThatIllegalArgumentException().isThrownBy(() -> Batches.write(source, 0, batch -> { }));
+    }
+}
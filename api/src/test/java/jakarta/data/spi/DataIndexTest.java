@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.StringReader;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class DataIndexTest {
+
+    @TempDir
+    Path root;
+
+    @Test
+    @DisplayName("Should read records, unescaping fields and ignoring comments and unknown records")
+    void shouldReadIndex() throws Exception {
+        DataIndex index = DataIndex.read(new StringReader("""
+                # comment
+                entity\torg.example.Product
+                future\tsomething
+                repository\torg.example.Products\torg.example.Product\tdata\\tstore\tAcme\\r\\nData
+                """));
+
+        assertSoftly(softly -> {
+            softly.assertThat(index.entities()).containsExactly("org.example.Product");
+            softly.assertThat(index.repositories()).containsExactly(new DataIndex.RepositoryEntry(
+                    "org.example.Products", "org.example.Product", "data\tstore", "Acme\r\nData"));
+        });
+    }
+
+    @Test
+    @DisplayName("Should combine the indexes that are visible to a class loader")
+    void shouldLoadIndexes() throws Exception {
+        Path first = Files.createDirectories(root.resolve("first/META-INF/jakarta.data"));
+        Path second = Files.createDirectories(root.resolve("second/META-INF/jakarta.data"));
+        Files.writeString(first.resolve("index"), "entity\ta.A\nrepository\ta.As\ta.A\t\tAcme\n");
+        Files.writeString(second.resolve("index"), "entity\tb.B\nentity\ta.A\n");
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{
+                root.resolve("first").toUri().toURL(), root.resolve("second").toUri().toURL()}, null)) {
+            DataIndex index = DataIndex.load(loader);
+
+            assertSoftly(softly -> {
+                softly.assertThat(index.entities()).containsExactly("a.A", "b.B");
+                softly.assertThat(index.repositories("Acme")).hasSize(1);
+                softly.assertThat(index.repositories("Other")).isEmpty();
+                softly.assertThat(DataIndex.load(new URLClassLoader(new URL[0], null)).isEmpty()).isTrue();
+            });
+        }
+    }
+}
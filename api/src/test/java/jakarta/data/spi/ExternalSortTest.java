@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class ExternalSortTest {
+
+    record Item(int key, String label) {
+    }
+
+    private static final ExternalSort.Codec<Item> CODEC = new ExternalSort.Codec<>() {
+        @Override
+        public void write(Item item, DataOutput out) throws IOException {
+            out.writeInt(item.key());
+            out.writeUTF(item.label());
+        }
+
+        @Override
+        public Item read(DataInput in) throws IOException {
+            return new Item(in.readInt(), in.readUTF());
+        }
+    };
+
+    @TempDir
+    Path directory;
+
+    private long runFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
+    @Test
+    @DisplayName("Should spill sorted runs to temporary files and merge them lazily in order")
+    void shouldSortWithSortedRuns() throws IOException {
+        List<Item> items = IntStream.range(0, 5_000)
+                .mapToObj(i -> new Item(i % 997, "item" + i))
+                .collect(Collectors.toList());
+        Collections.shuffle(items);
+        List<Item> expected = items.stream().sorted(Comparator.comparingInt(Item::key)).toList();
+
+        ExternalSort<Item> sorter = ExternalSort.of(Comparator.comparingInt(Item::key), CODEC)
+                .memoryBudget(600)
+                .tempDirectory(directory);
+
+        try (Stream<Item> sorted = sorter.sort(items.stream())) {
+            assertThat(runFiles()).isZero();
+            List<Item> first = sorted.limit(10).toList();
+
+            assertSoftly(softly -> {
+                softly.assertThat(first).isEqualTo(expected.subList(0, 10));
+                softly.assertThatCode(() -> assertThat(runFiles()).isEqualTo(8)).doesNotThrowAnyException();
+            });
+        }
+        assertThat(runFiles()).isZero();
+
+        try (Stream<Item> sorted = sorter.sort(items.stream())) {
+            assertThat(sorted.toList()).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("Should sort in memory without temporary files within the memory budget")
+    void shouldSortInMemory() throws IOException {
+        AtomicBoolean closed = new AtomicBoolean();
+        ExternalSort<Item> sorter = ExternalSort.of(Comparator.comparing(Item::label).reversed(), CODEC)
+                .tempDirectory(directory);
+
+        try (Stream<Item> sorted = sorter.sort(Stream.of(new Item(1, "a"), new Item(2, "c"), new Item(3, "b"))
+                .onClose(() -> closed.set(true)))) {
+            assertThat(sorted.map(Item::key)).containsExactly(2, 3, 1);
+            assertThat(runFiles()).isZero();
+        }
+        assertThat(closed).isTrue();
+        assertThatIllegalArgumentException().isThrownBy(() -> sorter.memoryBudget(0));
+    }
+
+    @Test
+    @DisplayName("Should merge more runs than the merge fan-in in passes")
+    void shouldMergeInPasses() throws IOException {
+        List<Item> items = IntStream.range(0, 200)
+                .mapToObj(i -> new Item(i % 37, "item" + i))
+                .collect(Collectors.toList());
+        Collections.shuffle(items);
+        List<Item> expected = items.stream().sorted(Comparator.comparingInt(Item::key)).toList();
+
+        ExternalSort<Item> sorter = ExternalSort.of(Comparator.comparingInt(Item::key), CODEC)
+                .memoryBudget(10)
+                .mergeFanIn(3)
+                .tempDirectory(directory);
+
+        try (Stream<Item> sorted = sorter.sort(items.stream())) {
+            Iterator<Item> it = sorted.iterator();
+            Item first = it.next();
+            // 20 runs are merged into 7 and then into 3 runs, which remain
+            assertThat(runFiles()).isEqualTo(3);
+            List<Item> all = new ArrayList<>(List.of(first));
+            it.forEachRemaining(all::add);
+            assertThat(all).isEqualTo(expected);
+        }
+        assertThat(runFiles()).isZero();
+        assertThatIllegalArgumentException().isThrownBy(() -> sorter.mergeFanIn(1));
+    }
+
+    @Test
+    @DisplayName("Should delete all temporary files when closing the source stream fails")
+    void shouldDeleteRunsWhenCloseFails() throws IOException {
+        ExternalSort<Item> sorter = ExternalSort.of(Comparator.comparingInt(Item::key), CODEC)
+                .memoryBudget(2)
+                .tempDirectory(directory);
+        Stream<Item> source = IntStream.range(0, 10).mapToObj(i -> new Item(-i, "item" + i))
+                .onClose(() -> {
+                    throw new IllegalStateException("source");
+                });
+
+        Stream<Item> sorted = sorter.sort(source);
+        assertThat(sorted.iterator().next()).isEqualTo(new Item(-9, "item9"));
+        assertThat(runFiles()).isEqualTo(5);
+
+        assertThatThrownBy(sorted::close).isInstanceOf(IllegalStateException.class).hasMessage("source");
+        assertThat(runFiles()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should delete the temporary file of a run when the codec fails to write it")
+    void shouldDeleteRunWhenCodecFails() throws IOException {
+        ExternalSort.Codec<Item> failing = new ExternalSort.Codec<>() {
+            @Override
+            public void write(Item item, DataOutput out) throws IOException {
+                if (item.key() == 5) {
+                    throw new IllegalStateException("codec");
+                }
+                CODEC.write(item, out);
+            }
+
+            @Override
+            public Item read(DataInput in) throws IOException {
+                return CODEC.read(in);
+            }
+        };
+        ExternalSort<Item> sorter = ExternalSort.of(Comparator.comparingInt(Item::key), failing)
+                .memoryBudget(2)
+                .tempDirectory(directory);
+
+        Stream<Item> sorted = sorter.sort(IntStream.range(0, 10).mapToObj(i -> new Item(i, "item" + i)));
+        assertThatThrownBy(() -> sorted.iterator().next()).isInstanceOf(IllegalStateException.class).hasMessage("codec");
+
+        sorted.close();
+        assertThat(runFiles()).isZero();
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi;
+
+import jakarta.data.Limit;
+import jakarta.data.Order;
+import jakarta.data.Sort;
+import jakarta.data.page.PageRequest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class KeysetBookmarksTest {
+
+    private static final Order<Object> BY_ID = Order.by(Sort.asc("id"));
+
+    /**
+     * Keys of the results of a query, where the result at offset i has the key 10 * (i + 1).
+     */
+    private static List<Long> offsetPage(long offset, int size) {
+        return LongStream.range(offset, offset + size).map(i -> 10 * (i + 1)).boxed().toList();
+    }
+
+    private static List<Long> seekPage(KeysetBookmarks.Seek seek, int size) {
+        long after = (Long) seek.after().get(0);
+        return LongStream.iterate(after + 10, k -> k + 10).skip(seek.skip()).limit(size).boxed().toList();
+    }
+
+    @Test
+    @DisplayName("Should seek to sequential offset pages from the bookmark of the previous page")
+    void shouldSeekSequentialPages() {
+        KeysetBookmarks bookmarks = new KeysetBookmarks(10, 100);
+
+        for (long page = 1; page <= 20; page++) {
+            PageRequest request = PageRequest.ofPage(page, 50, false);
+            long offset = KeysetBookmarks.offset(request);
+            var seek = bookmarks.seek("byCategory:tools", Long.class, BY_ID, offset);
+            List<Long> content = seek.map(s -> seekPage(s, 50)).orElseGet(() -> offsetPage(offset, 50));
+
+            long expectedPage = page;
+            assertSoftly(softly -> {
+                softly.assertThat(seek.isPresent()).isEqualTo(expectedPage > 1);
+                seek.ifPresent(s -> softly.assertThat(s.skip()).isZero());
+                softly.assertThat(content).isEqualTo(offsetPage(offset, 50));
+            });
+            bookmarks.bookmark("byCategory:tools", Long.class, BY_ID, offset + content.size(),
+                    PageRequest.Cursor.forKey(content.get(content.size() - 1)));
+        }
+    }
+
+    @Test
+    @DisplayName("Should seek from the nearest preceding bookmark and skip the remaining results")
+    void shouldSeekFromNearestBookmark() {
+        KeysetBookmarks bookmarks = new KeysetBookmarks(10, 2);
+        bookmarks.bookmark("q", Long.class, BY_ID, 50, PageRequest.Cursor.forKey(500L));
+        bookmarks.bookmark("q", Long.class, BY_ID, 100, PageRequest.Cursor.forKey(1000L));
+        bookmarks.bookmark("q", Long.class, BY_ID, 150, PageRequest.Cursor.forKey(1500L));
+        long offset = KeysetBookmarks.offset(Limit.range(131, 140));
+
+        assertSoftly(softly -> {
+            softly.assertThat(bookmarks.seek("q", Long.class, BY_ID, offset))
+                    .contains(new KeysetBookmarks.Seek(PageRequest.Cursor.forKey(1000L), 30));
+            softly.assertThat(seekPage(bookmarks.seek("q", Long.class, BY_ID, offset).orElseThrow(), 10))
+                    .isEqualTo(offsetPage(offset, 10));
+            softly.assertThat(bookmarks.seek("q", Long.class, BY_ID, 60)).isEmpty();
+            softly.assertThat(bookmarks.seek("q", Long.class, Order.by(Sort.desc("id")), 150)).isEmpty();
+            softly.assertThat(bookmarks.seek("other", Long.class, BY_ID, 150)).isEmpty();
+        });
+
+        bookmarks.invalidateQuery("q");
+        assertSoftly(softly -> softly.assertThat(bookmarks.seek("q", Long.class, BY_ID, 150)).isEmpty());
+        assertThatIllegalArgumentException().isThrownBy(() -> KeysetBookmarks.offset(
+                PageRequest.afterCursor(PageRequest.Cursor.forKey(1L), 2, 10, false)));
+    }
+
+    @Test
+    @DisplayName("Should remove the bookmarks of the queries of an entity type when it is invalidated")
+    void shouldInvalidateEntityType() {
+        KeysetBookmarks bookmarks = new KeysetBookmarks(10, 10);
+        bookmarks.bookmark("byName", Long.class, BY_ID, 50, PageRequest.Cursor.forKey(500L));
+        bookmarks.bookmark("byPrice", Long.class, BY_ID, 50, PageRequest.Cursor.forKey(500L));
+        bookmarks.bookmark("byName", String.class, BY_ID, 50, PageRequest.Cursor.forKey("e"));
+
+        bookmarks.invalidate(Long.class);
+
+        assertSoftly(softly -> {
+            softly.assertThat(bookmarks.seek("byName", Long.class, BY_ID, 50)).isEmpty();
+            softly.assertThat(bookmarks.seek("byPrice", Long.class, BY_ID, 50)).isEmpty();
+            softly.assertThat(bookmarks.seek("byName", String.class, BY_ID, 50)).isPresent();
+        });
+    }
+}
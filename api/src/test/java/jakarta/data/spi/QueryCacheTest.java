@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi;
+
+import jakarta.data.Order;
+import jakarta.data.Sort;
+import jakarta.data.page.PageRequest;
+import jakarta.data.repository.Cached;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class QueryCacheTest {
+
+    interface Products {
+        @Cached(maxEntries = 2, ttl = 10, ttlUnit = ChronoUnit.SECONDS)
+        List<String> byCategory(String category, PageRequest pageRequest, Order<String> order);
+
+        List<String> byName(String name);
+
+        @Cached
+        Stream<String> streamByCategory(String category);
+    }
+
+    static final class MutableClock extends Clock {
+        private Instant instant = Instant.parse("2024-10-01T00:00:00Z");
+
+        void advance(long seconds) {
+            instant = instant.plusSeconds(seconds);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+
+    private final MutableClock clock = new MutableClock();
+    private final QueryCache cache = new QueryCache(clock);
+    private final AtomicInteger queries = new AtomicInteger();
+
+    private static Method method(String name) {
+        for (Method method : Products.class.getMethods()) {
+            if (method.getName().equals(name)) {
+                return method;
+            }
+        }
+        throw new AssertionError(name);
+    }
+
+    private List<String> byCategory(String category, PageRequest pageRequest) {
+        Object[] args = {category, pageRequest, Order.by(Sort.asc("name"))};
+        return cache.get(method("byCategory"), String.class, args, () -> {
+            queries.incrementAndGet();
+            return List.of(category + pageRequest.page());
+        });
+    }
+
+    @Test
+    @DisplayName("Should return cached results for equal arguments and count hits and misses")
+    void shouldCacheByArguments() {
+        List<String> first = byCategory("tools", PageRequest.ofPage(1));
+
+        assertSoftly(softly -> {
+            softly.assertThat(byCategory("tools", PageRequest.ofPage(1))).isSameAs(first);
+            softly.assertThat(byCategory("tools", PageRequest.ofPage(2))).containsExactly("tools2");
+            softly.assertThat(byCategory("tools", PageRequest.ofPage(1).withoutTotal())).containsExactly("tools1");
+            softly.assertThat(queries).hasValue(3);
+            softly.assertThat(cache.statistics()).isEqualTo(new QueryCache.Statistics(1, 3, 1, 0, 2));
+            softly.assertThat(cache.statistics().hitRatio()).isEqualTo(0.25);
+        });
+    }
+
+    @Test
+    @DisplayName("Should expire results after their time to live")
+    void shouldExpireResults() {
+        byCategory("tools", PageRequest.ofPage(1));
+        clock.advance(9);
+        byCategory("tools", PageRequest.ofPage(1));
+        clock.advance(1);
+        byCategory("tools", PageRequest.ofPage(1));
+
+        assertSoftly(softly -> {
+            softly.assertThat(queries).hasValue(2);
+            softly.assertThat(cache.statistics(method("byCategory")).evictions()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    @DisplayName("Should remove the results of an entity type when it is invalidated")
+    void shouldInvalidateEntityType() {
+        byCategory("tools", PageRequest.ofPage(1));
+        cache.invalidate(Integer.class);
+        byCategory("tools", PageRequest.ofPage(1));
+        cache.invalidate(String.class);
+        byCategory("tools", PageRequest.ofPage(1));
+
+        assertSoftly(softly -> {
+            softly.assertThat(queries).hasValue(2);
+            softly.assertThat(cache.statistics().invalidations()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    @DisplayName("Should not cache a result that was obtained during an invalidation")
+    void shouldNotCacheStaleResult() {
+        Method method = method("byCategory");
+        Object[] args = {"tools", PageRequest.ofPage(1), Order.by(Sort.asc("name"))};
+        cache.get(method, String.class, args, () -> {
+            cache.invalidate(String.class);
+            return List.of("stale");
+        });
+
+        assertThat(cache.statistics(method).size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should not cache results of methods without the Cached annotation")
+    void shouldIgnoreMethodsWithoutAnnotation() {
+        for (int i = 0; i < 3; i++) {
+            cache.get(method("byName"), String.class, new Object[] {"hammer"}, queries::incrementAndGet);
+        }
+
+        assertSoftly(softly -> {
+            softly.assertThat(queries).hasValue(3);
+            softly.assertThat(cache.statistics()).isEqualTo(new QueryCache.Statistics(0, 0, 0, 0, 0));
+        });
+    }
+
+    @Test
+    @DisplayName("Should not cache results that can only be consumed once")
+    void shouldIgnoreStreams() {
+        for (int i = 0; i < 3; i++) {
+            Stream<String> result = cache.get(method("streamByCategory"), String.class, new Object[] {"tools"},
+                    () -> Stream.of("tools" + queries.incrementAndGet()));
+            assertThat(result).containsExactly("tools" + (i + 1));
+        }
+
+        assertThat(cache.statistics(method("streamByCategory"))).isEqualTo(new QueryCache.Statistics(0, 0, 0, 0, 0));
+    }
+}
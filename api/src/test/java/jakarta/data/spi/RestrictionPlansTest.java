@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi;
+
+import jakarta.data.metamodel.TypedSortableAttribute;
+import jakarta.data.metamodel.TypedTextAttribute;
+import jakarta.data.metamodel.impl.TypedSortableAttributeRecord;
+import jakarta.data.metamodel.impl.TypedTextAttributeRecord;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class RestrictionPlansTest {
+
+    record Product(String name, int price) {
+    }
+
+    private static final TypedSortableAttribute<Product, Integer> PRICE =
+            new TypedSortableAttributeRecord<>("price", Integer.class, Product::price);
+    private static final TypedTextAttribute<Product> NAME = new TypedTextAttributeRecord<>("name", Product::name);
+
+    @Test
+    @DisplayName("Should compile one plan per query and restriction shape")
+    void shouldReusePlansForSameShape() {
+        AtomicInteger compiled = new AtomicInteger();
+        RestrictionPlans<String> plans = new RestrictionPlans<>(2, (query, shape) -> {
+            compiled.incrementAndGet();
+            return "FROM Product WHERE " + shape;
+        });
+
+        String first = plans.plan("search", PRICE.lessThan(10).and(NAME.like("a%")));
+        String second = plans.plan("search", NAME.like("b%").and(PRICE.lessThan(20)));
+        plans.plan("search", PRICE.greaterThan(1));
+        plans.plan("count", PRICE.greaterThan(1));
+
+        assertSoftly(softly -> {
+            softly.assertThat(first).isEqualTo("FROM Product WHERE name LIKE ?1 AND price < ?2");
+            softly.assertThat(second).isSameAs(first);
+            softly.assertThat(compiled.get()).isEqualTo(3);
+            softly.assertThat(plans.hits()).isEqualTo(1L);
+            softly.assertThat(plans.misses()).isEqualTo(3L);
+            softly.assertThat(plans.size()).isEqualTo(2);
+        });
+    }
+}
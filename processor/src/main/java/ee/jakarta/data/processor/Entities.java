@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package ee.jakarta.data.processor;
+
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.ElementFilter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Locates entity classes, which are classes and records that are annotated
+ * with an entity annotation that is itself annotated with
+ * {@code jakarta.data.spi.EntityDefining}.
+ */
+final class Entities {
+    static final String ENTITY_DEFINING = "jakarta.data.spi.EntityDefining";
+
+    private Entities() {
+    }
+
+    /**
+     * Finds the entity classes among the supplied elements and the types that are nested within them.
+     *
+     * @param elements root elements of a round of processing.
+     * @return entity classes, in the order encountered.
+     */
+    static List<TypeElement> in(Collection<? extends Element> elements) {
+        List<TypeElement> entities = new ArrayList<>();
+        collect(ElementFilter.typesIn(elements), entities);
+        return entities;
+    }
+
+    private static void collect(List<TypeElement> types, List<TypeElement> entities) {
+        for (TypeElement type : types) {
+            if (isEntity(type)) {
+                entities.add(type);
+            }
+            collect(ElementFilter.typesIn(type.getEnclosedElements()), entities);
+        }
+    }
+
+    /**
+     * Determines whether a type is an entity class.
+     *
+     * @param type a type.
+     * @return whether the type is a class or record with an entity defining annotation.
+     */
+    static boolean isEntity(TypeElement type) {
+        if (type.getKind() != ElementKind.CLASS && type.getKind() != ElementKind.RECORD) {
+            return false;
+        }
+        for (AnnotationMirror annotation : type.getAnnotationMirrors()) {
+            for (AnnotationMirror meta : annotation.getAnnotationType().asElement().getAnnotationMirrors()) {
+                if (((TypeElement) meta.getAnnotationType().asElement()).getQualifiedName().contentEquals(ENTITY_DEFINING)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Determines whether a type can be referenced from other classes in its package,
+     * which is the case unless it, or a type that encloses it, is private.
+     *
+     * @param type a type.
+     * @return whether the type is visible within its package.
+     */
+    static boolean isVisible(TypeElement type) {
+        for (Element e = type; e instanceof TypeElement; e = e.getEnclosingElement()) {
+            if (e.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
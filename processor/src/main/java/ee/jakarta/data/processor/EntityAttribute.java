@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package ee.jakarta.data.processor;
+
+import java.util.Set;
+
+/**
+ * An entity attribute for which a static metamodel field is generated.
+ *
+ * @param name         the name of the entity attribute, which is a path such as
+ *                     {@code name.first} for an attribute of an embedded attribute.
+ * @param kind         the kind of static metamodel attribute.
+ * @param declaredType source name of the declared type of a numeric or temporal attribute,
+ *                     which is a primitive type for an attribute of primitive type,
+ *                     otherwise {@code null}.
+ * @param valueType    source name of the type of the attribute value, which is a wrapper class
+ *                     for primitive types, or {@code null} if the attribute is not typed.
+ * @param getter       source expression of a function that reads the attribute value,
+ *                     or {@code null} if the attribute is not typed.
+ * @param setter       source expression of a function that assigns the attribute value,
+ *                     or {@code null} if the attribute is not settable.
+ */
+record EntityAttribute(String name, Kind kind, String declaredType, String valueType, String getter, String setter) {
+
+    /**
+     * Kinds of static metamodel attribute.
+     */
+    enum Kind {
+        ATTRIBUTE("Attribute", "TypedAttribute"),
+        SORTABLE("SortableAttribute", "TypedSortableAttribute"),
+        NUMERIC("NumericAttribute", "TypedNumericAttribute"),
+        TEMPORAL("TemporalAttribute", "TypedTemporalAttribute"),
+        TEXT("TextAttribute", "TypedTextAttribute");
+
+        private final String untyped;
+        private final String typed;
+
+        Kind(String untyped, String typed) {
+            this.untyped = untyped;
+            this.typed = typed;
+        }
+
+        /**
+         * Simple name of the metamodel interface.
+         *
+         * @param withAccessors whether the attribute provides access to its value.
+         * @return the simple name of the interface.
+         */
+        String interfaceName(boolean withAccessors) {
+            return withAccessors ? typed : untyped;
+        }
+    }
+
+    private static final String METAMODEL = "jakarta.data.metamodel.";
+
+    /**
+     * Primitive types of numeric attributes that have record factory methods
+     * which take primitive getters and setters.
+     */
+    private static final Set<String> PRIMITIVE_GETTERS = Set.of("long", "int", "double");
+
+    /**
+     * Name of the static metamodel field, which is the attribute name with
+     * the {@code .} of an embedded attribute replaced by {@code _}.
+     *
+     * @return the field name.
+     */
+    String fieldName() {
+        return name.replace('.', '_');
+    }
+
+    /**
+     * Indicates whether the attribute provides access to its value.
+     *
+     * @return whether the attribute is typed.
+     */
+    boolean isTyped() {
+        return getter != null;
+    }
+
+    /**
+     * Source name of the interface type of the static metamodel field.
+     *
+     * @param entity source name of the entity class.
+     * @return the parameterized interface type.
+     */
+    String fieldType(String entity) {
+        String type = METAMODEL + kind.interfaceName(isTyped());
+        if (!isTyped() || kind == Kind.TEXT) {
+            return type + '<' + entity + '>';
+        } else {
+            return type + '<' + entity + ", " + valueType + '>';
+        }
+    }
+
+    /**
+     * Source expression that creates the static metamodel attribute.
+     *
+     * @param nameExpression source expression for the attribute name.
+     * @return an expression that instantiates a record implementation of the attribute.
+     */
+    String initializer(String nameExpression) {
+        if (isTyped() && kind == Kind.NUMERIC && PRIMITIVE_GETTERS.contains(declaredType)) {
+            // obtains the value without boxing when sorting in memory
+            return METAMODEL + "impl.TypedNumericAttributeRecord.of" + Character.toUpperCase(declaredType.charAt(0))
+                    + declaredType.substring(1) + '(' + nameExpression + ", " + getter
+                    + (setter == null ? "" : ", " + setter) + ')';
+        }
+        StringBuilder args = new StringBuilder(nameExpression);
+        if (isTyped() && kind != Kind.TEXT) {
+            args.append(", ").append(valueType).append(".class");
+        }
+        if (kind == Kind.NUMERIC || (kind == Kind.TEMPORAL && !isTyped())) {
+            args.append(", ").append(declaredType).append(".class");
+        }
+        if (isTyped()) {
+            args.append(", ").append(getter);
+            if (setter != null) {
+                args.append(", ").append(setter);
+            }
+        }
+        return "new " + METAMODEL + "impl." + kind.interfaceName(isTyped()) + "Record<>(" + args + ')';
+    }
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package ee.jakarta.data.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <p>Annotation processor that writes an index of the entity classes and
+ * repository interfaces that are compiled to the resource
+ * {@code META-INF/jakarta.data/index}, in the format that is read by
+ * {@code jakarta.data.spi.DataIndex}, so that Jakarta Data providers
+ * can discover them at startup without scanning the classpath.</p>
+ *
+ * <p>The primary entity type of a repository is obtained from the type
+ * arguments of {@code DataRepository} if the repository inherits from it,
+ * and otherwise from the parameters of its lifecycle methods, if they all
+ * operate on the same entity type.</p>
+ *
+ * <p>The index is written when processing completes. Build tools may recompile
+ * only some of the classes of a module, so the records of an index that was
+ * written by a previous compilation to the same output location are retained
+ * for classes that still exist and were not compiled again. The records of the
+ * classes that were compiled again are replaced by those of the current
+ * compilation.</p>
+ */
+@SupportedAnnotationTypes("*")
+public class IndexProcessor extends AbstractProcessor {
+    static final String RESOURCE = "META-INF/jakarta.data/index";
+
+    private final Set<String> compiled = new HashSet<>();
+    private final Set<String> entities = new HashSet<>();
+    private final List<String> entityLines = new ArrayList<>();
+    private final Map<String, String> repositoryLines = new LinkedHashMap<>();
+    private final List<Element> originatingElements = new ArrayList<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        roundEnv.getRootElements().forEach(this::compiled);
+        for (TypeElement entity : Entities.in(roundEnv.getRootElements())) {
+            String name = processingEnv.getElementUtils().getBinaryName(entity).toString();
+            if (entities.add(name)) {
+                entityLines.add(line("entity", name));
+                originatingElements.add(entity);
+            }
+        }
+        for (TypeElement repository : Repositories.in(roundEnv.getRootElements())) {
+            index(repository);
+        }
+        if (roundEnv.processingOver()) {
+            write();
+        }
+        return false;
+    }
+
+    /**
+     * Records the binary names of a class that is compiled and of its member classes.
+     */
+    private void compiled(Element element) {
+        if (element instanceof TypeElement type) {
+            compiled.add(processingEnv.getElementUtils().getBinaryName(type).toString());
+            type.getEnclosedElements().forEach(this::compiled);
+        }
+    }
+
+    private void index(TypeElement type) {
+        AnnotationMirror repository = Repositories.annotation(type, Repositories.REPOSITORY);
+        String name = processingEnv.getElementUtils().getBinaryName(type).toString();
+        String dataStore = "";
+        String provider = "";
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                : processingEnv.getElementUtils().getElementValuesWithDefaults(repository).entrySet()) {
+            String attribute = entry.getKey().getSimpleName().toString();
+            if ("dataStore".equals(attribute)) {
+                dataStore = String.valueOf(entry.getValue().getValue());
+            } else if ("provider".equals(attribute)) {
+                provider = String.valueOf(entry.getValue().getValue());
+            }
+        }
+        if (!repositoryLines.containsKey(name)) {
+            repositoryLines.put(name, line("repository", name, primaryEntity(type), dataStore, provider));
+            originatingElements.add(type);
+        }
+    }
+
+    private String primaryEntity(TypeElement repository) {
+        TypeMirror entity = Repositories.primaryEntity(processingEnv, repository);
+        return entity == null
+                ? ""
+                : processingEnv.getElementUtils().getBinaryName((TypeElement) ((DeclaredType) entity).asElement()).toString();
+    }
+
+    private void write() {
+        Filer filer = processingEnv.getFiler();
+        List<String> previousLines = previous(filer);
+        if (previousLines.isEmpty() && entityLines.isEmpty() && repositoryLines.isEmpty()) {
+            return;
+        }
+        List<String> retainedEntities = new ArrayList<>();
+        List<String> retainedRepositories = new ArrayList<>();
+        for (String line : previousLines) {
+            List<String> fields = fields(line);
+            if (fields.size() > 1 && !compiled.contains(fields.get(1)) && exists(fields.get(1))) {
+                if ("entity".equals(fields.get(0))) {
+                    retainedEntities.add(line);
+                } else if ("repository".equals(fields.get(0))) {
+                    retainedRepositories.add(line);
+                }
+            }
+        }
+        try (PrintWriter out = new PrintWriter(filer
+                .createResource(StandardLocation.CLASS_OUTPUT, "", RESOURCE, originatingElements.toArray(new Element[0]))
+                .openWriter())) {
+            out.println("# Jakarta Data index");
+            retainedEntities.forEach(out::println);
+            entityLines.forEach(out::println);
+            retainedRepositories.forEach(out::println);
+            repositoryLines.values().forEach(out::println);
+        } catch (IOException x) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Unable to write " + RESOURCE + ": " + x);
+        }
+    }
+
+    /**
+     * Reads the records of the index that a previous compilation wrote to the output location, if any.
+     */
+    private static List<String> previous(Filer filer) {
+        List<String> lines = new ArrayList<>();
+        try (Reader reader = filer.getResource(StandardLocation.CLASS_OUTPUT, "", RESOURCE).openReader(true);
+             BufferedReader in = new BufferedReader(reader)) {
+            for (String line = in.readLine(); line != null; line = in.readLine()) {
+                if (!line.isBlank() && line.charAt(0) != '#') {
+                    lines.add(line);
+                }
+            }
+        } catch (IOException x) {
+            // there is no previous index
+        }
+        return lines;
+    }
+
+    /**
+     * Determines whether a class with a binary name can be found on the class path of the compilation.
+     */
+    private boolean exists(String binaryName) {
+        TypeElement type = processingEnv.getElementUtils().getTypeElement(binaryName.replace('$', '.'));
+        return type != null && processingEnv.getElementUtils().getBinaryName(type).contentEquals(binaryName);
+    }
+
+    /**
+     * Splits a record of the index into unescaped, tab-separated fields.
+     */
+    private static List<String> fields(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        int i = 0;
+        while (i < line.length()) {
+            char c = line.charAt(i++);
+            if (c == '\t') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\\' && i < line.length()) {
+                char escaped = line.charAt(i++);
+                field.append(switch (escaped) {
+                    case 't' -> '\t';
+                    case 'n' -> '\n';
+                    case 'r' -> '\r';
+                    default -> escaped;
+                });
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * Formats a record of the index, escaping tabs, line breaks and backslashes within fields.
+     */
+    private static String line(String... fields) {
+        StringBuilder line = new StringBuilder();
+        for (String field : fields) {
+            if (line.length() > 0) {
+                line.append('\t');
+            }
+            for (int i = 0; i < field.length(); i++) {
+                char c = field.charAt(i);
+                switch (c) {
+                    case '\t' -> line.append("\\t");
+                    case '\n' -> line.append("\\n");
+                    case '\r' -> line.append("\\r");
+                    case '\\' -> line.append("\\\\");
+                    default -> line.append(c);
+                }
+            }
+        }
+        return line.toString();
+    }
+}
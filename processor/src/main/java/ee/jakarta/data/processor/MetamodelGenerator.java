@@ -0,0 +1,386 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package ee.jakarta.data.processor;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.RecordComponentElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.time.temporal.Temporal;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Generates the static metamodel class {@code _Entity} for an entity class {@code Entity}.
+ * The generated class is in the same package as the entity and declares,
+ * for each entity attribute, a constant with the attribute name and a
+ * {@code static final} attribute instance that is created when the class
+ * is initialized, so that providers do not need to populate it reflectively.
+ * Where the value of the attribute can be accessed from the package of the
+ * entity, via an accessor method, a record component or a field that is not
+ * {@code private}, the generated attribute is a typed attribute. The
+ * attributes of an embedded attribute, whose type is annotated
+ * {@code Embeddable} or which is annotated {@code Embedded} or
+ * {@code EmbeddedId}, are generated as well, with names such as
+ * {@code name.first} and fields such as {@code name_first}.
+ */
+final class MetamodelGenerator {
+    private static final List<String> GENERATED = List.of(
+            "jakarta.annotation.Generated", "javax.annotation.processing.Generated");
+    private static final String TRANSIENT = "Transient";
+    private static final String EMBEDDABLE = "Embeddable";
+    private static final List<String> EMBEDDED = List.of("Embedded", "EmbeddedId");
+
+    private final ProcessingEnvironment env;
+    private final Elements elements;
+    private final Types types;
+
+    MetamodelGenerator(ProcessingEnvironment env) {
+        this.env = env;
+        this.elements = env.getElementUtils();
+        this.types = env.getTypeUtils();
+    }
+
+    /**
+     * Computes the fully qualified name of the static metamodel class for an entity.
+     * The static metamodel class of a nested entity class is named after each of
+     * its enclosing classes, for example, {@code _Outer_Inner}.
+     *
+     * @param entity the entity class.
+     * @return the fully qualified name of the static metamodel class.
+     */
+    String metamodelName(TypeElement entity) {
+        String packageName = elements.getPackageOf(entity).getQualifiedName().toString();
+        String simpleName = '_' + sourceName(entity).substring(packageName.isEmpty() ? 0 : packageName.length() + 1)
+                .replace('.', '_');
+        return packageName.isEmpty() ? simpleName : packageName + '.' + simpleName;
+    }
+
+    /**
+     * Determines the {@code @Generated} annotation with which to annotate generated
+     * classes, which is the Jakarta annotation if it is available, otherwise the
+     * annotation of the Java compiler API.
+     *
+     * @param elements the element utilities of the processing environment.
+     * @return the qualified name of the annotation, or {@code null} if neither is available.
+     */
+    static String generated(Elements elements) {
+        for (String annotation : GENERATED) {
+            if (elements.getTypeElement(annotation) != null) {
+                return annotation;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Writes the static metamodel class for an entity.
+     *
+     * @param entity the entity class.
+     * @throws IOException if the source file cannot be written.
+     */
+    void generate(TypeElement entity) throws IOException {
+        String qualifiedName = metamodelName(entity);
+        int dot = qualifiedName.lastIndexOf('.');
+        String entityName = sourceName(entity);
+        List<EntityAttribute> attributes = attributes(entity);
+
+        try (PrintWriter out = new PrintWriter(env.getFiler().createSourceFile(qualifiedName, entity).openWriter())) {
+            if (dot > 0) {
+                out.println("package " + qualifiedName.substring(0, dot) + ';');
+                out.println();
+            }
+            out.println("/**");
+            out.println(" * Static metamodel for {@link " + entityName + "}.");
+            out.println(" */");
+            String generated = generated(elements);
+            if (generated != null) {
+                out.println('@' + generated + "(\"" + MetamodelProcessor.class.getName() + "\")");
+            }
+            out.println("@jakarta.data.metamodel.StaticMetamodel(" + entityName + ".class)");
+            out.println("public final class " + qualifiedName.substring(dot + 1) + " {");
+
+            Set<String> names = new HashSet<>();
+            attributes.forEach(a -> names.add(a.fieldName()));
+            Set<String> constants = new HashSet<>();
+            List<String> nameExpressions = new ArrayList<>(attributes.size());
+            for (EntityAttribute attribute : attributes) {
+                String constant = attribute.fieldName().toUpperCase(Locale.ROOT);
+                if (!names.contains(constant) && constants.add(constant)) {
+                    out.println("    public static final String " + constant + " = \"" + attribute.name() + "\";");
+                    nameExpressions.add(constant);
+                } else {
+                    nameExpressions.add('"' + attribute.name() + '"');
+                }
+            }
+            for (int i = 0; i < attributes.size(); i++) {
+                EntityAttribute attribute = attributes.get(i);
+                out.println();
+                out.println("    public static final " + attribute.fieldType(entityName) + ' ' + attribute.fieldName() + " =");
+                out.println("            " + attribute.initializer(nameExpressions.get(i)) + ';');
+            }
+            out.println();
+            out.println("    private " + qualifiedName.substring(dot + 1) + "() {");
+            out.println("    }");
+            out.println('}');
+        }
+    }
+
+    /**
+     * Determines the attributes of an entity, which are the components of a record,
+     * or otherwise the persistent fields of the entity class and its superclasses,
+     * superclass attributes first, each followed by the attributes of the
+     * embeddable class of an embedded attribute.
+     *
+     * @param entity the entity class.
+     * @return the entity attributes.
+     */
+    List<EntityAttribute> attributes(TypeElement entity) {
+        boolean typed = entity.getTypeParameters().isEmpty();
+        List<EntityAttribute> attributes = new ArrayList<>();
+        List<ExecutableElement> methods = ElementFilter.methodsIn(elements.getAllMembers(entity));
+        Set<TypeElement> embedding = new HashSet<>();
+        for (Element member : members(entity)) {
+            String name = member.getSimpleName().toString();
+            String getter = null;
+            String setter = null;
+            if (typed && hasValueType(member.asType(), entity)) {
+                if (member instanceof RecordComponentElement component) {
+                    getter = sourceName(entity) + "::" + component.getAccessor().getSimpleName();
+                } else {
+                    getter = getter(entity, methods, (VariableElement) member);
+                    setter = getter == null ? null : setter(entity, methods, (VariableElement) member);
+                }
+            }
+            attributes.add(attribute(name, member.asType(), getter, setter));
+            embedded(name, member, attributes, embedding);
+        }
+        return attributes;
+    }
+
+    /**
+     * Adds the attributes of the embeddable class of an embedded attribute, if the
+     * member is one, named by their path from the entity. The attributes of
+     * embeddable classes are not typed, because an embedded value can be {@code null}.
+     *
+     * @param path       the name of the member, including the names of the
+     *                   embedded attributes that contain it.
+     * @param member     the record component or field.
+     * @param attributes the attributes to which to add.
+     * @param embedding  the embeddable classes that contain the member, which
+     *                   are not expanded again.
+     */
+    private void embedded(String path, Element member, List<EntityAttribute> attributes, Set<TypeElement> embedding) {
+        if (member.asType().getKind() != TypeKind.DECLARED) {
+            return;
+        }
+        TypeElement embeddable = (TypeElement) types.asElement(member.asType());
+        if ((isAnnotated(embeddable, EMBEDDABLE) || EMBEDDED.stream().anyMatch(a -> isAnnotated(member, a)))
+                && embedding.add(embeddable)) {
+            for (Element nested : members(embeddable)) {
+                String name = path + '.' + nested.getSimpleName();
+                attributes.add(attribute(name, nested.asType(), null, null));
+                embedded(name, nested, attributes, embedding);
+            }
+            embedding.remove(embeddable);
+        }
+    }
+
+    /**
+     * Lists the persistent members of an entity or embeddable class, which are
+     * the components of a record, or otherwise the fields of the class and its
+     * superclasses that are not static or transient, superclass fields first.
+     */
+    private List<Element> members(TypeElement type) {
+        if (type.getKind() == ElementKind.RECORD) {
+            return new ArrayList<>(type.getRecordComponents());
+        }
+        List<Element> members = new ArrayList<>();
+        for (TypeElement t : hierarchy(type)) {
+            for (VariableElement field : ElementFilter.fieldsIn(t.getEnclosedElements())) {
+                if (!field.getModifiers().contains(Modifier.STATIC)
+                        && !field.getModifiers().contains(Modifier.TRANSIENT)
+                        && !isAnnotated(field, TRANSIENT)) {
+                    members.add(field);
+                }
+            }
+        }
+        return members;
+    }
+
+    private EntityAttribute attribute(String name, TypeMirror type, String getter, String setter) {
+        EntityAttribute.Kind kind;
+        String declaredType = null;
+        if (type.getKind() == TypeKind.BOOLEAN || type.getKind() == TypeKind.CHAR) {
+            kind = EntityAttribute.Kind.SORTABLE;
+        } else if (type.getKind().isPrimitive()) {
+            kind = EntityAttribute.Kind.NUMERIC;
+            declaredType = type.toString();
+        } else if (isType(type, String.class.getName())) {
+            kind = EntityAttribute.Kind.TEXT;
+        } else if (type.getKind() != TypeKind.DECLARED) {
+            kind = EntityAttribute.Kind.ATTRIBUTE;
+        } else if (isSubtype(type, Number.class) && isComparable(type)) {
+            kind = EntityAttribute.Kind.NUMERIC;
+            declaredType = valueType(type);
+        } else if (isSubtype(type, Temporal.class) && isComparable(type)) {
+            kind = EntityAttribute.Kind.TEMPORAL;
+            declaredType = valueType(type);
+        } else if (isComparable(type)) {
+            kind = EntityAttribute.Kind.SORTABLE;
+        } else {
+            kind = EntityAttribute.Kind.ATTRIBUTE;
+        }
+        String valueType = getter == null ? null : valueType(type);
+        return new EntityAttribute(name, kind, declaredType, valueType, getter, setter);
+    }
+
+    private String getter(TypeElement entity, List<ExecutableElement> methods, VariableElement field) {
+        String capitalized = capitalize(field.getSimpleName().toString());
+        boolean bool = field.asType().getKind() == TypeKind.BOOLEAN;
+        for (ExecutableElement method : methods) {
+            String name = method.getSimpleName().toString();
+            if ((name.equals("get" + capitalized) || bool && name.equals("is" + capitalized))
+                    && method.getParameters().isEmpty()
+                    && !method.getModifiers().contains(Modifier.STATIC)
+                    && types.isSameType(method.getReturnType(), field.asType())
+                    && isAccessible(method, entity)) {
+                return sourceName(entity) + "::" + name;
+            }
+        }
+        return isAccessible(field, entity) ? "e -> e." + field.getSimpleName() : null;
+    }
+
+    private String setter(TypeElement entity, List<ExecutableElement> methods, VariableElement field) {
+        String name = "set" + capitalize(field.getSimpleName().toString());
+        for (ExecutableElement method : methods) {
+            if (method.getSimpleName().contentEquals(name)
+                    && method.getParameters().size() == 1
+                    && !method.getModifiers().contains(Modifier.STATIC)
+                    && types.isSameType(method.getParameters().get(0).asType(), field.asType())
+                    && isAccessible(method, entity)) {
+                return sourceName(entity) + "::" + name;
+            }
+        }
+        return !field.getModifiers().contains(Modifier.FINAL) && isAccessible(field, entity)
+                ? "(e, v) -> e." + field.getSimpleName() + " = v"
+                : null;
+    }
+
+    /**
+     * Lists the entity class and its superclasses, excluding {@code Object}, superclasses first.
+     */
+    private Iterable<TypeElement> hierarchy(TypeElement entity) {
+        Deque<TypeElement> hierarchy = new ArrayDeque<>();
+        TypeElement type = entity;
+        while (type != null && !isType(type.asType(), Object.class.getName())) {
+            hierarchy.push(type);
+            TypeMirror superclass = type.getSuperclass();
+            type = superclass.getKind() == TypeKind.DECLARED ? (TypeElement) types.asElement(superclass) : null;
+        }
+        return hierarchy;
+    }
+
+    /**
+     * Determines whether the value type of an attribute can be represented by a class literal
+     * without losing type arguments.
+     */
+    private boolean hasValueType(TypeMirror type, TypeElement entity) {
+        if (type.getKind().isPrimitive()) {
+            return true;
+        } else if (type.getKind() == TypeKind.ARRAY) {
+            return hasValueType(((ArrayType) type).getComponentType(), entity);
+        } else if (type.getKind() == TypeKind.DECLARED) {
+            TypeElement element = (TypeElement) types.asElement(type);
+            return ((DeclaredType) type).getTypeArguments().isEmpty()
+                    && Entities.isVisible(element)
+                    && isAccessible(element, entity);
+        }
+        return false;
+    }
+
+
+    private String valueType(TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return types.boxedClass((PrimitiveType) type).getQualifiedName().toString();
+        } else if (type.getKind() == TypeKind.ARRAY) {
+            TypeMirror component = ((ArrayType) type).getComponentType();
+            return (component.getKind().isPrimitive() ? component.toString() : valueType(component)) + "[]";
+        }
+        return sourceName((TypeElement) types.asElement(type));
+    }
+
+    private boolean isComparable(TypeMirror type) {
+        return isSubtype(type, Comparable.class);
+    }
+
+    private boolean isSubtype(TypeMirror type, Class<?> supertype) {
+        TypeElement element = elements.getTypeElement(supertype.getName());
+        return types.isAssignable(types.erasure(type), types.erasure(element.asType()));
+    }
+
+    private boolean isAccessible(Element member, TypeElement entity) {
+        if (member.getModifiers().contains(Modifier.PUBLIC)) {
+            return true;
+        }
+        return !member.getModifiers().contains(Modifier.PRIVATE)
+                && elements.getPackageOf(member).equals(elements.getPackageOf(entity));
+    }
+
+    private static boolean isAnnotated(Element element, String simpleName) {
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            if (annotation.getAnnotationType().asElement().getSimpleName().contentEquals(simpleName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isType(TypeMirror type, String qualifiedName) {
+        return type.getKind() == TypeKind.DECLARED
+                && ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().contentEquals(qualifiedName);
+    }
+
+    private static String sourceName(TypeElement type) {
+        return type.getQualifiedName().toString();
+    }
+
+    private static String capitalize(String name) {
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+}
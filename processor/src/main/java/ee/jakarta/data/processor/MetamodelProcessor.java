@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package ee.jakarta.data.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <p>Annotation processor that generates a {@code jakarta.data.metamodel.StaticMetamodel}
+ * class for each entity class that is compiled, where an entity class is a class or
+ * record that is annotated with an entity annotation such as {@code jakarta.persistence.Entity}
+ * or {@code jakarta.nosql.Entity}, which is in turn annotated with
+ * {@code jakarta.data.spi.EntityDefining}.</p>
+ *
+ * <p>The static metamodel class for an entity class {@code Product} is named {@code _Product}
+ * and is generated in the same package. No static metamodel class is generated for an entity
+ * that is already described by a static metamodel class among the sources being compiled.</p>
+ *
+ * <p>The processor is discovered by the compiler when this module is on the annotation
+ * processor path.</p>
+ */
+@SupportedAnnotationTypes("*")
+public class MetamodelProcessor extends AbstractProcessor {
+    static final String STATIC_METAMODEL = "jakarta.data.metamodel.StaticMetamodel";
+
+    private final Set<String> generated = new HashSet<>();
+    private final Set<String> described = new HashSet<>();
+    private final Set<String> sources = new HashSet<>();
+    private MetamodelGenerator generator;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        generator = new MetamodelGenerator(processingEnv);
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement type : ElementFilter.typesIn(roundEnv.getRootElements())) {
+            sources.add(type.getQualifiedName().toString());
+            String entity = describedEntity(type);
+            if (entity != null) {
+                described.add(entity);
+            }
+        }
+
+        for (TypeElement entity : Entities.in(roundEnv.getRootElements())) {
+            String entityName = entity.getQualifiedName().toString();
+            String metamodelName = generator.metamodelName(entity);
+            if (!Entities.isVisible(entity)
+                    || described.contains(entityName)
+                    || sources.contains(metamodelName)
+                    || !generated.add(entityName)) {
+                continue;
+            }
+            try {
+                generator.generate(entity);
+            } catch (IOException x) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        "Unable to write static metamodel " + metamodelName + ": " + x, entity);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Obtains the entity class that a static metamodel class describes.
+     *
+     * @param type a type.
+     * @return the qualified name of the entity class, or {@code null} if the type
+     *         is not annotated with {@code StaticMetamodel}.
+     */
+    private static String describedEntity(Element type) {
+        for (AnnotationMirror annotation : type.getAnnotationMirrors()) {
+            if (((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName()
+                    .contentEquals(STATIC_METAMODEL)) {
+                for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                        : annotation.getElementValues().entrySet()) {
+                    if (entry.getValue().getValue() instanceof DeclaredType entity) {
+                        return ((TypeElement) entity.asElement()).getQualifiedName().toString();
+                    }
+                }
+            }
+        }
+        return null;
+    }
+}
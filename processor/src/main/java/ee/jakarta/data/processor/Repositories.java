@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package ee.jakarta.data.processor;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Inspects repository interfaces, which are interfaces that are annotated
+ * with {@code jakarta.data.repository.Repository}.
+ */
+final class Repositories {
+    static final String REPOSITORY = "jakarta.data.repository.Repository";
+    static final String BATCH_SIZE = "jakarta.data.repository.BatchSize";
+    static final String DATA_REPOSITORY = "jakarta.data.repository.DataRepository";
+    static final String DELETE = "jakarta.data.repository.Delete";
+    static final String INSERT = "jakarta.data.repository.Insert";
+    static final String SAVE = "jakarta.data.repository.Save";
+    static final String UPDATE = "jakarta.data.repository.Update";
+
+    private static final Set<String> LIFECYCLE = Set.of(DELETE, INSERT, SAVE, UPDATE);
+    private static final Set<String> CONTAINERS = Set.of(
+            Iterable.class.getName(),
+            List.class.getName(),
+            Stream.class.getName());
+
+    private Repositories() {
+    }
+
+    /**
+     * Finds the repository interfaces among the supplied elements and the types that are nested within them.
+     *
+     * @param elements root elements of a round of processing.
+     * @return repository interfaces, in the order encountered.
+     */
+    static List<TypeElement> in(Collection<? extends Element> elements) {
+        List<TypeElement> repositories = new ArrayList<>();
+        collect(ElementFilter.typesIn(elements), repositories);
+        return repositories;
+    }
+
+    private static void collect(List<TypeElement> types, List<TypeElement> repositories) {
+        for (TypeElement type : types) {
+            if (type.getKind() == ElementKind.INTERFACE && annotation(type, REPOSITORY) != null) {
+                repositories.add(type);
+            }
+            collect(ElementFilter.typesIn(type.getEnclosedElements()), repositories);
+        }
+    }
+
+    /**
+     * Determines the primary entity type of a repository, which is obtained from the
+     * type arguments of {@code DataRepository} if the repository inherits from it,
+     * and otherwise from the parameters of its lifecycle methods, if they all
+     * operate on the same entity type.
+     *
+     * @param env        the processing environment.
+     * @param repository the repository interface.
+     * @return the primary entity type, or {@code null} if not known.
+     */
+    static TypeMirror primaryEntity(ProcessingEnvironment env, TypeElement repository) {
+        TypeMirror entity = dataRepositoryEntity(env.getTypeUtils(), repository.asType(), new HashSet<>());
+        if (entity == null) {
+            for (ExecutableElement method : ElementFilter.methodsIn(env.getElementUtils().getAllMembers(repository))) {
+                if (method.getParameters().isEmpty() || lifecycleAnnotation(method) == null) {
+                    continue;
+                }
+                TypeMirror parameterEntity = elementType(method.getParameters().get(0).asType());
+                if (entity == null) {
+                    entity = parameterEntity;
+                } else if (parameterEntity == null || !env.getTypeUtils().isSameType(entity, parameterEntity)) {
+                    return null;
+                }
+            }
+        }
+        return entity != null && entity.getKind() == TypeKind.DECLARED ? entity : null;
+    }
+
+    private static TypeMirror dataRepositoryEntity(Types types, TypeMirror type, Set<String> visited) {
+        for (TypeMirror supertype : types.directSupertypes(type)) {
+            TypeElement element = (TypeElement) types.asElement(supertype);
+            if (element == null || !visited.add(supertype.toString())) {
+                continue;
+            }
+            if (element.getQualifiedName().contentEquals(DATA_REPOSITORY)) {
+                List<? extends TypeMirror> arguments = ((DeclaredType) supertype).getTypeArguments();
+                return arguments.isEmpty() ? null : arguments.get(0);
+            }
+            TypeMirror entity = dataRepositoryEntity(types, supertype, visited);
+            if (entity != null) {
+                return entity;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Obtains the entity type of a lifecycle method parameter, which is either
+     * the entity type, or an array, {@code Iterable}, {@code List} or {@code Stream} of it.
+     *
+     * @param type type of the parameter.
+     * @return the entity type, or {@code null} if the parameter type is not one of the above.
+     */
+    static TypeMirror elementType(TypeMirror type) {
+        if (type.getKind() == TypeKind.ARRAY) {
+            return ((ArrayType) type).getComponentType();
+        } else if (type.getKind() == TypeKind.DECLARED) {
+            DeclaredType declared = (DeclaredType) type;
+            TypeElement element = (TypeElement) declared.asElement();
+            if (CONTAINERS.contains(element.getQualifiedName().toString())) {
+                return declared.getTypeArguments().isEmpty() ? null : declared.getTypeArguments().get(0);
+            }
+            return type;
+        }
+        return null;
+    }
+
+    /**
+     * Obtains the lifecycle annotation of a method.
+     *
+     * @param method a repository method.
+     * @return the qualified name of its {@code Insert}, {@code Update}, {@code Delete}
+     *         or {@code Save} annotation, or {@code null} if it has none.
+     */
+    static String lifecycleAnnotation(ExecutableElement method) {
+        for (AnnotationMirror annotation : method.getAnnotationMirrors()) {
+            String name = ((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().toString();
+            if (LIFECYCLE.contains(name)) {
+                return name;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Obtains an annotation of an element.
+     *
+     * @param element       an element.
+     * @param qualifiedName qualified name of the annotation type.
+     * @return the annotation, or {@code null} if the element is not annotated with it.
+     */
+    static AnnotationMirror annotation(Element element, String qualifiedName) {
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            if (((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().contentEquals(qualifiedName)) {
+                return annotation;
+            }
+        }
+        return null;
+    }
+}
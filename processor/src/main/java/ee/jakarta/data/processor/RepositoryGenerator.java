@@ -0,0 +1,866 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package ee.jakarta.data.processor;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.TypeVariable;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * <p>Generates the implementation {@code Repository_} of a repository interface
+ * {@code Repository}, which invokes the {@code jakarta.data.spi.RepositoryOperations}
+ * of a Jakarta Data provider directly instead of through a dynamic proxy.</p>
+ *
+ * <p>The queries of the repository methods are computed at build time, from
+ * {@code @Query}, from the parameters of {@code @Find} and {@code @Delete}
+ * methods, and from the names of methods that follow the Query by Method Name
+ * pattern, and are written as Jakarta Data Query Language with positional
+ * parameters. The generated constructor prepares each query once. Each method
+ * binds its arguments to its prepared query, without boxing arguments of
+ * primitive types, and lifecycle methods invoke the corresponding operation
+ * of the provider.</p>
+ *
+ * <p>An implementation is only generated if every abstract method of the
+ * repository is supported. Otherwise, the provider implements the repository
+ * as it would without the generated class.</p>
+ */
+final class RepositoryGenerator {
+    private static final String BY = "jakarta.data.repository.By";
+    private static final String FIND = "jakarta.data.repository.Find";
+    private static final String LIMIT = "jakarta.data.Limit";
+    private static final String ORDER = "jakarta.data.Order";
+    private static final String ORDER_BY = "jakarta.data.repository.OrderBy";
+    private static final String ORDER_BY_LIST = "jakarta.data.repository.OrderBy.List";
+    private static final String PAGE = "jakarta.data.page.Page";
+    private static final String PAGE_REQUEST = "jakarta.data.page.PageRequest";
+    private static final String PARAM = "jakarta.data.repository.Param";
+    private static final String QUERY = "jakarta.data.repository.Query";
+    private static final String SORT = "jakarta.data.Sort";
+
+    private static final Pattern METHOD_NAME = Pattern.compile("(find|count|exists|delete)(First(\\d*))?By(.*)");
+    private static final Pattern CONNECTOR = Pattern.compile("(?<=[\\p{javaLowerCase}\\d])(And|Or)(?=\\p{javaUpperCase})");
+    private static final Pattern DIRECTION = Pattern.compile("(Asc|Desc)(?=\\p{javaUpperCase}|$)");
+    private static final Pattern UPDATE_OR_DELETE = Pattern.compile("(?i)\\s*(UPDATE|DELETE)\\b.*", Pattern.DOTALL);
+
+    /**
+     * Operators of Query by Method Name conditions, with their JDQL operators and the negations
+     * of their JDQL operators, where {@code ?} is replaced by parameters. The operators are matched
+     * at the end of a condition, in order. A condition without an operator is an equality condition.
+     */
+    private static final String[][] OPERATORS = {
+            {"GreaterThanEqual", ">= ?", "< ?"},
+            {"LessThanEqual", "<= ?", "> ?"},
+            {"GreaterThan", "> ?", "<= ?"},
+            {"LessThan", "< ?", ">= ?"},
+            {"Between", "BETWEEN ? AND ?", "NOT BETWEEN ? AND ?"},
+            {"Like", "LIKE ?", "NOT LIKE ?"},
+            {"Null", "IS NULL", "IS NOT NULL"},
+            {"True", "= TRUE", "<> TRUE"},
+            {"False", "= FALSE", "<> FALSE"}};
+    private static final String[] EQUALITY = {"", "= ?", "<> ?"};
+
+    /**
+     * Operators of Query by Method Name conditions that are not translated. A method with such
+     * a condition is implemented by the provider instead.
+     */
+    private static final List<String> UNSUPPORTED_OPERATORS = List.of("Contains", "EndsWith", "StartsWith", "Empty", "In");
+
+    private final ProcessingEnvironment env;
+    private final Elements elements;
+    private final Types types;
+
+    RepositoryGenerator(ProcessingEnvironment env) {
+        this.env = env;
+        this.elements = env.getElementUtils();
+        this.types = env.getTypeUtils();
+    }
+
+    /**
+     * Computes the fully qualified name of the implementation of a repository interface.
+     * The implementation of a nested repository interface is named after each of its
+     * enclosing classes, for example, {@code Outer_Products_}.
+     *
+     * @param repository the repository interface.
+     * @return the fully qualified name of the implementation class.
+     */
+    String implementationName(TypeElement repository) {
+        String packageName = elements.getPackageOf(repository).getQualifiedName().toString();
+        String simpleName = repository.getQualifiedName().toString()
+                .substring(packageName.isEmpty() ? 0 : packageName.length() + 1)
+                .replace('.', '_') + '_';
+        return packageName.isEmpty() ? simpleName : packageName + '.' + simpleName;
+    }
+
+    /**
+     * Writes the implementation of a repository interface.
+     *
+     * @param repository the repository interface.
+     * @throws UnsupportedException if the repository has a method that cannot be implemented.
+     * @throws IOException          if the source file cannot be written.
+     */
+    void generate(TypeElement repository) throws UnsupportedException, IOException {
+        if (!repository.getTypeParameters().isEmpty()) {
+            throw new UnsupportedException("repository interfaces with type parameters are not supported", repository);
+        }
+        DeclaredType repositoryType = (DeclaredType) repository.asType();
+        TypeMirror primaryEntity = Repositories.primaryEntity(env, repository);
+        List<PlannedQuery> queries = new ArrayList<>();
+        List<String> methods = new ArrayList<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(repository))) {
+            if (method.getModifiers().contains(Modifier.ABSTRACT)) {
+                methods.add(implement(repositoryType, primaryEntity, method, queries));
+            }
+        }
+
+        String qualifiedName = implementationName(repository);
+        int dot = qualifiedName.lastIndexOf('.');
+        String simpleName = qualifiedName.substring(dot + 1);
+        try (PrintWriter out = new PrintWriter(env.getFiler().createSourceFile(qualifiedName, repository).openWriter())) {
+            if (dot > 0) {
+                out.println("package " + qualifiedName.substring(0, dot) + ';');
+                out.println();
+            }
+            out.println("/**");
+            out.println(" * Implementation of {@link " + repository.getQualifiedName() + "} that is generated at build time.");
+            out.println(" */");
+            String generated = MetamodelGenerator.generated(elements);
+            if (generated != null) {
+                out.println('@' + generated + "(\"" + RepositoryProcessor.class.getName() + "\")");
+            }
+            out.println("public class " + simpleName + " implements " + repository.getQualifiedName() + " {");
+            out.println("    private final jakarta.data.spi.RepositoryOperations operations;");
+            for (int i = 0; i < queries.size(); i++) {
+                out.println("    private final jakarta.data.spi.PreparedQuery<" + queries.get(i).resultType()
+                        + "> query" + i + ';');
+            }
+            out.println();
+            out.println("    /**");
+            out.println("     * Creates the repository and prepares its queries.");
+            out.println("     *");
+            out.println("     * @param operations the operations of the Jakarta Data provider.");
+            out.println("     */");
+            out.println("    public " + simpleName + "(jakarta.data.spi.RepositoryOperations operations) {");
+            out.println("        this.operations = java.util.Objects.requireNonNull(operations, \"operations is required\");");
+            for (int i = 0; i < queries.size(); i++) {
+                PlannedQuery query = queries.get(i);
+                out.println("        this.query" + i + " = operations.prepare(" + literal(query.jdql()) + ", "
+                        + query.entityType() + ".class, " + query.resultType() + ".class);");
+            }
+            out.println("    }");
+            methods.forEach(out::print);
+            out.println('}');
+        }
+    }
+
+    /**
+     * Writes the implementation of a repository method.
+     */
+    private String implement(DeclaredType repository, TypeMirror primaryEntity, ExecutableElement method,
+                             List<PlannedQuery> queries) throws UnsupportedException {
+        ExecutableType type = (ExecutableType) types.asMemberOf(repository, method);
+        StringBuilder code = new StringBuilder(256);
+        code.append("\n    @Override\n    public ");
+        if (!type.getTypeVariables().isEmpty()) {
+            List<String> variables = new ArrayList<>();
+            for (TypeVariable variable : type.getTypeVariables()) {
+                variables.add(isType(variable.getUpperBound(), Object.class.getName())
+                        ? variable.toString()
+                        : variable + " extends " + variable.getUpperBound());
+            }
+            code.append('<').append(String.join(", ", variables)).append("> ");
+        }
+        code.append(type.getReturnType()).append(' ').append(method.getSimpleName()).append('(');
+        List<? extends VariableElement> parameters = method.getParameters();
+        for (int i = 0; i < parameters.size(); i++) {
+            TypeMirror parameterType = type.getParameterTypes().get(i);
+            if (i > 0) {
+                code.append(", ");
+            }
+            if (method.isVarArgs() && i == parameters.size() - 1) {
+                code.append(((ArrayType) parameterType).getComponentType()).append("...");
+            } else {
+                code.append(parameterType);
+            }
+            code.append(' ').append(parameters.get(i).getSimpleName());
+        }
+        code.append(") {\n");
+
+        String lifecycle = Repositories.lifecycleAnnotation(method);
+        AnnotationMirror query = Repositories.annotation(method, QUERY);
+        if (lifecycle != null && (!Repositories.DELETE.equals(lifecycle) || isLifecycleDelete(type, primaryEntity))) {
+            lifecycle(lifecycle, type, method, code);
+        } else if (query != null) {
+            query(String.valueOf(value(query, "value")), type, primaryEntity, method, queries, code);
+        } else if (Repositories.annotation(method, FIND) != null || lifecycle != null) {
+            parameterBased(lifecycle != null, type, primaryEntity, method, queries, code);
+        } else {
+            methodName(type, primaryEntity, method, queries, code);
+        }
+        return code.append("    }\n").toString();
+    }
+
+    /**
+     * Implements an {@code Insert}, {@code Update}, {@code Save} or {@code Delete}
+     * method that accepts an entity, a list of entities, or an array of entities,
+     * or an {@code Insert} or {@code Save} method with a batch size that accepts
+     * an {@code Iterable} or {@code Stream} of entities.
+     */
+    private void lifecycle(String annotation, ExecutableType type, ExecutableElement method, StringBuilder code)
+            throws UnsupportedException {
+        if (type.getParameterTypes().size() != 1) {
+            throw new UnsupportedException("lifecycle methods must have exactly one parameter", method);
+        }
+        TypeMirror parameterType = type.getParameterTypes().get(0);
+        TypeMirror returnType = type.getReturnType();
+        if (isType(parameterType, Iterable.class.getName()) || isType(parameterType, Stream.class.getName())) {
+            batches(annotation, returnType, method, code);
+            return;
+        }
+        boolean returns = returnType.getKind() != TypeKind.VOID;
+        if (returns && (Repositories.DELETE.equals(annotation) || !types.isSameType(returnType, parameterType))) {
+            throw new UnsupportedException("lifecycle methods must return void or the type of their parameter", method);
+        }
+        String operation = annotation.substring(annotation.lastIndexOf('.') + 1).toLowerCase(Locale.ROOT);
+        String parameter = method.getParameters().get(0).getSimpleName().toString();
+        code.append("        ").append(returns ? "return " : "").append("this.operations.").append(operation);
+        if (parameterType.getKind() == TypeKind.ARRAY) {
+            code.append("All(java.util.Arrays.asList(").append(parameter).append("))");
+            if (returns) {
+                code.append(".toArray(java.util.Arrays.copyOf(").append(parameter).append(", 0))");
+            }
+        } else if (isType(parameterType, List.class.getName())) {
+            code.append("All(").append(parameter).append(')');
+        } else if (parameterType.getKind() == TypeKind.TYPEVAR
+                || parameterType.getKind() == TypeKind.DECLARED && Repositories.elementType(parameterType) == parameterType) {
+            code.append('(').append(parameter).append(')');
+        } else {
+            throw new UnsupportedException("lifecycle method parameters must be an entity, a List or an array", method);
+        }
+        code.append(";\n");
+    }
+
+    /**
+     * Implements an {@code Insert} or {@code Save} method that writes an {@code Iterable}
+     * or {@code Stream} of entities in batches of the size of its {@code BatchSize} annotation.
+     * A stream is consumed through its iterator and is not closed.
+     */
+    private void batches(String annotation, TypeMirror returnType, ExecutableElement method, StringBuilder code) throws UnsupportedException {
+        AnnotationMirror batchSize = Repositories.annotation(method, Repositories.BATCH_SIZE);
+        if (batchSize == null || !(Repositories.INSERT.equals(annotation) || Repositories.SAVE.equals(annotation))) {
+            throw new UnsupportedException("only Insert and Save methods with a BatchSize accept an Iterable or Stream", method);
+        }
+        String operation = Repositories.INSERT.equals(annotation) ? "insertAll" : "saveAll";
+        String call = "this.operations." + operation + '(' + method.getParameters().get(0).getSimpleName()
+                + ".iterator(), " + value(batchSize, "value") + ')';
+        if (returnType.getKind() == TypeKind.VOID) {
+            code.append("        ").append(call).append(";\n");
+        } else if (returnType.getKind() == TypeKind.LONG) {
+            code.append("        return ").append(call).append(";\n");
+        } else if (returnType.getKind() == TypeKind.INT) {
+            code.append("        return java.lang.Math.toIntExact(").append(call).append(");\n");
+        } else {
+            throw new UnsupportedException("methods with a BatchSize must return void, long or int", method);
+        }
+    }
+
+    /**
+     * Implements a method that is annotated with {@code Query}, replacing named parameters
+     * in the query with the positions of the corresponding method parameters.
+     */
+    private void query(String jdql, ExecutableType type, TypeMirror primaryEntity, ExecutableElement method,
+                       List<PlannedQuery> queries, StringBuilder code) throws UnsupportedException {
+        if (Repositories.annotation(method, ORDER_BY) != null || Repositories.annotation(method, ORDER_BY_LIST) != null) {
+            throw new UnsupportedException("OrderBy is not supported with Query", method);
+        }
+        Map<String, Integer> positions = new HashMap<>();
+        List<String> bindings = new ArrayList<>();
+        for (int i = 0; i < type.getParameterTypes().size(); i++) {
+            if (!isSpecial(type.getParameterTypes().get(i))) {
+                VariableElement parameter = method.getParameters().get(i);
+                AnnotationMirror param = Repositories.annotation(parameter, PARAM);
+                positions.put(param == null ? parameter.getSimpleName().toString() : String.valueOf(value(param, "value")),
+                        bindings.size() + 1);
+                bindings.add(bind(bindings.size() + 1, parameter));
+            }
+        }
+        String positional = positional(jdql, positions, method);
+        if (UPDATE_OR_DELETE.matcher(jdql).matches()) {
+            if (primaryEntity == null) {
+                throw new UnsupportedException("the primary entity type of the repository is not known", method);
+            }
+            update(new PlannedQuery(positional, sourceName(primaryEntity), Long.class.getName()),
+                    type, method, bindings, queries, code);
+        } else {
+            select(positional, primaryEntity, false, 0, type, method, bindings, queries, code);
+        }
+    }
+
+    /**
+     * Implements a {@code Find} or parameter-based {@code Delete} method, for which each
+     * parameter that is not a special parameter must equal an entity attribute that is
+     * named by the {@code By} annotation of the parameter or, otherwise, the parameter name.
+     */
+    private void parameterBased(boolean delete, ExecutableType type, TypeMirror primaryEntity, ExecutableElement method,
+                                List<PlannedQuery> queries, StringBuilder code) throws UnsupportedException {
+        List<String> conditions = new ArrayList<>();
+        List<String> bindings = new ArrayList<>();
+        for (int i = 0; i < type.getParameterTypes().size(); i++) {
+            if (!isSpecial(type.getParameterTypes().get(i))) {
+                VariableElement parameter = method.getParameters().get(i);
+                if (isMultiValued(type.getParameterTypes().get(i))) {
+                    throw new UnsupportedException("parameters that are arrays or collections of values are not supported",
+                            method);
+                }
+                AnnotationMirror by = Repositories.annotation(parameter, BY);
+                String attribute = by == null ? parameter.getSimpleName().toString() : String.valueOf(value(by, "value"));
+                bindings.add(bind(bindings.size() + 1, parameter));
+                conditions.add(attribute + " = ?" + bindings.size());
+            }
+        }
+        String where = conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+        if (delete) {
+            if (primaryEntity == null) {
+                throw new UnsupportedException("the primary entity type of the repository is not known", method);
+            }
+            update(new PlannedQuery("DELETE FROM " + entityName(primaryEntity) + where, sourceName(primaryEntity),
+                    Long.class.getName()), type, method, bindings, queries, code);
+        } else {
+            TypeMirror entity = resultType(type.getReturnType(), method);
+            if (entity.getKind() != TypeKind.DECLARED) {
+                throw new UnsupportedException("result type " + entity + " is not supported", method);
+            }
+            select("FROM " + entityName(entity) + where + orderBy(method, List.of()), entity,
+                    false, 0, type, method, bindings, queries, code);
+        }
+    }
+
+    /**
+     * Implements a method that follows the Query by Method Name pattern, such as
+     * {@code findByPriceLessThanOrderByNameAsc}.
+     */
+    private void methodName(ExecutableType type, TypeMirror primaryEntity, ExecutableElement method,
+                            List<PlannedQuery> queries, StringBuilder code) throws UnsupportedException {
+        Matcher name = METHOD_NAME.matcher(method.getSimpleName());
+        if (!name.matches() || primaryEntity == null) {
+            throw new UnsupportedException("method is not supported", method);
+        }
+        String action = name.group(1);
+        int first = name.group(2) == null ? 0 : name.group(3).isEmpty() ? 1 : Integer.parseInt(name.group(3));
+        String body = name.group(4);
+        int orderBy = body.indexOf("OrderBy");
+        String conditions = orderBy < 0 ? body : body.substring(0, orderBy);
+        List<String> sorts = orderBy < 0 ? List.of() : sorts(body.substring(orderBy + "OrderBy".length()), method);
+
+        List<VariableElement> parameters = new ArrayList<>();
+        for (int i = 0; i < type.getParameterTypes().size(); i++) {
+            if (!isSpecial(type.getParameterTypes().get(i))) {
+                parameters.add(method.getParameters().get(i));
+            }
+        }
+        List<String> bindings = new ArrayList<>();
+        StringBuilder where = new StringBuilder();
+        Matcher connectors = CONNECTOR.matcher(conditions);
+        int start = 0;
+        while (!conditions.isEmpty()) {
+            boolean found = connectors.find();
+            int end = found ? connectors.start() : conditions.length();
+            where.append(where.length() == 0 ? " WHERE " : ' ')
+                    .append(condition(conditions.substring(start, end), parameters, bindings, method));
+            if (!found) {
+                break;
+            }
+            where.append(' ').append(connectors.group(1).toUpperCase(Locale.ROOT));
+            start = connectors.end();
+        }
+        if (bindings.size() != parameters.size()) {
+            throw new UnsupportedException("method parameters do not match the conditions of the method name", method);
+        }
+
+        String entityName = entityName(primaryEntity);
+        String entityType = sourceName(primaryEntity);
+        switch (action) {
+            case "find" -> select("FROM " + entityName + where + orderBy(method, sorts), primaryEntity,
+                    false, first, type, method, bindings, queries, code);
+            case "delete" -> update(new PlannedQuery("DELETE FROM " + entityName + where, entityType, Long.class.getName()),
+                    type, method, bindings, queries, code);
+            default -> select("SELECT COUNT(THIS) FROM " + entityName + where, primaryEntity,
+                    "exists".equals(action), 0, type, method, bindings, queries, code);
+        }
+    }
+
+    /**
+     * Translates a condition of a method name, such as {@code PriceLessThan}, which consists of
+     * an attribute, optionally {@code IgnoreCase}, optionally {@code Not}, and optionally an operator,
+     * to JDQL, binding the next method parameters to it.
+     */
+    private String condition(String condition, List<VariableElement> parameters, List<String> bindings,
+                             ExecutableElement method) throws UnsupportedException {
+        for (String keyword : UNSUPPORTED_OPERATORS) {
+            if (condition.endsWith(keyword) && condition.length() > keyword.length()) {
+                throw new UnsupportedException(keyword + " conditions are not supported", method);
+            }
+        }
+        String[] operator = operator(condition);
+        String attribute = condition.substring(0, condition.length() - operator[0].length());
+        boolean not = attribute.endsWith("Not") && attribute.length() > "Not".length();
+        if (not) {
+            attribute = attribute.substring(0, attribute.length() - "Not".length());
+        }
+        boolean ignoreCase = attribute.endsWith("IgnoreCase") && attribute.length() > "IgnoreCase".length();
+        if (ignoreCase) {
+            attribute = attribute.substring(0, attribute.length() - "IgnoreCase".length());
+        }
+        if (attribute.endsWith("Not") || attribute.endsWith("IgnoreCase") || operator(attribute) != EQUALITY) {
+            throw new UnsupportedException("keywords of condition " + condition + " are out of order", method);
+        }
+        String jdql = not ? operator[2] : operator[1];
+        if (ignoreCase && !jdql.endsWith("?")) {
+            throw new UnsupportedException("IgnoreCase is not supported for " + condition, method);
+        }
+        String path = Character.toLowerCase(attribute.charAt(0)) + attribute.substring(1).replace('_', '.');
+        return translate(path, jdql, ignoreCase, parameters, bindings, method);
+    }
+
+    /**
+     * Finds the operator at the end of a condition of a method name.
+     */
+    private static String[] operator(String condition) {
+        for (String[] operator : OPERATORS) {
+            if (condition.endsWith(operator[0]) && condition.length() > operator[0].length()) {
+                return operator;
+            }
+        }
+        return EQUALITY;
+    }
+
+    /**
+     * Writes a condition on an entity attribute, replacing each {@code ?} of the operator
+     * with the position of the next method parameter.
+     */
+    private static String translate(String path, String operator, boolean ignoreCase, List<VariableElement> parameters,
+                                    List<String> bindings, ExecutableElement method) throws UnsupportedException {
+        StringBuilder translated = new StringBuilder(64);
+        translated.append(ignoreCase ? "UPPER(" + path + ')' : path).append(' ');
+        for (int i = 0; i < operator.length(); i++) {
+            char c = operator.charAt(i);
+            if (c != '?') {
+                translated.append(c);
+            } else if (bindings.size() < parameters.size()) {
+                bindings.add(bind(bindings.size() + 1, parameters.get(bindings.size())));
+                translated.append(ignoreCase ? "UPPER(?" + bindings.size() + ')' : "?" + bindings.size());
+            } else {
+                throw new UnsupportedException("method parameters do not match the conditions of the method name", method);
+            }
+        }
+        return translated.toString();
+    }
+
+    /**
+     * Translates the sort criteria of a method name, such as {@code NameAscPriceDesc}, to JDQL.
+     */
+    private static List<String> sorts(String orderBy, ExecutableElement method) throws UnsupportedException {
+        List<String> sorts = new ArrayList<>();
+        Matcher directions = DIRECTION.matcher(orderBy);
+        int start = 0;
+        while (start < orderBy.length()) {
+            boolean found = directions.find();
+            int end = found ? directions.start() : orderBy.length();
+            if (end == start) {
+                throw new UnsupportedException("OrderBy" + orderBy + " is not supported", method);
+            }
+            String attribute = orderBy.substring(start, end);
+            sorts.add(Character.toLowerCase(attribute.charAt(0)) + attribute.substring(1).replace('_', '.')
+                    + (found && "Desc".equals(directions.group(1)) ? " DESC" : " ASC"));
+            start = found ? directions.end() : end;
+        }
+        return sorts;
+    }
+
+    /**
+     * Computes the ORDER BY clause of a method from its {@code OrderBy} annotations and the sort
+     * criteria of its name.
+     */
+    private String orderBy(ExecutableElement method, List<String> sorts) throws UnsupportedException {
+        List<AnnotationMirror> annotations = new ArrayList<>();
+        AnnotationMirror single = Repositories.annotation(method, ORDER_BY);
+        if (single != null) {
+            annotations.add(single);
+        }
+        AnnotationMirror list = Repositories.annotation(method, ORDER_BY_LIST);
+        if (list != null) {
+            for (Object value : (List<?>) value(list, "value")) {
+                annotations.add((AnnotationMirror) ((AnnotationValue) value).getValue());
+            }
+        }
+        List<String> items = new ArrayList<>(sorts);
+        for (AnnotationMirror annotation : annotations) {
+            if (Boolean.TRUE.equals(value(annotation, "ignoreCase"))) {
+                throw new UnsupportedException("OrderBy with ignoreCase is not supported", method);
+            }
+            items.add(value(annotation, "value") + (Boolean.TRUE.equals(value(annotation, "descending")) ? " DESC" : " ASC"));
+        }
+        return items.isEmpty() ? "" : " ORDER BY " + String.join(", ", items);
+    }
+
+    /**
+     * Writes the body of a method that executes a query that returns results.
+     *
+     * @param exists whether the method returns whether the count that the query computes is positive.
+     * @param first  the maximum number of results, or {@code 0} if not limited by the method name.
+     */
+    private void select(String jdql, TypeMirror entity, boolean exists, int first, ExecutableType type,
+                        ExecutableElement method, List<String> bindings, List<PlannedQuery> queries, StringBuilder code)
+            throws UnsupportedException {
+        TypeMirror returnType = type.getReturnType();
+        String result;
+        String resultType;
+        if (jdql.startsWith("SELECT COUNT(THIS) ")) {
+            resultType = Long.class.getName();
+            if (exists && isPrimitiveOrBoxed(returnType, TypeKind.BOOLEAN)) {
+                result = "$execution.single() > 0L";
+            } else if (!exists && isPrimitiveOrBoxed(returnType, TypeKind.LONG)) {
+                result = "$execution.single()";
+            } else if (!exists && isPrimitiveOrBoxed(returnType, TypeKind.INT)) {
+                result = "java.lang.Math.toIntExact($execution.single())";
+            } else {
+                throw new UnsupportedException("count and exists methods must return a number or a boolean", method);
+            }
+        } else if (returnType.getKind().isPrimitive()) {
+            resultType = types.boxedClass((PrimitiveType) returnType).getQualifiedName().toString();
+            result = "$execution.single()";
+        } else if (returnType.getKind() == TypeKind.ARRAY) {
+            resultType = reifiable(((ArrayType) returnType).getComponentType(), method);
+            result = "$execution.list().toArray(new " + resultType + "[0])";
+        } else {
+            String container = returnType.getKind() == TypeKind.DECLARED
+                    ? ((TypeElement) types.asElement(returnType)).getQualifiedName().toString()
+                    : "";
+            result = switch (container) {
+                case "java.util.List" -> "$execution.list()";
+                case "java.util.stream.Stream" -> "$execution.stream()";
+                case "java.util.Optional" -> "$execution.optional()";
+                case PAGE -> "$execution.page(" + pageRequest(type, method) + ')';
+                default -> null;
+            };
+            if (result == null) {
+                resultType = reifiable(returnType, method);
+                result = "$execution.single()";
+            } else {
+                resultType = reifiable(resultType(returnType, method), method);
+            }
+        }
+
+        execution(new PlannedQuery(jdql, entity == null ? resultType : sourceName(entity), resultType),
+                queries, bindings, code);
+        if (first > 0) {
+            code.append("        $execution.limit(jakarta.data.Limit.of(").append(first).append("));\n");
+        }
+        specialParameters(type, method, code);
+        code.append("        return ").append(result).append(";\n");
+    }
+
+    /**
+     * Writes the body of a method that executes an update or delete query.
+     */
+    private void update(PlannedQuery query, ExecutableType type, ExecutableElement method, List<String> bindings,
+                        List<PlannedQuery> queries, StringBuilder code) throws UnsupportedException {
+        TypeMirror returnType = type.getReturnType();
+        for (TypeMirror parameterType : type.getParameterTypes()) {
+            if (isSpecial(parameterType)) {
+                throw new UnsupportedException("special parameters are not supported for update and delete", method);
+            }
+        }
+        execution(query, queries, bindings, code);
+        if (returnType.getKind() == TypeKind.VOID) {
+            code.append("        $execution.update();\n");
+        } else if (isPrimitiveOrBoxed(returnType, TypeKind.LONG)) {
+            code.append("        return $execution.update();\n");
+        } else if (isPrimitiveOrBoxed(returnType, TypeKind.INT)) {
+            code.append("        return java.lang.Math.toIntExact($execution.update());\n");
+        } else {
+            throw new UnsupportedException("update and delete methods must return void, int or long", method);
+        }
+    }
+
+    /**
+     * Adds a query to those that are prepared by the constructor, and writes the statements
+     * that start its execution, as the local variable {@code $execution}, and bind the
+     * arguments of the method.
+     */
+    private static void execution(PlannedQuery query, List<PlannedQuery> queries, List<String> bindings,
+                                    StringBuilder code) {
+        code.append("        jakarta.data.spi.PreparedQuery.Execution<").append(query.resultType())
+                .append("> $execution = this.query").append(queries.size()).append(".execute();\n");
+        queries.add(query);
+        for (String binding : bindings) {
+            code.append("        $execution").append(binding).append(";\n");
+        }
+    }
+
+    /**
+     * Writes the statements that apply the {@code Sort}, {@code Order} and {@code Limit}
+     * special parameters of a method to an execution.
+     */
+    private static void specialParameters(ExecutableType type, ExecutableElement method, StringBuilder code)
+            throws UnsupportedException {
+        for (int i = 0; i < type.getParameterTypes().size(); i++) {
+            TypeMirror parameterType = type.getParameterTypes().get(i);
+            String parameter = method.getParameters().get(i).getSimpleName().toString();
+            if (isType(parameterType, SORT)) {
+                code.append("        $execution.sort(").append(parameter).append(");\n");
+            } else if (isType(parameterType, ORDER) || parameterType.getKind() == TypeKind.ARRAY
+                    && isType(((ArrayType) parameterType).getComponentType(), SORT)) {
+                code.append("        for (jakarta.data.Sort<?> $sort : ").append(parameter)
+                        .append(") {\n            $execution.sort($sort);\n        }\n");
+            } else if (isType(parameterType, LIMIT)) {
+                code.append("        $execution.limit(").append(parameter).append(");\n");
+            } else if (isSpecial(parameterType) && !isType(parameterType, PAGE_REQUEST)) {
+                throw new UnsupportedException("special parameter " + parameterType + " is not supported", method);
+            }
+        }
+    }
+
+    private static String pageRequest(ExecutableType type, ExecutableElement method) throws UnsupportedException {
+        for (int i = 0; i < type.getParameterTypes().size(); i++) {
+            if (isType(type.getParameterTypes().get(i), PAGE_REQUEST)) {
+                return method.getParameters().get(i).getSimpleName().toString();
+            }
+        }
+        throw new UnsupportedException("methods that return a Page require a PageRequest", method);
+    }
+
+    /**
+     * Writes the statement suffix that binds a method parameter to a query parameter.
+     * Arguments of type {@code char} are boxed because they are bound as characters rather than numbers.
+     */
+    private static String bind(int position, VariableElement parameter) {
+        return ".bind(" + position + ", "
+                + (parameter.asType().getKind() == TypeKind.CHAR ? "java.lang.Character.valueOf(" + parameter.getSimpleName() + ')'
+                : parameter.getSimpleName()) + ')';
+    }
+
+    /**
+     * Replaces the named parameters of a query, such as {@code :name}, with positional parameters,
+     * leaving string literals unchanged.
+     */
+    private static String positional(String jdql, Map<String, Integer> positions, ExecutableElement method)
+            throws UnsupportedException {
+        StringBuilder positional = new StringBuilder(jdql.length());
+        boolean literal = false;
+        int i = 0;
+        while (i < jdql.length()) {
+            char c = jdql.charAt(i++);
+            if (c == '\'') {
+                literal = !literal;
+            } else if (c == ':' && !literal && i < jdql.length() && Character.isJavaIdentifierStart(jdql.charAt(i))) {
+                int start = i;
+                while (i < jdql.length() && Character.isJavaIdentifierPart(jdql.charAt(i))) {
+                    i++;
+                }
+                Integer position = positions.get(jdql.substring(start, i));
+                if (position == null) {
+                    throw new UnsupportedException("no parameter for :" + jdql.substring(start, i), method);
+                }
+                positional.append('?').append(position);
+                continue;
+            }
+            positional.append(c);
+        }
+        return positional.toString();
+    }
+
+    private boolean isLifecycleDelete(ExecutableType type, TypeMirror primaryEntity) {
+        if (type.getParameterTypes().size() != 1) {
+            return false;
+        }
+        TypeMirror entity = Repositories.elementType(type.getParameterTypes().get(0));
+        while (entity != null && (entity.getKind() == TypeKind.TYPEVAR || entity.getKind() == TypeKind.WILDCARD)) {
+            entity = entity instanceof TypeVariable variable
+                    ? variable.getUpperBound()
+                    : ((WildcardType) entity).getExtendsBound();
+        }
+        return entity != null && entity.getKind() == TypeKind.DECLARED
+                && (Entities.isEntity((TypeElement) types.asElement(entity))
+                || primaryEntity != null && types.isSameType(types.erasure(entity), types.erasure(primaryEntity)));
+    }
+
+    private static boolean isSpecial(TypeMirror type) {
+        TypeMirror component = type.getKind() == TypeKind.ARRAY ? ((ArrayType) type).getComponentType() : type;
+        return isType(component, SORT) || isType(type, ORDER) || isType(type, LIMIT) || isType(type, PAGE_REQUEST)
+                || isType(type, "jakarta.data.QueryBudget") || isType(type, "jakarta.data.restrict.Restriction");
+    }
+
+    /**
+     * Obtains the type of the results of a method that returns a {@code List}, {@code Stream},
+     * {@code Optional}, {@code Page} or array of results, or a single result.
+     */
+    private TypeMirror resultType(TypeMirror returnType, ExecutableElement method) throws UnsupportedException {
+        if (returnType.getKind() == TypeKind.ARRAY) {
+            return ((ArrayType) returnType).getComponentType();
+        } else if (returnType.getKind() != TypeKind.DECLARED) {
+            throw new UnsupportedException("return type " + returnType + " is not supported", method);
+        }
+        List<? extends TypeMirror> arguments = ((DeclaredType) returnType).getTypeArguments();
+        return arguments.size() == 1 ? arguments.get(0) : returnType;
+    }
+
+    /**
+     * Obtains the source name of a type that can be used as a class literal and as a type argument
+     * without an unchecked conversion.
+     */
+    private String reifiable(TypeMirror type, ExecutableElement method) throws UnsupportedException {
+        if (type.getKind() == TypeKind.DECLARED && ((DeclaredType) type).getTypeArguments().isEmpty()) {
+            return sourceName(type);
+        }
+        throw new UnsupportedException("result type " + type + " is not supported", method);
+    }
+
+    /**
+     * Obtains the name of an entity in queries, which is the name of its entity annotation
+     * if specified, or otherwise the simple name of the entity class.
+     */
+    private String entityName(TypeMirror entity) {
+        TypeElement element = (TypeElement) types.asElement(entity);
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            if (Repositories.annotation(annotation.getAnnotationType().asElement(), Entities.ENTITY_DEFINING) != null
+                    && value(annotation, "name") instanceof String name && !name.isEmpty()) {
+                return name;
+            }
+        }
+        return element.getSimpleName().toString();
+    }
+
+    private String sourceName(TypeMirror type) {
+        return ((TypeElement) types.asElement(type)).getQualifiedName().toString();
+    }
+
+    private Object value(AnnotationMirror annotation, String name) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                : elements.getElementValuesWithDefaults(annotation).entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) {
+                return entry.getValue().getValue();
+            }
+        }
+        return null;
+    }
+
+    private static boolean isPrimitiveOrBoxed(TypeMirror type, TypeKind kind) {
+        if (type.getKind() == kind) {
+            return true;
+        }
+        String boxed = switch (kind) {
+            case BOOLEAN -> Boolean.class.getName();
+            case INT -> Integer.class.getName();
+            default -> Long.class.getName();
+        };
+        return isType(type, boxed);
+    }
+
+    private static boolean isType(TypeMirror type, String qualifiedName) {
+        return type.getKind() == TypeKind.DECLARED
+                && ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().contentEquals(qualifiedName);
+    }
+
+    /**
+     * Determines whether a parameter type holds multiple values, that is, whether it is an array or an
+     * {@code Iterable}, such as a {@code Collection}, which cannot be compared with an attribute for equality.
+     */
+    private boolean isMultiValued(TypeMirror type) {
+        return type.getKind() == TypeKind.ARRAY
+                || type.getKind() == TypeKind.DECLARED && types.isAssignable(types.erasure(type),
+                types.erasure(elements.getTypeElement(Iterable.class.getName()).asType()));
+    }
+
+    /**
+     * Formats a string as a Java string literal.
+     */
+    private static String literal(String value) {
+        StringBuilder literal = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> literal.append("\\\"");
+                case '\\' -> literal.append("\\\\");
+                case '\n' -> literal.append("\\n");
+                case '\r' -> literal.append("\\r");
+                case '\t' -> literal.append("\\t");
+                default -> literal.append(c);
+            }
+        }
+        return literal.append('"').toString();
+    }
+
+    /**
+     * A query that the generated constructor prepares.
+     *
+     * @param jdql       the query, with positional parameters.
+     * @param entityType source name of the primary entity class.
+     * @param resultType source name of the result class.
+     */
+    private record PlannedQuery(String jdql, String entityType, String resultType) {
+    }
+
+    /**
+     * Indicates that a repository cannot be implemented by the generator.
+     */
+    static final class UnsupportedException extends Exception {
+        private static final long serialVersionUID = 1L;
+
+        private final transient Element element;
+
+        UnsupportedException(String message, Element element) {
+            super(message);
+            this.element = element;
+        }
+
+        /**
+         * The repository or repository method that cannot be implemented.
+         *
+         * @return the element.
+         */
+        Element element() {
+            return element;
+        }
+    }
+}
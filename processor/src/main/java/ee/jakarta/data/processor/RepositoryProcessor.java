@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package ee.jakarta.data.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <p>Annotation processor that generates an implementation of each repository interface
+ * that is compiled, so that Jakarta Data providers can invoke the queries of the
+ * repository directly through {@code jakarta.data.spi.RepositoryOperations} rather
+ * than through a dynamic proxy that dispatches on the invoked method, boxes
+ * its arguments, and resolves its query at run time.</p>
+ *
+ * <p>The implementation of a repository interface {@code Products} is named
+ * {@code Products_} and is generated in the same package. No implementation is
+ * generated for a repository with a method that the generator does not support,
+ * in which case the compiler reports a note with the reason.</p>
+ *
+ * <p>A {@code BatchSize} of less than {@code 1} on a method of a repository
+ * interface is reported as an error.</p>
+ */
+@SupportedAnnotationTypes("*")
+public class RepositoryProcessor extends AbstractProcessor {
+    private final Set<String> generated = new HashSet<>();
+    private final Set<String> sources = new HashSet<>();
+    private RepositoryGenerator generator;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        generator = new RepositoryGenerator(processingEnv);
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement type : ElementFilter.typesIn(roundEnv.getRootElements())) {
+            sources.add(type.getQualifiedName().toString());
+        }
+
+        for (TypeElement repository : Repositories.in(roundEnv.getRootElements())) {
+            String implementationName = generator.implementationName(repository);
+            if (!Entities.isVisible(repository)
+                    || sources.contains(implementationName)
+                    || !generated.add(repository.getQualifiedName().toString())
+                    || !validBatchSizes(repository)) {
+                continue;
+            }
+            try {
+                generator.generate(repository);
+            } catch (RepositoryGenerator.UnsupportedException x) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                        "Not generating " + implementationName + ": " + x.getMessage(), x.element());
+            } catch (IOException x) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        "Unable to write repository implementation " + implementationName + ": " + x, repository);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Reports an error for each method of a repository with a batch size of less than 1.
+     *
+     * @return {@code true} if all batch sizes are valid.
+     */
+    private boolean validBatchSizes(TypeElement repository) {
+        boolean valid = true;
+        for (ExecutableElement method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(repository))) {
+            AnnotationMirror batchSize = Repositories.annotation(method, Repositories.BATCH_SIZE);
+            if (batchSize == null) {
+                continue;
+            }
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                    : batchSize.getElementValues().entrySet()) {
+                if (entry.getValue().getValue() instanceof Integer size && size < 1) {
+                    processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                            "BatchSize must be at least 1: " + size, method, batchSize, entry.getValue());
+                    valid = false;
+                }
+            }
+        }
+        return valid;
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package ee.jakarta.data.processor;
+
+import jakarta.data.spi.DataIndex;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class IndexProcessorTest {
+
+    private static final Map<String, String> SOURCES = Map.of(
+            "test.Entity", """
+                    package test;
+
+                    import jakarta.data.spi.EntityDefining;
+
+                    @EntityDefining
+                    public @interface Entity {
+                    }
+                    """,
+            "test.Product", """
+                    package test;
+
+                    @Entity
+                    public class Product {
+                        public long id;
+                    }
+                    """,
+            "test.Catalog", """
+                    package test;
+
+                    public class Catalog {
+                        @Entity
+                        public record Item(String sku) {
+                        }
+                    }
+                    """,
+            "test.Products", """
+                    package test;
+
+                    import jakarta.data.repository.CrudRepository;
+                    import jakarta.data.repository.Repository;
+
+                    @Repository(dataStore = "inventory")
+                    public interface Products extends CrudRepository<Product, Long> {
+                    }
+                    """,
+            "test.Items", """
+                    package test;
+
+                    import jakarta.data.repository.Delete;
+                    import jakarta.data.repository.Insert;
+                    import jakarta.data.repository.Repository;
+                    import java.util.List;
+
+                    @Repository(provider = "Acme")
+                    public interface Items {
+                        @Insert
+                        void add(List<Catalog.Item> items);
+
+                        @Delete
+                        void remove(Catalog.Item item);
+                    }
+                    """,
+            "test.Mixed", """
+                    package test;
+
+                    import jakarta.data.repository.Insert;
+                    import jakarta.data.repository.Repository;
+
+                    @Repository
+                    public interface Mixed {
+                        @Insert
+                        void add(Product product);
+
+                        @Insert
+                        void add(Catalog.Item item);
+                    }
+                    """);
+
+    @TempDir
+    Path output;
+
+    @Test
+    @DisplayName("Should index entity classes and repositories with their primary entity types")
+    void shouldWriteIndex() throws Exception {
+        TestCompiler.compile(output, SOURCES, new IndexProcessor());
+
+        DataIndex index;
+        try (Reader reader = Files.newBufferedReader(output.resolve(IndexProcessor.RESOURCE))) {
+            index = DataIndex.read(reader);
+        }
+
+        assertSoftly(softly -> {
+            softly.assertThat(index.entities()).containsExactlyInAnyOrder("test.Product", "test.Catalog$Item");
+            softly.assertThat(index.repositories()).containsExactlyInAnyOrder(
+                    new DataIndex.RepositoryEntry("test.Products", "test.Product", "inventory", ""),
+                    new DataIndex.RepositoryEntry("test.Items", "test.Catalog$Item", "", "Acme"),
+                    new DataIndex.RepositoryEntry("test.Mixed", "", "", ""));
+            softly.assertThat(index.repositories("Other")).extracting(DataIndex.RepositoryEntry::repository)
+                    .containsExactlyInAnyOrder("test.Products", "test.Mixed");
+        });
+    }
+
+    @Test
+    @DisplayName("Should retain the records of classes that exist and were not compiled again")
+    void shouldMergeIndex() throws Exception {
+        TestCompiler.compile(output, SOURCES, new IndexProcessor());
+        Files.delete(output.resolve("test/Mixed.class"));
+
+        TestCompiler.compile(output, Map.of(
+                "test.Catalog", """
+                        package test;
+
+                        public class Catalog {
+                            public record Item(String sku) {
+                            }
+                        }
+                        """,
+                "test.Order", """
+                        package test;
+
+                        @Entity
+                        public class Order {
+                            public long id;
+                        }
+                        """), new IndexProcessor());
+
+        DataIndex index;
+        try (Reader reader = Files.newBufferedReader(output.resolve(IndexProcessor.RESOURCE))) {
+            index = DataIndex.read(reader);
+        }
+
+        assertSoftly(softly -> {
+            softly.assertThat(index.entities()).containsExactlyInAnyOrder("test.Product", "test.Order");
+            softly.assertThat(index.repositories()).extracting(DataIndex.RepositoryEntry::repository)
+                    .containsExactlyInAnyOrder("test.Products", "test.Items");
+        });
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package ee.jakarta.data.processor;
+
+import jakarta.data.metamodel.Attribute;
+import jakarta.data.metamodel.StaticMetamodel;
+import jakarta.data.metamodel.TemporalAttribute;
+import jakarta.data.metamodel.TextAttribute;
+import jakarta.data.metamodel.TypedAttribute;
+import jakarta.data.metamodel.TypedNumericAttribute;
+import jakarta.data.metamodel.TypedTextAttribute;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class MetamodelProcessorTest {
+
+    private static final Map<String, String> SOURCES = Map.of(
+            "test.Entity", """
+                    package test;
+
+                    import jakarta.data.spi.EntityDefining;
+                    import java.lang.annotation.Retention;
+                    import java.lang.annotation.RetentionPolicy;
+
+                    @EntityDefining
+                    @Retention(RetentionPolicy.RUNTIME)
+                    public @interface Entity {
+                    }
+                    """,
+            "test.Product", """
+                    package test;
+
+                    import java.time.LocalDate;
+                    import java.util.List;
+
+                    @Entity
+                    public class Product {
+                        private long id;
+                        private String name;
+                        String sku;
+                        private LocalDate released;
+                        private List<String> tags;
+                        private transient int cachedHash;
+                        private static int created;
+
+                        public long getId() {
+                            return id;
+                        }
+
+                        public void setId(long id) {
+                            this.id = id;
+                        }
+
+                        public String getName() {
+                            return name;
+                        }
+
+                        public void setName(String name) {
+                            this.name = name;
+                        }
+
+                        public List<String> getTags() {
+                            return tags;
+                        }
+                    }
+                    """,
+            "test.Point", """
+                    package test;
+
+                    @Entity
+                    public record Point(int x, int y) {
+                    }
+                    """,
+            "test.Embeddable", """
+                    package test;
+
+                    public @interface Embeddable {
+                    }
+                    """,
+            "test.Name", """
+                    package test;
+
+                    @Embeddable
+                    public class Name {
+                        public String first;
+                        public String last;
+                    }
+                    """,
+            "test.Person", """
+                    package test;
+
+                    @Entity
+                    public class Person {
+                        public long ssn;
+                        public Name name;
+                    }
+                    """,
+            "test.Order", """
+                    package test;
+
+                    @Entity
+                    public class Order {
+                        public long id;
+                    }
+                    """,
+            "test._Order", """
+                    package test;
+
+                    import jakarta.data.metamodel.StaticMetamodel;
+
+                    @StaticMetamodel(Order.class)
+                    public class _Order {
+                    }
+                    """);
+
+    @TempDir
+    Path output;
+
+    @Test
+    @DisplayName("Should generate static metamodel classes with typed attributes for entity classes")
+    void shouldGenerateStaticMetamodel() throws Exception {
+        DiagnosticCollector<JavaFileObject> diagnostics = compile();
+        assertThat(diagnostics.getDiagnostics()).isEmpty();
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{output.toUri().toURL()}, getClass().getClassLoader())) {
+            Class<?> productClass = loader.loadClass("test.Product");
+            Class<?> metamodel = loader.loadClass("test._Product");
+            Object product = productClass.getConstructor().newInstance();
+
+            @SuppressWarnings("unchecked")
+            TypedNumericAttribute<Object, Long> id = (TypedNumericAttribute<Object, Long>) metamodel.getField("id").get(null);
+            @SuppressWarnings("unchecked")
+            TypedTextAttribute<Object> name = (TypedTextAttribute<Object>) metamodel.getField("name").get(null);
+            Object idName = fieldValue(metamodel, "ID");
+            Object tagsName = fieldValue(metamodel, "TAGS");
+            TypedAttribute<?, ?> sku = (TypedAttribute<?, ?>) fieldValue(metamodel, "sku");
+            Object tags = fieldValue(metamodel, "tags");
+            Object released = fieldValue(metamodel, "released");
+            id.set(product, 42L);
+            name.set(product, "Widget");
+
+            assertSoftly(softly -> {
+                softly.assertThat(metamodel.getAnnotation(StaticMetamodel.class).value()).isEqualTo(productClass);
+                softly.assertThat(idName).isEqualTo("id");
+                softly.assertThat(tagsName).isEqualTo("tags");
+                softly.assertThat(id.get(product)).isEqualTo(42L);
+                softly.assertThat(id.type()).isEqualTo(Long.class);
+                softly.assertThat(id.numericType()).isEqualTo(long.class);
+                softly.assertThat(TypedAttribute.accessors(id).apply("id")).isInstanceOf(ToLongFunction.class);
+                softly.assertThat(name.get(product)).isEqualTo("Widget");
+                softly.assertThat(name).isInstanceOf(TextAttribute.class);
+                softly.assertThat(sku).isInstanceOf(TypedTextAttribute.class);
+                softly.assertThat(sku.isSettable()).isTrue();
+                softly.assertThat(released).isInstanceOf(TemporalAttribute.class)
+                        .isNotInstanceOf(TypedAttribute.class);
+                softly.assertThat(((TemporalAttribute<?>) released).temporalType()).isEqualTo(LocalDate.class);
+                softly.assertThat(tags).isInstanceOf(Attribute.class)
+                        .isNotInstanceOf(TypedAttribute.class);
+                softly.assertThat(metamodel.getFields()).extracting(Field::getName)
+                        .doesNotContain("cachedHash", "created");
+            });
+
+            Class<?> pointMetamodel = loader.loadClass("test._Point");
+            Object point = loader.loadClass("test.Point").getConstructor(int.class, int.class).newInstance(3, 4);
+            @SuppressWarnings("unchecked")
+            TypedNumericAttribute<Object, Integer> y = (TypedNumericAttribute<Object, Integer>) pointMetamodel.getField("y").get(null);
+            assertSoftly(softly -> {
+                softly.assertThat(y.get(point)).isEqualTo(4);
+                softly.assertThat(y.isSettable()).isFalse();
+            });
+        }
+    }
+
+    @Test
+    @DisplayName("Should generate the attributes of embedded attributes and annotate the classes as generated")
+    void shouldGenerateEmbeddedAttributes() throws Exception {
+        compile();
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{output.toUri().toURL()}, getClass().getClassLoader())) {
+            Class<?> metamodel = loader.loadClass("test._Person");
+            Object firstName = fieldValue(metamodel, "NAME_FIRST");
+            Object lastName = fieldValue(metamodel, "NAME_LAST");
+            Object first = fieldValue(metamodel, "name_first");
+            Object name = fieldValue(metamodel, "name");
+
+            assertSoftly(softly -> {
+                softly.assertThat(firstName).isEqualTo("name.first");
+                softly.assertThat(lastName).isEqualTo("name.last");
+                softly.assertThat(first).isInstanceOf(TextAttribute.class).isNotInstanceOf(TypedAttribute.class);
+                softly.assertThat(((Attribute<?>) first).name()).isEqualTo("name.first");
+                softly.assertThat(name).isInstanceOf(TypedAttribute.class);
+            });
+        }
+        // jakarta.annotation.Generated is not on the class path of the test
+        assertThat(Files.readString(output.resolve("test/_Person.java")))
+                .contains("@javax.annotation.processing.Generated(\"" + MetamodelProcessor.class.getName() + "\")");
+    }
+
+    @Test
+    @DisplayName("Should not generate a static metamodel class for an entity that already has one")
+    void shouldNotReplaceExistingStaticMetamodel() throws Exception {
+        compile();
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{output.toUri().toURL()}, getClass().getClassLoader())) {
+            assertThat(loader.loadClass("test._Order").getFields()).isEmpty();
+        }
+    }
+
+    private DiagnosticCollector<JavaFileObject> compile() throws URISyntaxException, IOException {
+        return TestCompiler.compile(output, SOURCES, new MetamodelProcessor());
+    }
+
+    private static Object fieldValue(Class<?> type, String name) throws ReflectiveOperationException {
+        return type.getField(name).get(null);
+    }
+}
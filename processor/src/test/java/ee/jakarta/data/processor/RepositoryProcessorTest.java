@@ -0,0 +1,524 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package ee.jakarta.data.processor;
+
+import jakarta.data.Limit;
+import jakarta.data.Sort;
+import jakarta.data.page.Page;
+import jakarta.data.page.PageRequest;
+import jakarta.data.spi.PreparedQuery;
+import jakarta.data.spi.RepositoryOperations;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class RepositoryProcessorTest {
+
+    private static final Map<String, String> SOURCES = Map.of(
+            "test.Entity", """
+                    package test;
+
+                    import jakarta.data.spi.EntityDefining;
+
+                    @EntityDefining
+                    public @interface Entity {
+                    }
+                    """,
+            "test.Product", """
+                    package test;
+
+                    @Entity
+                    public class Product {
+                        public long id;
+                        public String name;
+                        public double price;
+                    }
+                    """,
+            "test.Products", """
+                    package test;
+
+                    import jakarta.data.Limit;
+                    import jakarta.data.repository.BatchSize;
+                    import jakarta.data.repository.By;
+                    import jakarta.data.repository.CrudRepository;
+                    import jakarta.data.repository.Find;
+                    import jakarta.data.repository.Insert;
+                    import jakarta.data.repository.OrderBy;
+                    import jakarta.data.repository.Param;
+                    import jakarta.data.repository.Query;
+                    import jakarta.data.repository.Repository;
+                    import jakarta.data.repository.Save;
+                    import java.util.List;
+                    import java.util.Optional;
+                    import java.util.stream.Stream;
+
+                    @Repository
+                    public interface Products extends CrudRepository<Product, Long> {
+                        List<Product> findByPriceLessThanEqualAndNameNotLikeOrderByNameAsc(double max, String pattern,
+                                                                                           Limit limit);
+
+                        List<Product> findFirst3ByNameNotNullOrderByPriceDescIdAsc();
+
+                        long countByNameIgnoreCase(String name);
+
+                        boolean existsByIdBetween(long min, long max);
+
+                        boolean existsByNameIgnoreCaseNotAndPriceNotLessThan(String name, double price);
+
+                        int deleteByPriceGreaterThan(float price);
+
+                        @Find
+                        @OrderBy(value = "price", descending = true)
+                        Optional<Product> named(@By("name") String name);
+
+                        @Query("UPDATE Product SET price = price * :factor WHERE name = :name OR name = ':name'")
+                        int reprice(@Param("name") String productName, double factor);
+
+                        @BatchSize(2)
+                        @Insert
+                        long importAll(Stream<Product> products);
+
+                        @BatchSize(100)
+                        @Save
+                        void store(Iterable<Product> products);
+                    }
+                    """,
+            "test.Catalog", """
+                    package test;
+
+                    import jakarta.data.repository.Repository;
+                    import java.util.List;
+
+                    public class Catalog {
+                        @Repository
+                        public interface Search {
+                            List<Product> search(String text);
+                        }
+                    }
+                    """);
+
+    @TempDir
+    Path output;
+
+    @Test
+    @DisplayName("Should generate repository implementations that invoke prepared queries and lifecycle operations")
+    void shouldGenerateRepository() throws Exception {
+        TestCompiler.compile(output, SOURCES, new RepositoryProcessor());
+
+        Recorder recorder = new Recorder();
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{output.toUri().toURL()}, getClass().getClassLoader())) {
+            Class<?> repositoryClass = loader.loadClass("test.Products");
+            Object repository = RepositoryOperations.implementation(repositoryClass, recorder).orElseThrow();
+            Object product = loader.loadClass("test.Product").getConstructor().newInstance();
+
+            invoke(repository, "findByPriceLessThanEqualAndNameNotLikeOrderByNameAsc", 9.5d, "A%", Limit.of(10));
+            invoke(repository, "countByNameIgnoreCase", "x");
+            invoke(repository, "existsByIdBetween", 1L, 5L);
+            invoke(repository, "existsByNameIgnoreCaseNotAndPriceNotLessThan", "y", 1.0d);
+            invoke(repository, "deleteByPriceGreaterThan", 2.5f);
+            invoke(repository, "reprice", "widget", 1.1d);
+            invoke(repository, "findById", 7L);
+            invoke(repository, "insert", product);
+            invoke(repository, "deleteAll", List.of(product));
+            Object imported = invoke(repository, "importAll", Stream.of(product, product, product));
+            invoke(repository, "store", List.of(product));
+
+            assertSoftly(softly -> {
+                softly.assertThat(recorder.queries).containsExactlyInAnyOrder(
+                        "FROM Product WHERE price <= ?1 AND name NOT LIKE ?2 ORDER BY name ASC",
+                        "FROM Product WHERE name IS NOT NULL ORDER BY price DESC, id ASC",
+                        "SELECT COUNT(THIS) FROM Product WHERE UPPER(name) = UPPER(?1)",
+                        "SELECT COUNT(THIS) FROM Product WHERE id BETWEEN ?1 AND ?2",
+                        "SELECT COUNT(THIS) FROM Product WHERE UPPER(name) <> UPPER(?1) AND price >= ?2",
+                        "DELETE FROM Product WHERE price > ?1",
+                        "FROM Product WHERE name = ?1 ORDER BY price DESC",
+                        "UPDATE Product SET price = price * ?2 WHERE name = ?1 OR name = ':name'",
+                        "FROM Product WHERE id(this) = ?1",
+                        "FROM Product",
+                        "FROM Product",
+                        "DELETE FROM Product WHERE id(this) = ?1");
+                softly.assertThat(recorder.calls).containsExactly(
+                        "bind(1, double 9.5)", "bind(2, Object A%)", "limit(10)", "list",
+                        "bind(1, Object x)", "single",
+                        "bind(1, long 1)", "bind(2, long 5)", "single",
+                        "bind(1, Object y)", "bind(2, double 1.0)", "single",
+                        "bind(1, double 2.5)", "update",
+                        "bind(1, Object widget)", "bind(2, double 1.1)", "update",
+                        "bind(1, Object 7)", "optional",
+                        "insert",
+                        "deleteAll",
+                        "insertAll", "insertAll",
+                        "saveAll");
+                softly.assertThat(imported).isEqualTo(3L);
+            });
+        }
+    }
+
+    @Test
+    @DisplayName("Should not generate implementations of repositories with unsupported methods")
+    void shouldReportUnsupportedMethods() throws Exception {
+        DiagnosticCollector<JavaFileObject> diagnostics = TestCompiler.compile(output, SOURCES, new RepositoryProcessor());
+
+        assertSoftly(softly -> {
+            softly.assertThat(Files.exists(output.resolve("test/Products_.java"))).isTrue();
+            softly.assertThat(Files.exists(output.resolve("test/Catalog_Search_.java"))).isFalse();
+            softly.assertThat(diagnostics.getDiagnostics())
+                    .filteredOn(d -> d.getKind() == Diagnostic.Kind.NOTE)
+                    .extracting(d -> d.getMessage(null))
+                    .containsExactly("Not generating test.Catalog_Search_: method is not supported");
+        });
+    }
+
+    @Test
+    @DisplayName("Should not generate implementations of methods with conditions that are not translated")
+    void shouldReportUnsupportedConditions() throws Exception {
+        Map<String, String> sources = new HashMap<>(SOURCES);
+        sources.put("test.Conditions", """
+                package test;
+
+                import jakarta.data.repository.DataRepository;
+                import jakarta.data.repository.Repository;
+                import java.util.List;
+                import java.util.Set;
+
+                public class Conditions {
+                    @Repository
+                    public interface In extends DataRepository<Product, Long> {
+                        List<Product> findByIdIn(Set<Long> ids);
+                    }
+
+                    @Repository
+                    public interface NotIn extends DataRepository<Product, Long> {
+                        List<Product> findByIdNotIn(Set<Long> ids);
+                    }
+
+                    @Repository
+                    public interface Contains extends DataRepository<Product, Long> {
+                        List<Product> findByNameContains(String text);
+                    }
+
+                    @Repository
+                    public interface StartsWith extends DataRepository<Product, Long> {
+                        List<Product> findByNameStartsWith(String prefix);
+                    }
+
+                    @Repository
+                    public interface EndsWith extends DataRepository<Product, Long> {
+                        List<Product> findByNameEndsWith(String suffix);
+                    }
+
+                    @Repository
+                    public interface Empty extends DataRepository<Product, Long> {
+                        List<Product> findByNameEmpty();
+                    }
+
+                    @Repository
+                    public interface OutOfOrder extends DataRepository<Product, Long> {
+                        List<Product> findByNameLikeIgnoreCase(String pattern);
+                    }
+                }
+                """);
+
+        DiagnosticCollector<JavaFileObject> diagnostics = TestCompiler.compile(output, sources, new RepositoryProcessor());
+
+        assertSoftly(softly -> {
+            try (Stream<Path> files = Files.list(output.resolve("test"))) {
+                softly.assertThat(files.map(f -> f.getFileName().toString()))
+                        .filteredOn(f -> f.startsWith("Conditions_"))
+                        .noneMatch(f -> f.endsWith("_.java"));
+            } catch (IOException x) {
+                throw new UncheckedIOException(x);
+            }
+            softly.assertThat(diagnostics.getDiagnostics())
+                    .filteredOn(d -> d.getKind() == Diagnostic.Kind.NOTE)
+                    .extracting(d -> d.getMessage(null))
+                    .contains("Not generating test.Conditions_In_: In conditions are not supported",
+                            "Not generating test.Conditions_NotIn_: In conditions are not supported",
+                            "Not generating test.Conditions_Contains_: Contains conditions are not supported",
+                            "Not generating test.Conditions_StartsWith_: StartsWith conditions are not supported",
+                            "Not generating test.Conditions_EndsWith_: EndsWith conditions are not supported",
+                            "Not generating test.Conditions_Empty_: Empty conditions are not supported",
+                            "Not generating test.Conditions_OutOfOrder_: keywords of condition NameLikeIgnoreCase are out of order");
+        });
+    }
+
+    @Test
+    @DisplayName("Should not generate a repository with a Find method that takes a collection of values")
+    void shouldReportMultiValuedFindParameters() throws Exception {
+        Map<String, String> sources = new HashMap<>(SOURCES);
+        sources.put("test.AddressRecord", """
+                package test;
+
+                import java.util.UUID;
+
+                @Entity
+                public record AddressRecord(UUID id, int house, String street, String city, String state, long zipCode) {
+                }
+                """);
+        sources.put("test.AddressBook", """
+                package test;
+
+                import jakarta.data.repository.By;
+                import jakarta.data.repository.DataRepository;
+                import jakarta.data.repository.Delete;
+                import jakarta.data.repository.Find;
+                import jakarta.data.repository.Repository;
+                import java.util.List;
+                import java.util.UUID;
+
+                import static jakarta.data.repository.By.ID;
+
+                @Repository
+                public interface AddressBook extends DataRepository<AddressRecord, UUID> {
+                    @Find
+                    List<AddressRecord> findById(List<UUID> ids);
+
+                    @Delete
+                    void deleteById(@By(ID) UUID id);
+                }
+                """);
+
+        DiagnosticCollector<JavaFileObject> diagnostics = TestCompiler.compile(output, sources, new RepositoryProcessor());
+
+        assertSoftly(softly -> {
+            softly.assertThat(output.resolve("test/AddressBook_.java")).doesNotExist();
+            softly.assertThat(diagnostics.getDiagnostics())
+                    .filteredOn(d -> d.getKind() == Diagnostic.Kind.NOTE)
+                    .extracting(d -> d.getMessage(null))
+                    .contains("Not generating test.AddressBook_: "
+                            + "parameters that are arrays or collections of values are not supported");
+        });
+    }
+
+    @Test
+    @DisplayName("Should report a batch size of less than 1 as an error")
+    void shouldRejectInvalidBatchSize() throws Exception {
+        Map<String, String> sources = new HashMap<>(SOURCES);
+        sources.put("test.Imports", """
+                package test;
+
+                import jakarta.data.repository.BatchSize;
+                import jakarta.data.repository.DataRepository;
+                import jakarta.data.repository.Insert;
+                import jakarta.data.repository.Repository;
+                import java.util.stream.Stream;
+
+                @Repository
+                public interface Imports extends DataRepository<Product, Long> {
+                    @BatchSize(0)
+                    @Insert
+                    long importAll(Stream<Product> products);
+                }
+                """);
+
+        DiagnosticCollector<JavaFileObject> diagnostics = TestCompiler.compileWithErrors(output, sources,
+                new RepositoryProcessor());
+
+        assertSoftly(softly -> {
+            softly.assertThat(output.resolve("test/Imports_.java")).doesNotExist();
+            softly.assertThat(diagnostics.getDiagnostics())
+                    .filteredOn(d -> d.getKind() == Diagnostic.Kind.ERROR)
+                    .extracting(d -> d.getMessage(null))
+                    .containsExactly("BatchSize must be at least 1: 0");
+        });
+    }
+
+    private static Object invoke(Object repository, String name, Object... args) throws ReflectiveOperationException {
+        for (Method method : repository.getClass().getMethods()) {
+            if (method.getName().equals(name) && method.getParameterCount() == args.length && !method.isBridge()) {
+                return method.invoke(repository, args);
+            }
+        }
+        throw new NoSuchMethodException(name);
+    }
+
+    /**
+     * Records the queries that are prepared and the operations that are invoked.
+     */
+    private static final class Recorder implements RepositoryOperations {
+        private final List<String> queries = new ArrayList<>();
+        private final List<String> calls = new ArrayList<>();
+
+        @Override
+        public <R> PreparedQuery<R> prepare(String query, Class<?> entityClass, Class<R> resultClass) {
+            queries.add(query);
+            return new PreparedQuery<>() {
+                @Override
+                public String query() {
+                    return query;
+                }
+
+                @Override
+                public Execution<R> execute() {
+                    return new RecordingExecution<>(resultClass);
+                }
+            };
+        }
+
+        @Override
+        public <T> T insert(T entity) {
+            calls.add("insert");
+            return entity;
+        }
+
+        @Override
+        public <T> List<T> insertAll(List<T> entities) {
+            calls.add("insertAll");
+            return entities;
+        }
+
+        @Override
+        public <T> T update(T entity) {
+            calls.add("update");
+            return entity;
+        }
+
+        @Override
+        public <T> List<T> updateAll(List<T> entities) {
+            calls.add("updateAll");
+            return entities;
+        }
+
+        @Override
+        public <T> T save(T entity) {
+            calls.add("save");
+            return entity;
+        }
+
+        @Override
+        public <T> List<T> saveAll(List<T> entities) {
+            calls.add("saveAll");
+            return entities;
+        }
+
+        @Override
+        public void delete(Object entity) {
+            calls.add("delete");
+        }
+
+        @Override
+        public void deleteAll(List<?> entities) {
+            calls.add("deleteAll");
+        }
+
+        private final class RecordingExecution<R> implements PreparedQuery.Execution<R> {
+            private final Class<R> resultClass;
+
+            RecordingExecution(Class<R> resultClass) {
+                this.resultClass = resultClass;
+            }
+
+            private PreparedQuery.Execution<R> record(String call) {
+                calls.add(call);
+                return this;
+            }
+
+            @Override
+            public PreparedQuery.Execution<R> bind(int position, boolean value) {
+                return record("bind(" + position + ", boolean " + value + ')');
+            }
+
+            @Override
+            public PreparedQuery.Execution<R> bind(int position, int value) {
+                return record("bind(" + position + ", int " + value + ')');
+            }
+
+            @Override
+            public PreparedQuery.Execution<R> bind(int position, long value) {
+                return record("bind(" + position + ", long " + value + ')');
+            }
+
+            @Override
+            public PreparedQuery.Execution<R> bind(int position, double value) {
+                return record("bind(" + position + ", double " + value + ')');
+            }
+
+            @Override
+            public PreparedQuery.Execution<R> bind(int position, Object value) {
+                return record("bind(" + position + ", Object " + value + ')');
+            }
+
+            @Override
+            public PreparedQuery.Execution<R> sort(Sort<?> sort) {
+                return record("sort(" + sort.property() + ')');
+            }
+
+            @Override
+            public PreparedQuery.Execution<R> limit(Limit limit) {
+                return record("limit(" + limit.maxResults() + ')');
+            }
+
+            @Override
+            public List<R> list() {
+                record("list");
+                return List.of();
+            }
+
+            @Override
+            public Stream<R> stream() {
+                record("stream");
+                return Stream.empty();
+            }
+
+            @Override
+            public Optional<R> optional() {
+                record("optional");
+                return Optional.empty();
+            }
+
+            @Override
+            public R single() {
+                record("single");
+                return resultClass.cast(resultClass == Long.class ? 3L : null);
+            }
+
+            @Override
+            public Page<R> page(PageRequest pageRequest) {
+                record("page");
+                return null;
+            }
+
+            @Override
+            public long update() {
+                record("update");
+                return 1L;
+            }
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package ee.jakarta.data.processor;
+
+import jakarta.data.metamodel.StaticMetamodel;
+
+import javax.annotation.processing.Processor;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compiles sources in memory with annotation processors, against the Jakarta Data API.
+ */
+final class TestCompiler {
+
+    private TestCompiler() {
+    }
+
+    /**
+     * Compiles sources, writing class files, generated sources and resources to a directory,
+     * and asserts that the compilation succeeds. Classes of earlier compilations to the
+     * directory are on the class path.
+     *
+     * @param output     the output directory.
+     * @param sources    source code by fully qualified class name.
+     * @param processors the annotation processors.
+     * @return the diagnostics of the compilation.
+     */
+    static DiagnosticCollector<JavaFileObject> compile(Path output, Map<String, String> sources, Processor... processors)
+            throws URISyntaxException, IOException {
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        assertThat(call(output, sources, diagnostics, processors)).as(diagnostics.getDiagnostics().toString()).isTrue();
+        return diagnostics;
+    }
+
+    /**
+     * Compiles sources like {@link #compile(Path, Map, Processor...)}, but asserts that the compilation fails.
+     *
+     * @param output     the output directory.
+     * @param sources    source code by fully qualified class name.
+     * @param processors the annotation processors.
+     * @return the diagnostics of the compilation.
+     */
+    static DiagnosticCollector<JavaFileObject> compileWithErrors(Path output, Map<String, String> sources,
+                                                                 Processor... processors)
+            throws URISyntaxException, IOException {
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        assertThat(call(output, sources, diagnostics, processors)).as(diagnostics.getDiagnostics().toString()).isFalse();
+        return diagnostics;
+    }
+
+    private static boolean call(Path output, Map<String, String> sources, DiagnosticCollector<JavaFileObject> diagnostics,
+                                Processor... processors) throws URISyntaxException, IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager files = compiler.getStandardFileManager(diagnostics, null, null)) {
+            List<JavaFileObject> units = sources.entrySet().stream()
+                    .<JavaFileObject>map(e -> new Source(e.getKey(), e.getValue()))
+                    .toList();
+            String classpath = Path.of(StaticMetamodel.class.getProtectionDomain().getCodeSource().getLocation().toURI())
+                    + File.pathSeparator + output;
+            Files.createDirectories(output);
+            JavaCompiler.CompilationTask task = compiler.getTask(null, files, diagnostics,
+                    List.of("-classpath", classpath, "-d", output.toString(), "-s", output.toString()),
+                    null, units);
+            task.setProcessors(List.of(processors));
+            return task.call();
+        }
+    }
+
+    private static final class Source extends SimpleJavaFileObject {
+        private final String code;
+
+        Source(String name, String code) {
+            super(URI.create("string:///" + name.replace('.', '/') + Kind.SOURCE.extension), Kind.SOURCE);
+            this.code = code;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return code;
+        }
+    }
+}
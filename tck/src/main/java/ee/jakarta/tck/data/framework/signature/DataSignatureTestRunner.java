@@ -79,6 +79,7 @@ public class DataSignatureTestRunner extends SigTestEE {
                   "jakarta.data.page",
                   "jakarta.data.page.impl",
                   "jakarta.data.repository",
+                  "jakarta.data.restrict",
                   "jakarta.data.spi"
                 };
     }